@@ -0,0 +1,104 @@
+package devnastapi.devnestapi.common.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache for entities, held in process by Caffeine through JCache.
+ * <p>
+ * Entities annotated with {@code @Cache} are kept in their own region after the first load, so
+ * {@code findById} and lazy references are answered without a round-trip until the entity is
+ * updated, deleted or evicted. Each region is bounded by {@code maximum-size} and expires entries
+ * {@code ttl} after they were written; once full, Caffeine's W-TinyLFU policy admits a new entry only
+ * if it is likely to be read more often than the one it would evict, so a scan such as a bulk import
+ * cannot flush the hot entries.
+ * <p>
+ * Regions use the {@code READ_WRITE} strategy: Hibernate locks an entry while a transaction changes it
+ * and replaces it after commit, so a node never serves a value older than its own committed writes.
+ * Bulk JPQL statements invalidate the whole region of their entity; statements that bypass Hibernate
+ * must evict what they change.
+ * <p>
+ * The cache is local to each node and nothing invalidates it across nodes: another node may serve an
+ * entry up to {@code ttl} old. Only {@link devnastapi.devnestapi.course.model.Course} is cached, since a
+ * stale course name or workload is harmless for that long. Students and teachers are not: their rows hold
+ * the password hash, email and roles that logins and authorization read, and a change made on one node
+ * must take effect on every node at once.
+ * <p>
+ * Regions are created here and Hibernate is set to fail on any other region, so an entity can only
+ * be cached with explicit settings. Per region, {@code cache.gets} (tagged {@code result=hit|miss}),
+ * {@code cache.puts}, {@code cache.removals} and {@code cache.evictions} are published with the region
+ * name as the {@code cache} tag.
+ * <p>
+ * Setting {@code devnest.cache.entities.enabled} to {@code false} turns the second-level cache off;
+ * the {@code @Cache} annotations are then ignored.
+ */
+@Configuration
+public class EntityCacheConfiguration {
+
+    /**
+     * Region of {@link devnastapi.devnestapi.course.model.Course}.
+     */
+    public static final String COURSE_REGION = "course";
+
+    /**
+     * Settings of one cache region.
+     *
+     * @param name        the region name, as given to {@code @Cache}
+     * @param maximumSize the maximum number of cached entities
+     * @param ttl         how long an entity stays cached after it was written
+     */
+    private record Region(String name, long maximumSize, Duration ttl) {
+    }
+
+    @Bean(destroyMethod = "close")
+    CacheManager entityCacheManager(
+            MeterRegistry registry,
+            @Value("${devnest.cache.entities.course.maximum-size:1000}") long courseMaximumSize,
+            @Value("${devnest.cache.entities.course.ttl:1h}") Duration courseTtl) {
+        List<Region> regions = List.of(
+                new Region(COURSE_REGION, courseMaximumSize, courseTtl));
+
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        for (Region region : regions) {
+            if (cacheManager.getCache(region.name()) != null) {
+                cacheManager.destroyCache(region.name());
+            }
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.ttl().toNanos()));
+            // Hibernate caches disassembled state and never mutates it, so copying on each access is wasted work
+            configuration.setStoreByValue(false);
+            configuration.setStatisticsEnabled(true);
+
+            JCacheMetrics.monitor(registry, cacheManager.createCache(region.name(), configuration));
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer entityCacheProperties(
+            @Value("${devnest.cache.entities.enabled:true}") boolean enabled,
+            CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", enabled);
+            properties.put("hibernate.cache.use_query_cache", false);
+            if (enabled) {
+                properties.put("hibernate.cache.region.factory_class", "jcache");
+                properties.put("hibernate.javax.cache.cache_manager", entityCacheManager);
+                properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+            }
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package devnastapi.devnestapi.common.directory;
+
+/**
+ * Kind of account a login email belongs to.
+ */
+public enum AccountType {
+    STUDENT,
+    TEACHER
+}
@@ -0,0 +1,15 @@
+package devnastapi.devnestapi.common.directory;
+
+import java.util.UUID;
+
+/**
+ * Everything needed to authenticate an account, resolved in a single query.
+ *
+ * @param type         whether the account is a student or a teacher
+ * @param id           the id of the account in its own table
+ * @param email        the login email
+ * @param passwordHash the stored password hash
+ * @param roles        the comma-separated roles of the account
+ */
+public record DirectoryAccount(AccountType type, UUID id, String email, String passwordHash, String roles) {
+}
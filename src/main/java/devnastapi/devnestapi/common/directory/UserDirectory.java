@@ -0,0 +1,118 @@
+package devnastapi.devnestapi.common.directory;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Read model over every account that can log in, students and teachers alike.
+ * <p>
+ * Students and teachers live in separate tables, and looking them up one after the other costs
+ * up to two round-trips per login. Here both indexed lookups are combined with {@code UNION ALL},
+ * so resolving an email to its account type, hash and roles always takes exactly one query.
+ * Both branches match the email case-insensitively, each backed by a {@code lower(mail)} index.
+ * When a student and a teacher share an email, the student account always wins.
+ */
+@Repository
+public class UserDirectory {
+
+    private static final String FIND_BY_EMAIL = """
+            select 0 as precedence, 'STUDENT' as account_type, id, mail, password, roles
+            from public.student where lower(mail) = lower(:email)
+            union all
+            select 1 as precedence, 'TEACHER' as account_type, id, mail, password, 'TEACHER' as roles
+            from public.teacher where lower(mail) = lower(:email)
+            order by precedence
+            limit 1
+            """;
+
+    private static final String ALL_EMAILS = """
+            select mail from public.student
+            union all
+            select mail from public.teacher
+            """;
+
+    private static final String COUNT_ACCOUNTS = """
+            select (select count(*) from public.student) + (select count(*) from public.teacher)
+            """;
+
+    private static final RowMapper<DirectoryAccount> ACCOUNT_MAPPER = (rs, rowNum) -> new DirectoryAccount(
+            AccountType.valueOf(rs.getString("account_type")),
+            rs.getObject("id", UUID.class),
+            rs.getString("mail"),
+            rs.getString("password"),
+            rs.getString("roles"));
+
+    private final JdbcClient jdbcClient;
+    private final JdbcClient streamingClient;
+
+    public UserDirectory(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcClient = JdbcClient.create(jdbcTemplate);
+
+        JdbcTemplate streamingTemplate = new JdbcTemplate(dataSource);
+        streamingTemplate.setFetchSize(1000);
+        this.streamingClient = JdbcClient.create(streamingTemplate);
+    }
+
+    /**
+     * Resolves a login email to its account in one round-trip.
+     *
+     * @param email the login email
+     * @return the account, or empty if no student or teacher uses this email
+     */
+    public Optional<DirectoryAccount> findByEmail(String email) {
+        return jdbcClient.sql(FIND_BY_EMAIL)
+                .param("email", email)
+                .query(ACCOUNT_MAPPER)
+                .optional();
+    }
+
+    /**
+     * Counts every student and teacher account.
+     *
+     * @return the number of accounts
+     */
+    public long countAccounts() {
+        return jdbcClient.sql(COUNT_ACCOUNTS)
+                .query(Long.class)
+                .single();
+    }
+
+    /**
+     * Streams the email of every account from a server-side cursor.
+     * <p>
+     * Must be called inside a transaction so the driver can fetch in chunks, and the stream must be closed.
+     *
+     * @return a stream over all registered emails
+     */
+    public Stream<String> streamAllEmails() {
+        return streamingClient.sql(ALL_EMAILS)
+                .query(String.class)
+                .stream();
+    }
+
+    /**
+     * Replaces an account's password hash, but only if it still holds the expected value.
+     * <p>
+     * Used for the transparent rehash on login; the condition makes the update a no-op when the
+     * password was changed in the meantime.
+     *
+     * @param account      the account as it was resolved during login
+     * @param newHash      the hash produced with the current work factor
+     * @return the number of rows updated, {@code 0} or {@code 1}
+     */
+    public int updatePasswordIfUnchanged(DirectoryAccount account, String newHash) {
+        String table = account.type() == AccountType.STUDENT ? "public.student" : "public.teacher";
+        return jdbcClient.sql("update " + table + " set password = :newHash where id = :id and password = :expectedHash")
+                .param("newHash", newHash)
+                .param("id", account.id())
+                .param("expectedHash", account.passwordHash())
+                .update();
+    }
+}
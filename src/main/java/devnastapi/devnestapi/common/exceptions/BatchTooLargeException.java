@@ -0,0 +1,7 @@
+package devnastapi.devnestapi.common.exceptions;
+
+public class BatchTooLargeException extends RuntimeException {
+    public BatchTooLargeException(String message) {
+        super(message);
+    }
+}
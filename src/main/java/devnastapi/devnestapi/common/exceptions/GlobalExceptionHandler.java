@@ -4,6 +4,10 @@ import devnastapi.devnestapi.common.errordefault.ErrorField;
 import devnastapi.devnestapi.common.errordefault.ErrorDefault;
 import devnastapi.devnestapi.common.exceptions.usergenericexceptions.DuplicateUserException;
 import devnastapi.devnestapi.common.exceptions.usergenericexceptions.NotFoundUserException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -24,12 +28,27 @@ import java.util.stream.Collectors;
  * <ul>
  *     <li>MethodArgumentNotValidException - for validation errors</li>
  *     <li>DuplicateUserException - when trying to create a user that already exists</li>
+ *     <li>DataIntegrityViolationException - translated to DuplicateUserException when the
+ *         unique student email index rejects an insert</li>
  *     <li>NotFoundUserException - when a requested user is not found</li>
+ *     <li>HashingCapacityExceededException - when the password hashing pool is saturated</li>
+ *     <li>LoginThrottledException - when too many logins failed recently</li>
+ *     <li>InvalidCursorException - when a pagination cursor is malformed</li>
+ *     <li>BatchTooLargeException - when a batch request holds too many items</li>
+ *     <li>ImportCapacityExceededException - when every import slot is taken</li>
+ *     <li>ImportJobNotFoundException - when an unknown or expired import job is requested</li>
+ *     <li>PreconditionFailedException - when an {@code If-Match} header names an outdated version</li>
+ *     <li>OptimisticLockingFailureException - when a concurrent update committed first</li>
  * </ul>
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * Unique index on {@code lower(mail)} of the student table, created by {@code schema.sql}.
+     */
+    private static final String STUDENT_EMAIL_CONSTRAINT = "ux_student_mail_lower";
+
     /**
      * Handles validation errors thrown by Spring when request body fails validation.
      *
@@ -76,6 +95,30 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT.value()).body(errorDefault);
     }
 
+    /**
+     * Handles DataIntegrityViolationException raised when an insert or update breaks a database constraint.
+     *
+     * <p>Enrollment does not look for an existing email beforehand; a duplicate is rejected by the
+     * unique student email index and answered here exactly like a {@link DuplicateUserException}.
+     * Violations of any other constraint are not handled.</p>
+     *
+     * @param e the DataIntegrityViolationException translated from the database error
+     * @return ResponseEntity containing ErrorDefault with HTTP status 409 (Conflict)
+     * @throws DataIntegrityViolationException if another constraint was violated
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorDefault> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        Throwable cause = e;
+        while (cause != null) {
+            if (cause instanceof ConstraintViolationException violation
+                    && STUDENT_EMAIL_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName())) {
+                return handleDuplicateUserException(new DuplicateUserException("This user already exists"));
+            }
+            cause = cause.getCause();
+        }
+        throw e;
+    }
+
     /**
      * Handles NotFoundUserException when a requested user is not found in the system.
      *
@@ -92,6 +135,141 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorDefault);
     }
 
+    /**
+     * Handles HashingCapacityExceededException when the password hashing pool cannot accept more work.
+     *
+     * @param e the HashingCapacityExceededException thrown by the hashing pool
+     * @return ResponseEntity containing ErrorDefault with HTTP status 503 (Service Unavailable)
+     *         and a Retry-After header
+     */
+    @ExceptionHandler(HashingCapacityExceededException.class)
+    public ResponseEntity<ErrorDefault> handleHashingCapacityExceededException(HashingCapacityExceededException e) {
+        ErrorDefault errorDefault = new ErrorDefault(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                e.getMessage(),
+                null
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorDefault);
+    }
+
+    /**
+     * Handles LoginThrottledException when a token request is rejected by the login throttle.
+     *
+     * @param e the LoginThrottledException thrown by the authentication provider
+     * @return ResponseEntity containing ErrorDefault with HTTP status 429 (Too Many Requests)
+     *         and a Retry-After header
+     */
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<ErrorDefault> handleLoginThrottledException(LoginThrottledException e) {
+        ErrorDefault errorDefault = new ErrorDefault(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                e.getMessage(),
+                null
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+                .body(errorDefault);
+    }
+
+    /**
+     * Handles InvalidCursorException when a client sends a pagination cursor that was not issued by the API.
+     *
+     * @param e the InvalidCursorException thrown while decoding the cursor
+     * @return ResponseEntity containing ErrorDefault with HTTP status 400 (Bad Request)
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorDefault> handleInvalidCursorException(InvalidCursorException e) {
+        ErrorDefault errorDefault = new ErrorDefault(
+                HttpStatus.BAD_REQUEST.value(),
+                e.getMessage(),
+                null
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorDefault);
+    }
 
+    /**
+     * Handles BatchTooLargeException when a batch request holds more items than allowed.
+     *
+     * @param e the BatchTooLargeException thrown before any item is processed
+     * @return ResponseEntity containing ErrorDefault with HTTP status 413 (Content Too Large)
+     */
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ResponseEntity<ErrorDefault> handleBatchTooLargeException(BatchTooLargeException e) {
+        ErrorDefault errorDefault = new ErrorDefault(
+                HttpStatus.CONTENT_TOO_LARGE.value(),
+                e.getMessage(),
+                null
+        );
+        return ResponseEntity.status(HttpStatus.CONTENT_TOO_LARGE).body(errorDefault);
+    }
+
+    /**
+     * Handles ImportCapacityExceededException when every import slot is taken.
+     *
+     * @param e the ImportCapacityExceededException thrown when the import queue is full
+     * @return ResponseEntity containing ErrorDefault with HTTP status 503 (Service Unavailable)
+     *         and a Retry-After header
+     */
+    @ExceptionHandler(ImportCapacityExceededException.class)
+    public ResponseEntity<ErrorDefault> handleImportCapacityExceededException(ImportCapacityExceededException e) {
+        ErrorDefault errorDefault = new ErrorDefault(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                e.getMessage(),
+                null
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "60")
+                .body(errorDefault);
+    }
+
+    /**
+     * Handles ImportJobNotFoundException when an unknown or expired import job is requested.
+     *
+     * @param e the ImportJobNotFoundException thrown by the import service
+     * @return ResponseEntity containing ErrorDefault with HTTP status 404 (Not Found)
+     */
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ErrorDefault> handleImportJobNotFoundException(ImportJobNotFoundException e) {
+        ErrorDefault errorDefault = new ErrorDefault(
+                HttpStatus.NOT_FOUND.value(),
+                e.getMessage(),
+                null
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorDefault);
+    }
+
+    /**
+     * Handles PreconditionFailedException when an {@code If-Match} header names an outdated version.
+     *
+     * @param e the PreconditionFailedException thrown before anything is changed
+     * @return ResponseEntity containing ErrorDefault with HTTP status 412 (Precondition Failed)
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorDefault> handlePreconditionFailedException(PreconditionFailedException e) {
+        ErrorDefault errorDefault = new ErrorDefault(
+                HttpStatus.PRECONDITION_FAILED.value(),
+                e.getMessage(),
+                null
+        );
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorDefault);
+    }
+
+    /**
+     * Handles OptimisticLockingFailureException when a concurrent update committed first.
+     *
+     * @param e the OptimisticLockingFailureException raised by the versioned update
+     * @return ResponseEntity containing ErrorDefault with HTTP status 409 (Conflict)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorDefault> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        ErrorDefault errorDefault = new ErrorDefault(
+                HttpStatus.CONFLICT.value(),
+                "The resource was modified concurrently, reload it and retry",
+                null
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorDefault);
+    }
 
 }
@@ -0,0 +1,7 @@
+package devnastapi.devnestapi.common.exceptions;
+
+public class HashingCapacityExceededException extends RuntimeException {
+    public HashingCapacityExceededException(String message) {
+        super(message);
+    }
+}
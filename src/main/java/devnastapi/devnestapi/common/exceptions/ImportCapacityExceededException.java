@@ -0,0 +1,7 @@
+package devnastapi.devnestapi.common.exceptions;
+
+public class ImportCapacityExceededException extends RuntimeException {
+    public ImportCapacityExceededException(String message) {
+        super(message);
+    }
+}
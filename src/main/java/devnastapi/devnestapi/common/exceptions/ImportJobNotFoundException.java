@@ -0,0 +1,7 @@
+package devnastapi.devnestapi.common.exceptions;
+
+public class ImportJobNotFoundException extends RuntimeException {
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package devnastapi.devnestapi.common.exceptions;
+
+import org.springframework.security.core.AuthenticationException;
+
+import java.time.Duration;
+
+public class LoginThrottledException extends AuthenticationException {
+
+    private final Duration retryAfter;
+
+    public LoginThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,7 @@
+package devnastapi.devnestapi.common.exceptions;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,140 @@
+package devnastapi.devnestapi.common.helpers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental RFC 4180 CSV reader.
+ * <p>
+ * Reads one record at a time from the underlying reader, so only the current record is ever held in memory,
+ * whatever the size of the input. Quoted fields may contain commas, doubled quotes and line breaks; records end
+ * with {@code \n} or {@code \r\n}. A record longer than the configured maximum is rejected instead of being
+ * buffered, which bounds memory even for malformed input such as an unterminated quote.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final int maxRecordLength;
+
+    private final StringBuilder field = new StringBuilder();
+    private int pushedBack = Integer.MIN_VALUE;
+    private long line = 1;
+    private long recordLine;
+
+    /**
+     * Constructs a new {@code CsvReader}.
+     *
+     * @param reader          the characters to parse, ideally buffered
+     * @param maxRecordLength the maximum number of characters of one record
+     */
+    public CsvReader(Reader reader, int maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the fields of the record, or {@code null} at the end of the input
+     * @throws IOException               if reading fails
+     * @throws IllegalArgumentException  if the record is malformed or too long
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            // Blank lines carry no record
+            c = read();
+        }
+        if (c == EOF) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        int length = 0;
+        field.setLength(0);
+        boolean quoted = false;
+        boolean fieldStart = true;
+
+        while (true) {
+            if (++length > maxRecordLength) {
+                throw new IllegalArgumentException("Record starting on line " + recordLine
+                        + " is longer than " + maxRecordLength + " characters");
+            }
+            if (quoted) {
+                if (c == EOF) {
+                    throw new IllegalArgumentException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(following);
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+                c = read();
+                continue;
+            } else if (c == '\n' || c == '\r' || c == EOF) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            fieldStart = false;
+            c = read();
+        }
+    }
+
+    /**
+     * Returns the line on which the record last returned by {@link #next()} started.
+     *
+     * @return the one-based line number
+     */
+    public long recordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushedBack != Integer.MIN_VALUE) {
+            c = pushedBack;
+            pushedBack = Integer.MIN_VALUE;
+            return c;
+        }
+        c = reader.read();
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+}
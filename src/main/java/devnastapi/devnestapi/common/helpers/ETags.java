@@ -0,0 +1,105 @@
+package devnastapi.devnestapi.common.helpers;
+
+import devnastapi.devnestapi.common.exceptions.PreconditionFailedException;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Entity tags derived from optimistic locking versions.
+ * <p>
+ * The tag of a resource is its {@code @Version} in quotes, for example {@code "3"}. It changes with every update,
+ * so clients can send it back in {@code If-Match} to make sure they modify the state they have seen, or in
+ * {@code If-None-Match} to skip downloading a state they already have.
+ * <p>
+ * A resource served in more than one representation tags all but its main one with a representation name as
+ * well, for example {@code "3-refactored"}, since a strong tag must identify the exact bytes of the body. The
+ * version part of such a tag is still accepted in {@code If-Match}.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Returns the entity tag of a version.
+     *
+     * @param version the optimistic locking version
+     * @return the quoted tag
+     */
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Returns the entity tag of a version in a secondary representation of a resource.
+     *
+     * @param version        the optimistic locking version
+     * @param representation the name of the representation, without quotes or dashes
+     * @return the quoted tag
+     */
+    public static String of(long version, String representation) {
+        return "\"" + version + "-" + representation + "\"";
+    }
+
+    /**
+     * Evaluates {@code If-None-Match} and {@code If-Modified-Since} against the current validators of a resource.
+     * <p>
+     * Sets the {@code ETag} and {@code Last-Modified} headers of the response either way. When the client's copy is
+     * current the response status becomes 304 and the caller must return without a body.
+     *
+     * @param request the current request
+     * @param current the current validators of the requested resource
+     * @return {@code true} if the client's copy is current
+     */
+    public static boolean notModified(WebRequest request, ResourceVersion current) {
+        return checkNotModified(request, current, of(current.version()));
+    }
+
+    /**
+     * Evaluates {@code If-None-Match} and {@code If-Modified-Since} against the current validators of a secondary
+     * representation of a resource, tagged by {@link #of(long, String)}.
+     *
+     * @param request        the current request
+     * @param current        the current validators of the requested resource
+     * @param representation the name of the representation
+     * @return {@code true} if the client's copy is current
+     */
+    public static boolean notModified(WebRequest request, ResourceVersion current, String representation) {
+        return checkNotModified(request, current, of(current.version(), representation));
+    }
+
+    private static boolean checkNotModified(WebRequest request, ResourceVersion current, String tag) {
+        return current.lastModified() == null
+                ? request.checkNotModified(tag)
+                : request.checkNotModified(tag, current.lastModified().toEpochMilli());
+    }
+
+    /**
+     * Reads the version a client expects from an {@code If-Match} header.
+     *
+     * @param ifMatch the header value, may be {@code null}
+     * @return the expected version, or {@code null} if the header is absent or {@code *}
+     * @throws PreconditionFailedException if the header does not hold a tag issued by {@link #of(long)} or
+     *                                     {@link #of(long, String)}
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.strip();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        int representation = tag.indexOf('-');
+        if (representation > 0) {
+            tag = tag.substring(0, representation);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not match the current version of the resource");
+        }
+    }
+}
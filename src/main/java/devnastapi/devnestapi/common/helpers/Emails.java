@@ -0,0 +1,25 @@
+package devnastapi.devnestapi.common.helpers;
+
+import java.util.Locale;
+
+/**
+ * Canonical form of email addresses.
+ * <p>
+ * Emails are stored, compared and indexed in lower case, matching the {@code lower(mail)} unique index on
+ * the student table.
+ */
+public final class Emails {
+
+    private Emails() {
+    }
+
+    /**
+     * Returns the canonical form of an email: trimmed and lower-cased.
+     *
+     * @param email the email as entered, may be {@code null}
+     * @return the canonical email, or {@code null} if {@code email} is {@code null}
+     */
+    public static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
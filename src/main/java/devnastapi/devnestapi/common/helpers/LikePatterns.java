@@ -0,0 +1,23 @@
+package devnastapi.devnestapi.common.helpers;
+
+/**
+ * Escaping of user input for {@code LIKE} patterns.
+ * <p>
+ * Queries that match user input with {@code LIKE} declare {@code escape '\'}, so the escaped text matches only
+ * itself: a {@code %} or {@code _} typed by the user is not a wildcard.
+ */
+public final class LikePatterns {
+
+    private LikePatterns() {
+    }
+
+    /**
+     * Escapes the {@code LIKE} wildcards and the escape character itself with a backslash.
+     *
+     * @param text the text to match literally
+     * @return the text, safe to embed in a pattern with {@code escape '\'}
+     */
+    public static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,12 @@
+package devnastapi.devnestapi.common.helpers;
+
+import java.time.Instant;
+
+/**
+ * Validators of a resource, read without loading the resource itself.
+ *
+ * @param version      the optimistic locking version, the source of the entity tag
+ * @param lastModified the instant of the last modification, or {@code null} if it was never recorded
+ */
+public record ResourceVersion(Long version, Instant lastModified) {
+}
@@ -0,0 +1,23 @@
+package devnastapi.devnestapi.common.idgenerator;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an identifier as generated by the application as a time-ordered UUIDv7.
+ * <p>
+ * Random v4 keys land anywhere in the primary key B-tree, which splits pages and keeps the whole index hot as
+ * a table grows. Version 7 keys start with a millisecond timestamp, so new rows are appended to the right-most
+ * leaf like a sequence would be. The value is assigned before the insert, so Hibernate can batch inserts.
+ *
+ * @see UuidV7Generator
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7 {
+}
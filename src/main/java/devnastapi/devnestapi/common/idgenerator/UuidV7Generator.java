@@ -0,0 +1,70 @@
+package devnastapi.devnestapi.common.idgenerator;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hibernate generator for {@link UuidV7} identifiers.
+ * <p>
+ * Layout follows RFC 9562: 48 bits of Unix epoch milliseconds, the version, a 12-bit counter in {@code rand_a},
+ * the variant and 62 random bits. The timestamp and the counter are advanced together with a single CAS on a
+ * process-wide state, so identifiers generated by this JVM are strictly increasing even within one millisecond,
+ * across threads, and if the wall clock steps backwards. When the counter overflows it carries into the
+ * timestamp, which runs slightly ahead until the clock catches up.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_9562 = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    /**
+     * Last issued timestamp and counter, as {@code millis << 12 | counter}.
+     */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    /**
+     * Returns the next identifier.
+     *
+     * @return a UUIDv7 greater than every one returned before by this JVM
+     */
+    public static UUID next() {
+        return next(System.currentTimeMillis());
+    }
+
+    static UUID next(long nowMillis) {
+        long floor = nowMillis << COUNTER_BITS;
+        long previous;
+        long current;
+        do {
+            previous = LAST.get();
+            current = Math.max(floor, previous + 1);
+        } while (!LAST.compareAndSet(previous, current));
+
+        long millis = current >>> COUNTER_BITS;
+        long counter = current & ((1L << COUNTER_BITS) - 1);
+        long mostSignificant = (millis << 16) | VERSION_7 | counter;
+        long leastSignificant = VARIANT_RFC_9562 | (RANDOM.nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
@@ -0,0 +1,58 @@
+package devnastapi.devnestapi.common.security;
+
+import devnastapi.devnestapi.common.security.dto.AccessTokenRequest;
+import devnastapi.devnestapi.common.security.dto.AccessTokenResponse;
+import devnastapi.devnestapi.student.authservice.StudentAuthProvider;
+import devnastapi.devnestapi.student.authservice.StudentPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller that exchanges student credentials for a signed access token.
+ * <p>
+ * The password is verified once through {@link StudentAuthProvider}; afterwards the client sends
+ * {@code Authorization: Bearer <token>} and is authenticated by {@link AccessTokenFilter} without
+ * any database lookup or password hashing.
+ */
+@RestController
+@RequestMapping("/auth")
+public class AccessTokenController {
+
+    private final StudentAuthProvider authProvider;
+    private final AccessTokenService tokenService;
+
+    public AccessTokenController(StudentAuthProvider authProvider, AccessTokenService tokenService) {
+        this.authProvider = authProvider;
+        this.tokenService = tokenService;
+    }
+
+    /**
+     * Issues an access token for valid student credentials.
+     *
+     * @param request the email and password of the student
+     * @param httpRequest the servlet request, whose client address is passed on to the login throttle
+     * @return ResponseEntity containing the token, its type and its lifetime in seconds
+     */
+    @PostMapping("/token")
+    public ResponseEntity<AccessTokenResponse> issueToken(@RequestBody @Valid AccessTokenRequest request,
+                                                          HttpServletRequest httpRequest) {
+        UsernamePasswordAuthenticationToken credentials =
+                UsernamePasswordAuthenticationToken.unauthenticated(request.email(), request.password());
+        credentials.setDetails(new WebAuthenticationDetails(httpRequest));
+
+        Authentication authentication = authProvider.authenticate(credentials);
+
+        StudentPrincipal principal = (StudentPrincipal) authentication.getPrincipal();
+
+        String token = tokenService.issue(principal.id(), principal.email(), principal.authorityNames());
+        return ResponseEntity.ok(new AccessTokenResponse(token, "Bearer", tokenService.getTtl().toSeconds()));
+    }
+}
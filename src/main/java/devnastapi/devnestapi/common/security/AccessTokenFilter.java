@@ -0,0 +1,59 @@
+package devnastapi.devnestapi.common.security;
+
+import devnastapi.devnestapi.student.authservice.StudentAuthentication;
+import devnastapi.devnestapi.student.authservice.StudentPrincipal;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates requests carrying an {@code Authorization: Bearer} access token.
+ *
+ * <p>The token is checked with {@link AccessTokenService} only, so these requests skip the
+ * student lookup and the password encoder entirely. The resulting context is not stored in
+ * the HTTP session. Requests with a missing or invalid token continue unauthenticated and are
+ * handled by the rest of the chain.</p>
+ *
+ * <p>Not a Spring bean on purpose: it is added to the security filter chain in
+ * {@link SecurityConfiguration} and must not also be registered as a servlet filter.</p>
+ */
+public class AccessTokenFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AccessTokenService tokenService;
+    private final SecurityContextHolderStrategy contextHolderStrategy = SecurityContextHolder.getContextHolderStrategy();
+
+    public AccessTokenFilter(AccessTokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            tokenService.verify(header.substring(BEARER_PREFIX.length()).trim()).ifPresent(claims -> {
+                var authentication = new StudentAuthentication(new StudentPrincipal(
+                        claims.accountId(),
+                        claims.email(),
+                        StudentPrincipal.sharedAuthorities(claims.roles())));
+
+                SecurityContext context = contextHolderStrategy.createEmptyContext();
+                context.setAuthentication(authentication);
+                contextHolderStrategy.setContext(context);
+            });
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,142 @@
+package devnastapi.devnestapi.common.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Issues and verifies short-lived, HMAC-SHA256 signed access tokens.
+ *
+ * <p>A token has the form {@code base64url(payload).base64url(signature)} where the payload
+ * carries the account id, its roles, the expiry and the email. Verification only needs the
+ * shared secret, so a request carrying a token never touches the database or the password encoder,
+ * and any node configured with the same secret accepts it.</p>
+ *
+ * <p>The secret comes from {@code devnest.security.token.secret} (Base64, at least 32 bytes).
+ * When it is not set, a random secret is generated and tokens are only valid on this node
+ * until it restarts.</p>
+ */
+@Component
+public class AccessTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessTokenService.class);
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock = Clock.systemUTC();
+
+    public AccessTokenService(@Value("${devnest.security.token.secret:}") String secret,
+                              @Value("${devnest.security.token.ttl:15m}") Duration ttl) {
+        this.key = new SecretKeySpec(resolveSecret(secret), "HmacSHA256");
+        this.ttl = ttl;
+    }
+
+    /**
+     * Issues a token for the given account.
+     *
+     * @param accountId the id of the authenticated account
+     * @param email     the login email of the account
+     * @param roles     the authorities granted to the account
+     * @return the signed token
+     */
+    public String issue(UUID accountId, String email, List<String> roles) {
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        String payload = accountId + "|" + expiresAt + "|" + String.join(",", roles) + "|" + email;
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(payloadBytes));
+    }
+
+    /**
+     * Verifies the signature and expiry of a token.
+     *
+     * @param token the token sent by the client
+     * @return the claims carried by the token, or empty if it is malformed, forged or expired
+     */
+    public Optional<AccessTokenClaims> verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payloadBytes = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payloadBytes), signature)) {
+                return Optional.empty();
+            }
+
+            String[] parts = new String(payloadBytes, StandardCharsets.UTF_8).split("\\|", 4);
+            if (parts.length != 4) {
+                return Optional.empty();
+            }
+            Instant expiresAt = Instant.ofEpochSecond(Long.parseLong(parts[1]));
+            if (!clock.instant().isBefore(expiresAt)) {
+                return Optional.empty();
+            }
+            List<String> roles = parts[2].isEmpty() ? List.of() : Arrays.asList(parts[2].split(","));
+            return Optional.of(new AccessTokenClaims(UUID.fromString(parts[0]), parts[3], List.copyOf(roles), expiresAt));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns how long issued tokens stay valid.
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private static byte[] resolveSecret(String secret) {
+        if (secret == null || secret.isBlank()) {
+            log.warn("devnest.security.token.secret is not set; using a random secret, tokens will only be valid on this instance");
+            byte[] random = new byte[32];
+            new SecureRandom().nextBytes(random);
+            return random;
+        }
+        byte[] decoded = Base64.getDecoder().decode(secret);
+        if (decoded.length < 32) {
+            throw new IllegalStateException("devnest.security.token.secret must be at least 32 bytes");
+        }
+        return decoded;
+    }
+
+    /**
+     * Claims carried by a verified access token.
+     *
+     * @param accountId the id of the authenticated account
+     * @param email     the login email of the account
+     * @param roles     the authorities granted to the account
+     * @param expiresAt when the token stops being valid
+     */
+    public record AccessTokenClaims(UUID accountId, String email, List<String> roles, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,86 @@
+package devnastapi.devnestapi.common.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt work factor used for new hashes, chosen once at startup.
+ *
+ * <p>When {@code devnest.security.bcrypt.strength} is set, that value is used as is. Otherwise the
+ * cost of a probe hash is measured on the current hardware and the strength whose hash time is
+ * closest to {@code devnest.security.bcrypt.target-hash-time} is chosen, clamped between
+ * {@code min-strength} and {@code max-strength}. Each extra strength point doubles the cost, so a
+ * single measurement is enough to extrapolate; closest is taken on that doubling scale, so one
+ * hash may take up to about 1.4 times the target.</p>
+ *
+ * <p>Stored hashes with a different cost are rehashed transparently on the next successful login,
+ * see {@link #needsRehash(String)}.</p>
+ */
+@Component
+public class BCryptWorkFactor {
+
+    private static final Logger log = LoggerFactory.getLogger(BCryptWorkFactor.class);
+
+    private static final int PROBE_STRENGTH = 8;
+    private static final int PROBE_ROUNDS = 3;
+    private static final Pattern BCRYPT_PREFIX = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final int strength;
+
+    public BCryptWorkFactor(@Value("${devnest.security.bcrypt.strength:0}") int configuredStrength,
+                            @Value("${devnest.security.bcrypt.target-hash-time:100ms}") Duration targetHashTime,
+                            @Value("${devnest.security.bcrypt.min-strength:10}") int minStrength,
+                            @Value("${devnest.security.bcrypt.max-strength:16}") int maxStrength) {
+        if (configuredStrength > 0) {
+            this.strength = configuredStrength;
+            log.info("Using configured BCrypt strength {}", strength);
+        } else {
+            this.strength = calibrate(targetHashTime, minStrength, maxStrength);
+            log.info("Calibrated BCrypt strength {} for a target hash time of {}", strength, targetHashTime);
+        }
+    }
+
+    /**
+     * Returns the strength used for new hashes.
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * Tells whether a stored BCrypt hash was produced with a different strength than the current one.
+     *
+     * @param encodedPassword the stored hash
+     * @return {@code true} if the hash should be replaced, {@code false} if it is current or not a BCrypt hash
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PREFIX.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    private static int calibrate(Duration target, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_STRENGTH);
+        probe.encode("calibration");
+
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < PROBE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+
+        double doublings = Math.log((double) target.toNanos() / Math.max(fastest, 1)) / Math.log(2);
+        int calibrated = PROBE_STRENGTH + (int) Math.round(doublings);
+        return Math.max(minStrength, Math.min(maxStrength, calibrated));
+    }
+}
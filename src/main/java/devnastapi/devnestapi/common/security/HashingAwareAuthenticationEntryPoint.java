@@ -0,0 +1,46 @@
+package devnastapi.devnestapi.common.security;
+
+import devnastapi.devnestapi.common.exceptions.HashingCapacityExceededException;
+import devnastapi.devnestapi.common.exceptions.LoginThrottledException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
+
+import java.io.IOException;
+
+/**
+ * HTTP Basic entry point that answers 503 instead of 401 when a login failed only because
+ * the password hashing pool was saturated, and 429 when the login was throttled.
+ * <p>
+ * Authentication runs in the filter chain, outside the reach of {@code GlobalExceptionHandler},
+ * so both cases are reported here. Every other failure is delegated to the standard
+ * {@link BasicAuthenticationEntryPoint}.
+ */
+public class HashingAwareAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+    private final BasicAuthenticationEntryPoint delegate = new BasicAuthenticationEntryPoint();
+
+    public HashingAwareAuthenticationEntryPoint() {
+        delegate.setRealmName("devnest");
+    }
+
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException)
+            throws IOException {
+        if (authException.getCause() instanceof HashingCapacityExceededException) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, authException.getMessage());
+            return;
+        }
+        if (authException instanceof LoginThrottledException throttled) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(throttled.getRetryAfter().toSeconds()));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), throttled.getMessage());
+            return;
+        }
+        delegate.commence(request, response, authException);
+    }
+}
@@ -0,0 +1,157 @@
+package devnastapi.devnestapi.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import devnastapi.devnestapi.common.exceptions.LoginThrottledException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Sliding-window throttle for failed logins, per email and per client address.
+ * <p>
+ * Every failed login costs a full BCrypt comparison, so an attacker guessing passwords or stuffing
+ * credentials can saturate the CPU. The authentication provider asks {@link #checkAllowed(Authentication)}
+ * before touching the directory or the encoder, and reports each outcome afterwards; once either the email
+ * or the client address exceeds its failure limit within the window, further attempts are rejected
+ * without any hashing.
+ * <p>
+ * Counters are lock-free {@link SlidingWindowCounter}s held in bounded Caffeine caches. An idle counter is
+ * evicted once a full window has passed without activity, which is exactly when it would count zero again,
+ * and the maximum size caps memory even when an attacker rotates through many emails or addresses.
+ * <p>
+ * The client address is the remote address of the request. Behind a load balancer that would be the balancer's
+ * own address, shared by every client, so {@code server.forward-headers-strategy} is set to {@code native}: the
+ * address is then taken from {@code X-Forwarded-For}, but only when the request comes from a trusted proxy
+ * ({@code server.tomcat.remoteip.internal-proxies}, private networks by default). A deployment whose proxies sit
+ * elsewhere must list them there, or every client shares one address budget.
+ */
+@Component
+public class LoginThrottle {
+
+    private static final int SLOTS_PER_WINDOW = 10;
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final long maxFailuresPerEmail;
+    private final long maxFailuresPerAddress;
+
+    private final Cache<String, SlidingWindowCounter> emailFailures;
+    private final Cache<String, SlidingWindowCounter> addressFailures;
+
+    private final Clock clock = Clock.systemUTC();
+
+    /**
+     * Constructs a new {@code LoginThrottle}.
+     *
+     * @param enabled               whether failed logins are throttled at all
+     * @param window                the length of the sliding window
+     * @param maxFailuresPerEmail   failures allowed per email within the window
+     * @param maxFailuresPerAddress failures allowed per client address within the window
+     * @param maximumKeys           maximum number of emails and of addresses tracked at once
+     */
+    public LoginThrottle(
+            @Value("${devnest.security.login-throttle.enabled:true}") boolean enabled,
+            @Value("${devnest.security.login-throttle.window:15m}") Duration window,
+            @Value("${devnest.security.login-throttle.max-failures-per-email:10}") long maxFailuresPerEmail,
+            @Value("${devnest.security.login-throttle.max-failures-per-address:100}") long maxFailuresPerAddress,
+            @Value("${devnest.security.login-throttle.maximum-keys:100000}") long maximumKeys) {
+        this.enabled = enabled;
+        this.windowMillis = window.toMillis();
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerAddress = maxFailuresPerAddress;
+        this.emailFailures = newCounterCache(window, maximumKeys);
+        this.addressFailures = newCounterCache(window, maximumKeys);
+    }
+
+    /**
+     * Rejects the login attempt if its email or client address exceeded the failure limit.
+     *
+     * @param authentication the incoming authentication request
+     * @throws LoginThrottledException if too many logins failed recently
+     */
+    public void checkAllowed(Authentication authentication) {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.millis();
+        if (exceeds(emailFailures, emailKey(authentication), maxFailuresPerEmail, now)
+                || exceeds(addressFailures, addressKey(authentication), maxFailuresPerAddress, now)) {
+            throw new LoginThrottledException("Too many failed login attempts, try again later",
+                    Duration.ofMillis(windowMillis / SLOTS_PER_WINDOW));
+        }
+    }
+
+    /**
+     * Counts a failed login against its email and client address.
+     *
+     * @param authentication the failed authentication request
+     */
+    public void recordFailure(Authentication authentication) {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.millis();
+        increment(emailFailures, emailKey(authentication), now);
+        increment(addressFailures, addressKey(authentication), now);
+    }
+
+    /**
+     * Clears the failures of the email after a successful login.
+     * <p>
+     * The client address keeps its count, so one valid account cannot be used to reset the budget
+     * of an address that keeps guessing other accounts.
+     *
+     * @param authentication the successful authentication request
+     */
+    public void recordSuccess(Authentication authentication) {
+        if (!enabled) {
+            return;
+        }
+        String email = emailKey(authentication);
+        if (email != null) {
+            SlidingWindowCounter counter = emailFailures.getIfPresent(email);
+            if (counter != null) {
+                counter.reset();
+            }
+        }
+    }
+
+    private boolean exceeds(Cache<String, SlidingWindowCounter> failures, String key, long limit, long now) {
+        if (key == null) {
+            return false;
+        }
+        SlidingWindowCounter counter = failures.getIfPresent(key);
+        return counter != null && counter.count(now) >= limit;
+    }
+
+    private void increment(Cache<String, SlidingWindowCounter> failures, String key, long now) {
+        if (key == null) {
+            return;
+        }
+        failures.get(key, k -> new SlidingWindowCounter(windowMillis, SLOTS_PER_WINDOW, now)).increment(now);
+    }
+
+    private static String emailKey(Authentication authentication) {
+        String name = authentication.getName();
+        return name == null || name.isBlank() ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String addressKey(Authentication authentication) {
+        return authentication.getDetails() instanceof WebAuthenticationDetails details
+                ? details.getRemoteAddress()
+                : null;
+    }
+
+    private static Cache<String, SlidingWindowCounter> newCounterCache(Duration window, long maximumKeys) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(window)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package devnastapi.devnestapi.common.security;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.config.core.GrantedAuthorityDefaults;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Enforces {@code @PreAuthorize} on controller methods.
+ * <p>
+ * Only active when {@code devnest.security.method-authorization.mode} is set:
+ * <ul>
+ *   <li>{@code spel} - the stock Spring Security manager evaluates each expression on every call</li>
+ *   <li>{@code precompiled} - {@link PrecompiledPreAuthorizeManager} resolves role expressions into bitmasks
+ *       at startup and falls back to the stock manager for anything else</li>
+ * </ul>
+ * Both modes use the role prefix of the {@link GrantedAuthorityDefaults} bean, or {@code ROLE_} without one, so
+ * switching modes never changes a decision. {@code ROLE_} is also what
+ * {@link devnastapi.devnestapi.student.authservice.StudentPrincipal} grants, so {@code hasRole('ADMIN')} matches the
+ * {@code ADMIN} role of the {@code roles} column.
+ * <p>
+ * Off by default: the URL rules of {@link SecurityConfiguration} guard the endpoints, and turning this on enforces
+ * every controller annotation as written, e.g. {@code hasRole('USER')} on {@code DELETE /students/deletar/{id}}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "devnest.security.method-authorization.mode")
+@EnableMethodSecurity(prePostEnabled = false)
+public class MethodSecurityConfiguration {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static PreAuthorizeAuthorizationManager spelPreAuthorizeManager(ObjectProvider<GrantedAuthorityDefaults> authorityDefaults,
+                                                                    ApplicationContext context) {
+        DefaultMethodSecurityExpressionHandler expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        expressionHandler.setApplicationContext(context);
+        authorityDefaults.ifAvailable(defaults -> expressionHandler.setDefaultRolePrefix(defaults.getRolePrefix()));
+
+        PreAuthorizeAuthorizationManager manager = new PreAuthorizeAuthorizationManager();
+        manager.setExpressionHandler(expressionHandler);
+        return manager;
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static PrecompiledPreAuthorizeManager precompiledPreAuthorizeManager(PreAuthorizeAuthorizationManager spelPreAuthorizeManager,
+                                                                         ObjectProvider<GrantedAuthorityDefaults> authorityDefaults) {
+        return new PrecompiledPreAuthorizeManager(spelPreAuthorizeManager, () -> authorityDefaults
+                .getIfAvailable(() -> new GrantedAuthorityDefaults("ROLE_"))
+                .getRolePrefix());
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor preAuthorizeAuthorizationAdvisor(@Value("${devnest.security.method-authorization.mode}") String mode,
+                                                    PreAuthorizeAuthorizationManager spelPreAuthorizeManager,
+                                                    PrecompiledPreAuthorizeManager precompiledPreAuthorizeManager) {
+        AuthorizationManager<MethodInvocation> manager = switch (mode.trim().toLowerCase()) {
+            case "spel" -> spelPreAuthorizeManager;
+            case "precompiled" -> precompiledPreAuthorizeManager;
+            default -> throw new IllegalStateException(
+                    "Unknown devnest.security.method-authorization.mode '" + mode + "', expected spel or precompiled");
+        };
+        return AuthorizationManagerBeforeMethodInterceptor.preAuthorize(manager);
+    }
+
+    /**
+     * Compiles the rules of every controller once all beans exist, so no request pays for it.
+     */
+    @Bean
+    static SmartInitializingSingleton precompileControllerAuthorization(ApplicationContext context,
+                                                                         PrecompiledPreAuthorizeManager precompiledPreAuthorizeManager) {
+        return () -> context.getBeansWithAnnotation(RestController.class).values()
+                .forEach(controller -> precompiledPreAuthorizeManager.precompile(AopUtils.getTargetClass(controller)));
+    }
+}
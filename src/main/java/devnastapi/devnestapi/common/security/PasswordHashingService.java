@@ -0,0 +1,238 @@
+package devnastapi.devnestapi.common.security;
+
+import devnastapi.devnestapi.common.exceptions.HashingCapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs password hashing and verification on a dedicated, bounded thread pool.
+ *
+ * <p>BCrypt is deliberately slow. Running it on the servlet threads lets a burst of enrollments
+ * or logins occupy every worker, and cheap requests queue behind them. Here at most
+ * {@code devnest.security.hashing.pool-size} hashes run at once and at most
+ * {@code devnest.security.hashing.queue-capacity} wait. Beyond that the work is rejected
+ * immediately with {@link HashingCapacityExceededException}, which is answered with 503.</p>
+ *
+ * <p>Metrics: {@code devnest.hashing.queue.size}, {@code devnest.hashing.active},
+ * {@code devnest.hashing.duration} (tagged by operation) and {@code devnest.hashing.rejected}.</p>
+ */
+@Component
+public class PasswordHashingService {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    private final PasswordEncoder encoder;
+    private final BCryptWorkFactor workFactor;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHashingService(PasswordEncoder encoder,
+                                  BCryptWorkFactor workFactor,
+                                  MeterRegistry registry,
+                                  @Value("${devnest.security.hashing.pool-size:0}") int poolSize,
+                                  @Value("${devnest.security.hashing.queue-capacity:200}") int queueCapacity) {
+        this.encoder = encoder;
+        this.workFactor = workFactor;
+        this.queueCapacity = queueCapacity;
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("devnest.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting for a thread")
+                .register(registry);
+        Gauge.builder("devnest.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks currently running")
+                .register(registry);
+        this.encodeTimer = Timer.builder("devnest.hashing.duration")
+                .tag("operation", "encode")
+                .register(registry);
+        this.matchesTimer = Timer.builder("devnest.hashing.duration")
+                .tag("operation", "matches")
+                .register(registry);
+        this.rejected = Counter.builder("devnest.hashing.rejected")
+                .description("Password hashing tasks rejected because the pool was saturated")
+                .register(registry);
+    }
+
+    /**
+     * Hashes a raw password on the hashing pool.
+     *
+     * @param rawPassword the password to hash
+     * @return the encoded password
+     * @throws HashingCapacityExceededException if the pool and its queue are full
+     */
+    public String encode(CharSequence rawPassword) {
+        return await(submit(() -> encodeTimer.recordCallable(() -> encoder.encode(rawPassword))));
+    }
+
+    /**
+     * Verifies a raw password against an encoded one on the hashing pool.
+     *
+     * @param rawPassword     the password sent by the client
+     * @param encodedPassword the stored hash
+     * @return {@code true} if the password matches
+     * @throws HashingCapacityExceededException if the pool and its queue are full
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(submit(() -> matchesTimer.recordCallable(() -> encoder.matches(rawPassword, encodedPassword))));
+    }
+
+    /**
+     * Tells whether a stored hash was produced with a different work factor than the current one.
+     *
+     * @param encodedPassword the stored hash
+     * @return {@code true} if the hash should be replaced on the next successful login
+     * @see BCryptWorkFactor#needsRehash(String)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return workFactor.needsRehash(encodedPassword);
+    }
+
+    /**
+     * Hashes many raw passwords in parallel on the hashing pool.
+     *
+     * <p>Meant for bulk work such as batch enrollment. At most half of the queue capacity is
+     * used by one call, so interactive logins keep finding room; when the pool is busy with
+     * other work the call waits for its own tasks instead of failing.</p>
+     *
+     * @param rawPasswords the passwords to hash
+     * @return the encoded passwords, in the same order
+     * @throws HashingCapacityExceededException if the pool is saturated and none of this call's tasks is pending
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        int window = Math.max(1, queueCapacity / 2);
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        Deque<Future<String>> inFlight = new ArrayDeque<>(window);
+
+        for (CharSequence rawPassword : rawPasswords) {
+            if (inFlight.size() >= window) {
+                encoded.add(await(inFlight.removeFirst()));
+            }
+            Callable<String> task = () -> encodeTimer.recordCallable(() -> encoder.encode(rawPassword));
+            while (true) {
+                try {
+                    inFlight.addLast(executor.submit(task));
+                    break;
+                } catch (RejectedExecutionException e) {
+                    if (inFlight.isEmpty()) {
+                        rejected.increment();
+                        throw new HashingCapacityExceededException("Password hashing capacity exceeded, try again later");
+                    }
+                    encoded.add(await(inFlight.removeFirst()));
+                }
+            }
+        }
+        while (!inFlight.isEmpty()) {
+            encoded.add(await(inFlight.removeFirst()));
+        }
+        return encoded;
+    }
+
+    /**
+     * Hashes a raw password in the background and hands the result to a callback on the hashing pool.
+     *
+     * <p>Meant for opportunistic work such as rehashing on login: it is only queued while the pool
+     * is less than half full, so it never pushes interactive requests into rejection. When skipped,
+     * the work is simply retried on a later login.</p>
+     *
+     * @param rawPassword the password to hash
+     * @param onEncoded   receives the new hash
+     * @return {@code true} if the work was queued
+     */
+    public boolean encodeInBackground(CharSequence rawPassword, Consumer<String> onEncoded) {
+        if (executor.getQueue().size() > queueCapacity / 2) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    onEncoded.accept(encodeTimer.record(() -> encoder.encode(rawPassword)));
+                } catch (RuntimeException e) {
+                    log.warn("Background password hashing failed", e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Submits a task to the hashing pool without waiting for it.
+     *
+     * @param task the work to run
+     * @return the pending result
+     * @throws HashingCapacityExceededException if the pool and its queue are full
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new HashingCapacityExceededException("Password hashing capacity exceeded, try again later");
+        }
+    }
+
+    /**
+     * Waits for a task previously returned by {@link #submit(Callable)}.
+     *
+     * @param future the pending result
+     * @return the result of the task
+     */
+    public <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
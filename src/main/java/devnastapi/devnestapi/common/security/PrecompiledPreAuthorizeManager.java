@@ -0,0 +1,214 @@
+package devnastapi.devnestapi.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import devnastapi.devnestapi.student.authservice.StudentPrincipal;
+import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@code @PreAuthorize} manager that turns simple role expressions into bitmasks ahead of time.
+ * <p>
+ * Expressions of the form {@code hasRole('A')}, {@code hasAnyRole('A','B')}, {@code hasAuthority('A')} and
+ * {@code hasAnyAuthority('A','B')} are parsed once per method, normally at startup through
+ * {@link #precompile(Class)}. Every authority name they mention gets one bit, and the method keeps the mask
+ * of the authorities it accepts. The principal's authorities are folded into a mask once and cached; the
+ * shared authority sets of {@link StudentPrincipal} make that a single identity lookup. Deciding a call is
+ * then one bitwise {@code AND}, without evaluation contexts or SpEL parsing per request.
+ * <p>
+ * Any other expression is delegated unchanged to the stock SpEL manager, so the decisions of both paths
+ * are always the same. The role prefix is taken from the configured {@code GrantedAuthorityDefaults}
+ * exactly as the SpEL path does it.
+ */
+public class PrecompiledPreAuthorizeManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final Pattern ROLE_EXPRESSION =
+            Pattern.compile("^\\s*(hasRole|hasAnyRole|hasAuthority|hasAnyAuthority)\\s*\\((.*)\\)\\s*$");
+    private static final Pattern QUOTED_ARGUMENT = Pattern.compile("\\s*'([^']+)'\\s*(,|$)");
+
+    private final AuthorizationManager<MethodInvocation> spelManager;
+    private final Supplier<String> rolePrefix;
+
+    private final Map<MethodClassKey, CompiledRule> rules = new ConcurrentHashMap<>();
+    private final Map<String, Long> authorityBits = new ConcurrentHashMap<>();
+    private final Cache<Collection<? extends GrantedAuthority>, Long> sharedMasks = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    /**
+     * Constructs a new {@code PrecompiledPreAuthorizeManager}.
+     *
+     * @param spelManager the stock manager used for expressions that cannot be precompiled
+     * @param rolePrefix  supplies the prefix {@code hasRole} adds to role names
+     */
+    public PrecompiledPreAuthorizeManager(AuthorizationManager<MethodInvocation> spelManager, Supplier<String> rolePrefix) {
+        this.spelManager = spelManager;
+        this.rolePrefix = rolePrefix;
+    }
+
+    /**
+     * Compiles the {@code @PreAuthorize} rules of every method of the given class.
+     *
+     * @param type the user class of a bean, not a proxy
+     */
+    public void precompile(Class<?> type) {
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(type, ReflectionUtils.USER_DECLARED_METHODS)) {
+            rule(method, type);
+        }
+    }
+
+    @Override
+    public @Nullable AuthorizationResult authorize(Supplier<? extends @Nullable Authentication> authentication,
+                                                   MethodInvocation invocation) {
+        Object target = invocation.getThis();
+        Class<?> targetClass = target != null ? AopUtils.getTargetClass(target) : invocation.getMethod().getDeclaringClass();
+        CompiledRule rule = rule(invocation.getMethod(), targetClass);
+
+        if (rule == CompiledRule.NONE) {
+            return null;
+        }
+        if (rule == CompiledRule.SPEL) {
+            return spelManager.authorize(authentication, invocation);
+        }
+
+        Authentication current = authentication.get();
+        return new AuthorizationDecision(current != null && (maskOf(current) & rule.mask()) != 0);
+    }
+
+    private CompiledRule rule(Method method, Class<?> targetClass) {
+        return rules.computeIfAbsent(new MethodClassKey(method, targetClass), key -> compile(method, targetClass));
+    }
+
+    private CompiledRule compile(Method method, Class<?> targetClass) {
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        PreAuthorize annotation = AnnotatedElementUtils.findMergedAnnotation(specificMethod, PreAuthorize.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(ClassUtils.getUserClass(targetClass), PreAuthorize.class);
+        }
+        if (annotation == null) {
+            return CompiledRule.NONE;
+        }
+
+        List<String> authorities = parse(annotation.value());
+        if (authorities == null) {
+            return CompiledRule.SPEL;
+        }
+
+        long mask = 0;
+        for (String authority : authorities) {
+            Long bit = bitFor(authority);
+            if (bit == null) {
+                return CompiledRule.SPEL;
+            }
+            mask |= bit;
+        }
+        return new CompiledRule(mask);
+    }
+
+    /**
+     * Extracts the accepted authority names from a role expression.
+     *
+     * @return the authority names, or {@code null} if the expression is not a plain role check
+     */
+    private @Nullable List<String> parse(String expression) {
+        Matcher call = ROLE_EXPRESSION.matcher(expression);
+        if (!call.matches()) {
+            return null;
+        }
+        boolean roles = call.group(1).endsWith("Role");
+        boolean single = !call.group(1).startsWith("hasAny");
+
+        List<String> authorities = new ArrayList<>();
+        Matcher argument = QUOTED_ARGUMENT.matcher(call.group(2));
+        int position = 0;
+        while (position < call.group(2).length()) {
+            if (!argument.find(position) || argument.start() != position) {
+                return null;
+            }
+            authorities.add(roles ? withRolePrefix(argument.group(1)) : argument.group(1));
+            position = argument.end();
+        }
+        if (authorities.isEmpty() || (single && authorities.size() != 1)) {
+            return null;
+        }
+        return authorities;
+    }
+
+    private String withRolePrefix(String role) {
+        String prefix = rolePrefix.get();
+        return prefix == null || prefix.isEmpty() || role.startsWith(prefix) ? role : prefix + role;
+    }
+
+    /**
+     * Returns the bit of an authority name, assigning the next free one on first use.
+     *
+     * @return the bit, or {@code null} once all 64 bits are taken
+     */
+    private synchronized @Nullable Long bitFor(String authority) {
+        Long bit = authorityBits.get(authority);
+        if (bit == null) {
+            if (authorityBits.size() == Long.SIZE) {
+                return null;
+            }
+            bit = 1L << authorityBits.size();
+            authorityBits.put(authority, bit);
+            // Masks computed before this authority had a bit would miss it
+            sharedMasks.invalidateAll();
+        }
+        return bit;
+    }
+
+    private long maskOf(Authentication authentication) {
+        Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
+        if (authentication.getPrincipal() instanceof StudentPrincipal) {
+            return sharedMasks.get(authorities, this::computeMask);
+        }
+        return computeMask(authorities);
+    }
+
+    private long computeMask(Collection<? extends GrantedAuthority> authorities) {
+        long mask = 0;
+        for (GrantedAuthority authority : authorities) {
+            Long bit = authority.getAuthority() == null ? null : authorityBits.get(authority.getAuthority());
+            if (bit != null) {
+                mask |= bit;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Precompiled decision data of one method.
+     *
+     * @param mask the authorities the method accepts
+     */
+    private record CompiledRule(long mask) {
+
+        /** The method carries no {@code @PreAuthorize}. */
+        static final CompiledRule NONE = new CompiledRule(0);
+
+        /** The expression is evaluated by the SpEL manager. */
+        static final CompiledRule SPEL = new CompiledRule(0);
+    }
+}
@@ -3,29 +3,35 @@ package devnastapi.devnestapi.common.security;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
-import org.springframework.security.authentication.AuthenticationProvider;
-import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.config.core.GrantedAuthorityDefaults;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfiguration {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AccessTokenService tokenService) throws Exception {
         return http
                 .csrf(AbstractHttpConfigurer::disable)
                 .formLogin(Customizer.withDefaults())
-                .httpBasic(Customizer.withDefaults())
+                .httpBasic(basic -> basic.authenticationEntryPoint(new HashingAwareAuthenticationEntryPoint()))
+                .addFilterBefore(new AccessTokenFilter(tokenService), BasicAuthenticationFilter.class)
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(HttpMethod.POST, "/auth/token").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/students/export").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/students/batch").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/students/import").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/students/import/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/students").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/students/search").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/students/suggest").hasRole("ADMIN")
                         .requestMatchers("/students/**").authenticated()
                         .requestMatchers(HttpMethod.POST, "/courses/**").hasAnyRole("ADMIN", "TEACHER")
                         .requestMatchers(HttpMethod.DELETE, "/courses/**").hasAnyRole("ADMIN", "TEACHER")
@@ -38,22 +44,8 @@ public class SecurityConfiguration {
     }
 
     @Bean
-    public GrantedAuthorityDefaults grantedAuthorityDefaults(){
-        return new GrantedAuthorityDefaults("");
-    }
-    @Bean
-    public PasswordEncoder encoder() {
-        return new BCryptPasswordEncoder(10);
-    }
-
-    @Bean
-    public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService, PasswordEncoder encoder) {
-        DaoAuthenticationProvider authProvider =
-                new DaoAuthenticationProvider(userDetailsService); // UserDetailsService no construtor
-
-        authProvider.setPasswordEncoder(encoder);   // seta o encoder
-
-        return authProvider;
+    public PasswordEncoder encoder(BCryptWorkFactor workFactor) {
+        return new BCryptPasswordEncoder(workFactor.getStrength());
     }
 
-}
\ No newline at end of file
+}
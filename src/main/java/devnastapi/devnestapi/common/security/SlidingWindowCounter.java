@@ -0,0 +1,94 @@
+package devnastapi.devnestapi.common.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free event counter over a sliding time window.
+ * <p>
+ * The window is split into a fixed ring of slots. Each slot packs the slot epoch it belongs to and
+ * its count into a single {@code long}, so recording an event is one compare-and-set and a slot left
+ * over from an earlier turn of the ring is recycled in the same step. Counting sums the slots whose
+ * epoch still lies within the window, which makes the window slide with slot granularity.
+ * <p>
+ * Epochs are stored relative to the creation time of the counter. Counters are meant to be dropped
+ * once they stay idle for a full window, long before the relative epoch could overflow.
+ */
+final class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final AtomicLongArray slots;
+    private final long slotMillis;
+    private final long originMillis;
+
+    /**
+     * Constructs a new {@code SlidingWindowCounter}.
+     *
+     * @param windowMillis the length of the window in milliseconds
+     * @param slotCount    the number of slots the window is split into
+     * @param nowMillis    the current time in milliseconds
+     */
+    SlidingWindowCounter(long windowMillis, int slotCount, long nowMillis) {
+        this.slots = new AtomicLongArray(slotCount);
+        this.slotMillis = Math.max(1, windowMillis / slotCount);
+        this.originMillis = nowMillis;
+    }
+
+    /**
+     * Records one event and returns the number of events in the window, including this one.
+     *
+     * @param nowMillis the current time in milliseconds
+     * @return the number of events in the window
+     */
+    long increment(long nowMillis) {
+        long epoch = epoch(nowMillis);
+        int index = (int) (epoch % slots.length());
+        long current;
+        long updated;
+        do {
+            current = slots.get(index);
+            long slotEpoch = current >>> COUNT_BITS;
+            long count = current & COUNT_MASK;
+            if (slotEpoch >= epoch) {
+                // Same slot, or a racing thread with a slightly later clock already recycled it
+                updated = count == COUNT_MASK ? current : current + 1;
+            } else {
+                updated = (epoch << COUNT_BITS) | 1;
+            }
+        } while (!slots.compareAndSet(index, current, updated));
+        return count(nowMillis);
+    }
+
+    /**
+     * Returns the number of events recorded within the window ending now.
+     *
+     * @param nowMillis the current time in milliseconds
+     * @return the number of events in the window
+     */
+    long count(long nowMillis) {
+        long epoch = epoch(nowMillis);
+        long total = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            long slot = slots.get(i);
+            long slotEpoch = slot >>> COUNT_BITS;
+            if (slot != 0 && epoch - slotEpoch < slots.length()) {
+                total += slot & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Forgets every recorded event.
+     */
+    void reset() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, 0);
+        }
+    }
+
+    private long epoch(long nowMillis) {
+        return Math.max(0, nowMillis - originMillis) / slotMillis;
+    }
+}
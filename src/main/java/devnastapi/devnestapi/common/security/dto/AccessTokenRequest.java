@@ -0,0 +1,7 @@
+package devnastapi.devnestapi.common.security.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record AccessTokenRequest(@NotBlank String email,
+                                 @NotBlank String password) {
+}
@@ -0,0 +1,6 @@
+package devnastapi.devnestapi.common.security.dto;
+
+public record AccessTokenResponse(String accessToken,
+                                  String tokenType,
+                                  long expiresIn) {
+}
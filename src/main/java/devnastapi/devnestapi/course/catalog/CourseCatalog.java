@@ -0,0 +1,225 @@
+package devnastapi.devnestapi.course.catalog;
+
+import devnastapi.devnestapi.common.helpers.ResourceVersion;
+import devnastapi.devnestapi.course.dto.CourseSuggestion;
+import devnastapi.devnestapi.course.dto.CourseView;
+import devnastapi.devnestapi.course.model.Course;
+import devnastapi.devnestapi.course.repository.CourseRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToDoubleFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory catalog of every course, serving course reads without a database round-trip.
+ *
+ * <p>The catalog is an immutable {@link CourseCatalogSnapshot} behind a volatile reference.
+ * Readers take whatever snapshot is current, without any lock, and never see a change half
+ * applied. Writers build the next snapshot and swap it in; they are serialized among
+ * themselves, which is cheap since courses change only a few times a day.</p>
+ *
+ * <p>Lifecycle:
+ * <ul>
+ *   <li>Until the first load completes {@link #isReady()} is {@code false} and callers read the database</li>
+ *   <li>The catalog is loaded after startup</li>
+ *   <li>Registered and deleted courses are applied once their transaction has committed</li>
+ *   <li>The catalog is reloaded every {@code devnest.courses.catalog.refresh-interval}, which picks up
+ *       changes made by other nodes</li>
+ * </ul></p>
+ *
+ * <p>The number of courses is published as the {@code devnest.courses.catalog.size} gauge and the
+ * estimated heap of the name trie as {@code devnest.courses.catalog.name-trie.heap}.</p>
+ *
+ * @see devnastapi.devnestapi.course.service.CourseService
+ */
+@Component
+public class CourseCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseCatalog.class);
+
+    private final CourseRepository repository;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * The snapshot answering reads, or {@code null} until the first load completes.
+     */
+    private volatile CourseCatalogSnapshot snapshot;
+
+    /**
+     * Serializes the writers; readers never take it.
+     */
+    private final Object writeLock = new Object();
+
+    public CourseCatalog(CourseRepository repository, PlatformTransactionManager transactionManager, MeterRegistry registry) {
+        this.repository = repository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        Gauge.builder("devnest.courses.catalog.size", this, read(CourseCatalogSnapshot::size))
+                .description("Courses in the in-memory course catalog")
+                .register(registry);
+        Gauge.builder("devnest.courses.catalog.name-trie.heap", this, read(current -> current.names().estimatedHeapBytes()))
+                .description("Estimated heap retained by the course name trie")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * Tells whether the catalog has been loaded and can answer reads.
+     *
+     * @return {@code true} once the first load has completed
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * Finds a course by id.
+     *
+     * @param id the course id
+     * @return the course, or {@code null} if it does not exist or the catalog is not loaded yet
+     */
+    public CourseView find(UUID id) {
+        CourseCatalogSnapshot current = snapshot;
+        CourseCatalogSnapshot.Entry entry = current == null ? null : current.find(id);
+        return entry == null ? null : entry.view();
+    }
+
+    /**
+     * Finds the version and last modification of a course.
+     *
+     * @param id the course id
+     * @return the validators, or {@code null} if the course does not exist or the catalog is not loaded yet
+     */
+    public ResourceVersion findVersion(UUID id) {
+        CourseCatalogSnapshot current = snapshot;
+        CourseCatalogSnapshot.Entry entry = current == null ? null : current.find(id);
+        return entry == null ? null : entry.validators();
+    }
+
+    /**
+     * Finds the courses whose name contains the given text, ignoring case, ordered by name.
+     *
+     * @param name the text to look for
+     * @return the matching courses, empty if the catalog is not loaded yet
+     */
+    public List<CourseView> search(String name) {
+        CourseCatalogSnapshot current = snapshot;
+        return current == null ? List.of() : current.search(name);
+    }
+
+    /**
+     * Finds the courses whose name starts with the given prefix, ignoring case.
+     *
+     * @param prefix the text typed so far
+     * @param limit  the maximum number of courses to return
+     * @return the courses in name order, empty if the catalog is not loaded yet
+     */
+    public List<CourseSuggestion> suggest(String prefix, int limit) {
+        CourseCatalogSnapshot current = snapshot;
+        return current == null ? List.of() : current.complete(prefix, limit);
+    }
+
+    /**
+     * Adds or replaces a course.
+     *
+     * <p>When called inside a transaction, the course is applied after commit.</p>
+     *
+     * @param course the course as stored
+     */
+    public void put(Course course) {
+        CourseCatalogSnapshot.Entry entry = entryOf(course);
+        afterCommit(current -> current.with(entry));
+    }
+
+    /**
+     * Removes a deleted course.
+     *
+     * <p>When called inside a transaction, the course is removed after commit.</p>
+     *
+     * @param id the course id
+     */
+    public void remove(UUID id) {
+        afterCommit(current -> current.without(id));
+    }
+
+    /**
+     * Loads the catalog once the application is ready to serve requests.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * Reloads the catalog from the database.
+     *
+     * <p>Holds the write lock while reading, so a change committed meanwhile is applied to the
+     * reloaded snapshot rather than lost.</p>
+     */
+    @Scheduled(initialDelayString = "${devnest.courses.catalog.refresh-interval:PT5M}",
+            fixedDelayString = "${devnest.courses.catalog.refresh-interval:PT5M}")
+    public void reload() {
+        synchronized (writeLock) {
+            try {
+                List<CourseCatalogSnapshot.Entry> entries = readOnlyTransaction.execute(status ->
+                        repository.findAll().stream().map(CourseCatalog::entryOf).toList());
+                CourseCatalogSnapshot current = snapshot;
+                snapshot = CourseCatalogSnapshot.of(current == null ? 1 : current.version() + 1, entries);
+                log.debug("Course catalog loaded with {} courses at version {}", entries.size(), snapshot.version());
+            } catch (RuntimeException e) {
+                log.warn("Could not load the course catalog, course reads keep using {}",
+                        snapshot == null ? "the database" : "the previous snapshot", e);
+            }
+        }
+    }
+
+    private void afterCommit(UnaryOperator<CourseCatalogSnapshot> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(UnaryOperator<CourseCatalogSnapshot> change) {
+        synchronized (writeLock) {
+            CourseCatalogSnapshot current = snapshot;
+            if (current != null) {
+                snapshot = change.apply(current);
+            }
+        }
+    }
+
+    private static ToDoubleFunction<CourseCatalog> read(ToDoubleFunction<CourseCatalogSnapshot> reader) {
+        return catalog -> {
+            CourseCatalogSnapshot current = catalog.snapshot;
+            return current == null ? 0 : reader.applyAsDouble(current);
+        };
+    }
+
+    private static CourseCatalogSnapshot.Entry entryOf(Course course) {
+        CourseView view = new CourseView(course.getId(), course.getNameOfCourse(), course.getWorkload(),
+                course.getDescription(), course.getCreateDate(), course.getLastModify());
+        return new CourseCatalogSnapshot.Entry(view, new ResourceVersion(course.getVersion(), course.getLastModify()));
+    }
+}
@@ -0,0 +1,388 @@
+package devnastapi.devnestapi.course.catalog;
+
+import devnastapi.devnestapi.common.helpers.ResourceVersion;
+import devnastapi.devnestapi.course.dto.CourseSuggestion;
+import devnastapi.devnestapi.course.dto.CourseView;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable state of the course catalog at one catalog version.
+ *
+ * <p>Courses are kept in an array sorted by lower-cased name. Lookups by id go through a
+ * hash map to the position in that array. Name searches go through a suffix index: every
+ * suffix of every lower-cased name, sorted, so the names containing a text are the suffixes
+ * starting with it, one contiguous range found by binary search. Prefix completions go through
+ * a {@link CourseNameTrie}.</p>
+ *
+ * <p>Nothing is modified after construction; a change builds a new snapshot. Only the changed
+ * course's suffixes are sorted, and they are merged into the already sorted suffix index of the
+ * previous snapshot, so a change costs one pass over the index instead of a full re-sort. The
+ * trie is not rebuilt either: the next snapshot derives its trie from this one, copying only the
+ * changed path.</p>
+ */
+final class CourseCatalogSnapshot {
+
+    /**
+     * A course with the validators served by conditional GETs.
+     *
+     * @param view       the course as returned by the GET endpoints
+     * @param validators the version and last modification of the course
+     */
+    record Entry(CourseView view, ResourceVersion validators) {
+    }
+
+    private static final Comparator<Entry> NAME_ORDER = Comparator
+            .comparing((Entry entry) -> key(entry.view().nameOfCourse()))
+            .thenComparing(entry -> entry.view().id());
+
+    private final long version;
+    private final Entry[] entries;
+    private final String[] keys;
+    private final Map<UUID, Integer> positions;
+
+    /*
+     * Suffix index: suffix i starts at offset suffixStarts[i] of keys[suffixEntries[i]].
+     */
+    private final int[] suffixEntries;
+    private final int[] suffixStarts;
+
+    private final CourseNameTrie names;
+
+    private CourseCatalogSnapshot(long version, Entry[] entries, String[] keys, int[] suffixEntries,
+                                  int[] suffixStarts, CourseNameTrie names) {
+        this.version = version;
+        this.entries = entries;
+        this.keys = keys;
+        this.suffixEntries = suffixEntries;
+        this.suffixStarts = suffixStarts;
+        this.names = names;
+
+        Map<UUID, Integer> byId = new HashMap<>(entries.length * 4 / 3 + 1);
+        for (int i = 0; i < entries.length; i++) {
+            byId.put(entries[i].view().id(), i);
+        }
+        this.positions = Map.copyOf(byId);
+    }
+
+    /**
+     * Builds a snapshot of the given courses.
+     *
+     * @param version the catalog version of the snapshot
+     * @param courses the courses, one entry per id
+     * @return the snapshot
+     */
+    static CourseCatalogSnapshot of(long version, Collection<Entry> courses) {
+        CourseNameTrie names = CourseNameTrie.EMPTY;
+        for (Entry entry : courses) {
+            names = names.with(suggestionOf(entry));
+        }
+
+        Entry[] entries = courses.toArray(new Entry[0]);
+        Arrays.sort(entries, NAME_ORDER);
+        String[] keys = new String[entries.length];
+        int suffixCount = 0;
+        for (int i = 0; i < entries.length; i++) {
+            keys[i] = key(entries[i].view().nameOfCourse());
+            suffixCount += keys[i].length();
+        }
+
+        long[] suffixes = new long[suffixCount];
+        int next = 0;
+        for (int i = 0; i < entries.length; i++) {
+            for (int start = 0; start < keys[i].length(); start++) {
+                suffixes[next++] = suffix(i, start);
+            }
+        }
+        sortSuffixes(keys, suffixes);
+
+        int[] suffixEntries = new int[suffixCount];
+        int[] suffixStarts = new int[suffixCount];
+        for (int i = 0; i < suffixCount; i++) {
+            suffixEntries[i] = (int) (suffixes[i] >>> 32);
+            suffixStarts[i] = (int) suffixes[i];
+        }
+        return new CourseCatalogSnapshot(version, entries, keys, suffixEntries, suffixStarts, names);
+    }
+
+    /**
+     * Returns the next snapshot, with a course added or replaced.
+     *
+     * @param entry the course
+     * @return a new snapshot one version later; this snapshot is unchanged
+     */
+    CourseCatalogSnapshot with(Entry entry) {
+        Integer position = positions.get(entry.view().id());
+        if (position == null) {
+            return inserting(entry, names.with(suggestionOf(entry)));
+        }
+        Entry replaced = entries[position];
+        CourseNameTrie updatedNames = names.without(replaced.view().nameOfCourse(), replaced.view().id())
+                .with(suggestionOf(entry));
+        return removing(position, version, updatedNames).inserting(entry, updatedNames);
+    }
+
+    /**
+     * Returns the next snapshot, without a course.
+     *
+     * @param id the course id
+     * @return a new snapshot one version later, or this snapshot if it does not hold the course
+     */
+    CourseCatalogSnapshot without(UUID id) {
+        Integer position = positions.get(id);
+        if (position == null) {
+            return this;
+        }
+        Entry removed = entries[position];
+        return removing(position, version + 1, names.without(removed.view().nameOfCourse(), removed.view().id()));
+    }
+
+    /**
+     * Returns a snapshot without the course at the given position, dropping its suffixes from the
+     * index in one pass.
+     */
+    private CourseCatalogSnapshot removing(int position, long nextVersion, CourseNameTrie updatedNames) {
+        Entry[] nextEntries = new Entry[entries.length - 1];
+        String[] nextKeys = new String[entries.length - 1];
+        System.arraycopy(entries, 0, nextEntries, 0, position);
+        System.arraycopy(entries, position + 1, nextEntries, position, entries.length - position - 1);
+        System.arraycopy(keys, 0, nextKeys, 0, position);
+        System.arraycopy(keys, position + 1, nextKeys, position, keys.length - position - 1);
+
+        int suffixCount = suffixStarts.length - keys[position].length();
+        int[] nextSuffixEntries = new int[suffixCount];
+        int[] nextSuffixStarts = new int[suffixCount];
+        int out = 0;
+        for (int i = 0; i < suffixStarts.length; i++) {
+            int entry = suffixEntries[i];
+            if (entry != position) {
+                nextSuffixEntries[out] = entry > position ? entry - 1 : entry;
+                nextSuffixStarts[out++] = suffixStarts[i];
+            }
+        }
+        return new CourseCatalogSnapshot(nextVersion, nextEntries, nextKeys, nextSuffixEntries, nextSuffixStarts,
+                updatedNames);
+    }
+
+    /**
+     * Returns the next snapshot with a course this snapshot does not hold, merging its sorted
+     * suffixes into the index in one pass.
+     */
+    private CourseCatalogSnapshot inserting(Entry entry, CourseNameTrie updatedNames) {
+        int position = -(Arrays.binarySearch(entries, entry, NAME_ORDER) + 1);
+        Entry[] nextEntries = new Entry[entries.length + 1];
+        String[] nextKeys = new String[entries.length + 1];
+        System.arraycopy(entries, 0, nextEntries, 0, position);
+        System.arraycopy(entries, position, nextEntries, position + 1, entries.length - position);
+        System.arraycopy(keys, 0, nextKeys, 0, position);
+        System.arraycopy(keys, position, nextKeys, position + 1, keys.length - position);
+        nextEntries[position] = entry;
+        String key = key(entry.view().nameOfCourse());
+        nextKeys[position] = key;
+
+        long[] added = new long[key.length()];
+        for (int start = 0; start < key.length(); start++) {
+            added[start] = suffix(position, start);
+        }
+        sortSuffixes(nextKeys, added);
+
+        int suffixCount = suffixStarts.length + added.length;
+        int[] nextSuffixEntries = new int[suffixCount];
+        int[] nextSuffixStarts = new int[suffixCount];
+        int from = 0;
+        int out = 0;
+        for (long suffix : added) {
+            int start = (int) suffix;
+            int low = from;
+            int high = suffixStarts.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compareText(keys[suffixEntries[middle]], suffixStarts[middle], key, start) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            for (; from < low; from++, out++) {
+                nextSuffixEntries[out] = suffixEntries[from] >= position ? suffixEntries[from] + 1 : suffixEntries[from];
+                nextSuffixStarts[out] = suffixStarts[from];
+            }
+            nextSuffixEntries[out] = position;
+            nextSuffixStarts[out++] = start;
+        }
+        for (; from < suffixStarts.length; from++, out++) {
+            nextSuffixEntries[out] = suffixEntries[from] >= position ? suffixEntries[from] + 1 : suffixEntries[from];
+            nextSuffixStarts[out] = suffixStarts[from];
+        }
+        return new CourseCatalogSnapshot(version + 1, nextEntries, nextKeys, nextSuffixEntries, nextSuffixStarts,
+                updatedNames);
+    }
+
+    /**
+     * Finds a course by id.
+     *
+     * @param id the course id
+     * @return the course, or {@code null} if the snapshot does not hold it
+     */
+    Entry find(UUID id) {
+        Integer position = positions.get(id);
+        return position == null ? null : entries[position];
+    }
+
+    /**
+     * Finds the courses whose name contains the given text, ignoring case, ordered by name.
+     *
+     * @param text the text to look for; empty matches every course
+     * @return the matching courses
+     */
+    List<CourseView> search(String text) {
+        String query = key(text);
+        if (query.isEmpty()) {
+            return Arrays.stream(entries).map(Entry::view).toList();
+        }
+
+        int low = 0;
+        int high = suffixStarts.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareSuffix(middle, query) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        boolean[] matched = new boolean[entries.length];
+        int count = 0;
+        for (int i = low; i < suffixStarts.length && keys[suffixEntries[i]].startsWith(query, suffixStarts[i]); i++) {
+            if (!matched[suffixEntries[i]]) {
+                matched[suffixEntries[i]] = true;
+                count++;
+            }
+        }
+
+        List<CourseView> courses = new ArrayList<>(count);
+        for (int i = 0; i < entries.length && courses.size() < count; i++) {
+            if (matched[i]) {
+                courses.add(entries[i].view());
+            }
+        }
+        return courses;
+    }
+
+    /**
+     * Finds the courses whose name starts with the given prefix, ignoring case.
+     *
+     * @param prefix the text typed so far
+     * @param limit  the maximum number of courses to return
+     * @return the courses, in case-folded name order
+     */
+    List<CourseSuggestion> complete(String prefix, int limit) {
+        return names.complete(prefix, limit);
+    }
+
+    /**
+     * Returns the prefix trie of the course names.
+     */
+    CourseNameTrie names() {
+        return names;
+    }
+
+    /**
+     * Returns the catalog version of this snapshot, incremented by every change.
+     */
+    long version() {
+        return version;
+    }
+
+    /**
+     * Returns the number of courses.
+     */
+    int size() {
+        return entries.length;
+    }
+
+    /**
+     * Compares the suffix at position {@code i} of the suffix index with the query, looking
+     * only at the first {@code query.length()} characters of the suffix.
+     */
+    private int compareSuffix(int i, String query) {
+        String key = keys[suffixEntries[i]];
+        int start = suffixStarts[i];
+        int length = Math.min(key.length() - start, query.length());
+        for (int c = 0; c < length; c++) {
+            int difference = key.charAt(start + c) - query.charAt(c);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return (key.length() - start) - query.length() < 0 ? -1 : 0;
+    }
+
+    /**
+     * Sorts encoded suffixes of the given keys with a merge sort on the primitive array, so no
+     * suffix is boxed.
+     */
+    private static void sortSuffixes(String[] keys, long[] suffixes) {
+        long[] buffer = new long[suffixes.length];
+        for (int width = 1; width < suffixes.length; width *= 2) {
+            for (int low = 0; low < suffixes.length; low += 2 * width) {
+                int middle = Math.min(low + width, suffixes.length);
+                int high = Math.min(low + 2 * width, suffixes.length);
+                int left = low;
+                int right = middle;
+                int out = low;
+                while (left < middle && right < high) {
+                    buffer[out++] = compareSuffixes(keys, suffixes[right], suffixes[left]) < 0
+                            ? suffixes[right++]
+                            : suffixes[left++];
+                }
+                while (left < middle) {
+                    buffer[out++] = suffixes[left++];
+                }
+                while (right < high) {
+                    buffer[out++] = suffixes[right++];
+                }
+            }
+            System.arraycopy(buffer, 0, suffixes, 0, suffixes.length);
+        }
+    }
+
+    private static int compareSuffixes(String[] keys, long a, long b) {
+        return compareText(keys[(int) (a >>> 32)], (int) a, keys[(int) (b >>> 32)], (int) b);
+    }
+
+    private static int compareText(String first, int firstStart, String second, int secondStart) {
+        int length = Math.min(first.length() - firstStart, second.length() - secondStart);
+        for (int c = 0; c < length; c++) {
+            int difference = first.charAt(firstStart + c) - second.charAt(secondStart + c);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return Integer.compare(first.length() - firstStart, second.length() - secondStart);
+    }
+
+    /**
+     * Encodes the suffix starting at {@code start} of the key of entry {@code entry}.
+     */
+    private static long suffix(int entry, int start) {
+        return ((long) entry << 32) | start;
+    }
+
+    private static CourseSuggestion suggestionOf(Entry entry) {
+        return new CourseSuggestion(entry.view().id(), entry.view().nameOfCourse());
+    }
+
+    private static String key(String name) {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,321 @@
+package devnastapi.devnestapi.course.catalog;
+
+import devnastapi.devnestapi.course.dto.CourseSuggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Immutable radix trie of case-folded course names, answering prefix completions.
+ *
+ * <p>Each edge holds a run of characters rather than a single one, so a node exists only where
+ * names branch or end: a catalog of {@code n} names has fewer than {@code 2n} nodes. A node keeps
+ * its children in two parallel arrays, the first character of each edge sorted for binary search,
+ * and leaves share one empty array instead of allocating their own.</p>
+ *
+ * <p>Changes copy only the nodes on the path to the changed name and share everything else with
+ * the previous trie, so adding or removing a course costs {@code O(name length)} and leaves the
+ * previous trie intact for readers still holding it. Removals merge a node left with a single
+ * child into it, which keeps the trie compact.</p>
+ *
+ * <p>A completion walks down the prefix and then visits the subtree in order, stopping after
+ * {@code limit} courses: the cost depends on the prefix and the limit, not on the catalog size.</p>
+ */
+final class CourseNameTrie {
+
+    private static final char[] NO_CHARS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final CourseSuggestion[] NO_COURSES = new CourseSuggestion[0];
+
+    /**
+     * Order of the courses sharing one folded name, the same as in the catalog snapshot.
+     */
+    private static final Comparator<CourseSuggestion> COURSE_ORDER = Comparator.comparing(CourseSuggestion::id);
+
+    /*
+     * Rough 64-bit JVM sizes with compressed references, used by the heap estimate.
+     */
+    private static final long OBJECT_HEADER = 12;
+    private static final long ARRAY_HEADER = 16;
+    private static final long REFERENCE = 4;
+
+    static final CourseNameTrie EMPTY = new CourseNameTrie(new Node(NO_CHARS, NO_CHARS, NO_CHILDREN, NO_COURSES), 0);
+
+    private final Node root;
+    private final int size;
+
+    private CourseNameTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns a trie that also holds the given course.
+     *
+     * @param course the course; its name must not already be indexed for the same id
+     * @return the new trie; this trie is unchanged
+     */
+    CourseNameTrie with(CourseSuggestion course) {
+        return new CourseNameTrie(insert(root, fold(course.name()), 0, course), size + 1);
+    }
+
+    /**
+     * Returns a trie without the given course.
+     *
+     * @param name the name the course was indexed with
+     * @param id   the course id
+     * @return the new trie, or this trie if it does not hold the course
+     */
+    CourseNameTrie without(String name, UUID id) {
+        Node updated = remove(root, fold(name), 0, id);
+        if (updated == root) {
+            return this;
+        }
+        return new CourseNameTrie(updated == null ? EMPTY.root : updated, size - 1);
+    }
+
+    /**
+     * Finds the courses whose name starts with the given prefix, ignoring case.
+     *
+     * @param prefix the text typed so far
+     * @param limit  the maximum number of courses to return
+     * @return the courses, in case-folded name order
+     */
+    List<CourseSuggestion> complete(String prefix, int limit) {
+        String key = fold(prefix);
+        if (key.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        Node node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            int index = Arrays.binarySearch(node.firsts, key.charAt(offset));
+            if (index < 0) {
+                return List.of();
+            }
+            Node child = node.children[index];
+            int remaining = key.length() - offset;
+            int compared = Math.min(remaining, child.label.length);
+            for (int i = 1; i < compared; i++) {
+                if (child.label[i] != key.charAt(offset + i)) {
+                    return List.of();
+                }
+            }
+            offset += compared;
+            node = child;
+        }
+
+        List<CourseSuggestion> courses = new ArrayList<>(Math.min(limit, 16));
+        collect(node, limit, courses);
+        return courses;
+    }
+
+    /**
+     * Returns the number of indexed courses.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Estimates the heap retained by the trie nodes and arrays, in bytes.
+     *
+     * <p>Excludes the {@link CourseSuggestion} objects and their names and ids, which the
+     * catalog shares with its other indexes.</p>
+     */
+    long estimatedHeapBytes() {
+        return estimatedHeapBytes(root);
+    }
+
+    private static Node insert(Node node, String key, int offset, CourseSuggestion course) {
+        if (offset == key.length()) {
+            return node.withCourses(added(node.courses, course));
+        }
+
+        char first = key.charAt(offset);
+        int index = Arrays.binarySearch(node.firsts, first);
+        if (index < 0) {
+            Node leaf = new Node(key.substring(offset).toCharArray(), NO_CHARS, NO_CHILDREN, new CourseSuggestion[] {course});
+            return node.withChildInserted(-index - 1, leaf);
+        }
+
+        Node child = node.children[index];
+        int common = 1;
+        while (common < child.label.length && offset + common < key.length()
+                && child.label[common] == key.charAt(offset + common)) {
+            common++;
+        }
+        if (common == child.label.length) {
+            return node.withChildReplaced(index, insert(child, key, offset + common, course));
+        }
+
+        // The key leaves the edge midway: split it where they diverge
+        Node tail = child.withLabel(Arrays.copyOfRange(child.label, common, child.label.length));
+        Node split = new Node(Arrays.copyOf(child.label, common), new char[] {tail.label[0]}, new Node[] {tail}, NO_COURSES);
+        return node.withChildReplaced(index, insert(split, key, offset + common, course));
+    }
+
+    /**
+     * @return the updated node, the same node if the course was not found, or {@code null} if
+     *         the node holds nothing any more
+     */
+    private static Node remove(Node node, String key, int offset, UUID id) {
+        Node updated;
+        if (offset == key.length()) {
+            CourseSuggestion[] courses = removed(node.courses, id);
+            if (courses == node.courses) {
+                return node;
+            }
+            updated = node.withCourses(courses);
+        } else {
+            int index = Arrays.binarySearch(node.firsts, key.charAt(offset));
+            if (index < 0) {
+                return node;
+            }
+            Node child = node.children[index];
+            if (key.length() - offset < child.label.length
+                    || !key.regionMatches(offset, new String(child.label), 0, child.label.length)) {
+                return node;
+            }
+            Node updatedChild = remove(child, key, offset + child.label.length, id);
+            if (updatedChild == child) {
+                return node;
+            }
+            updated = updatedChild == null ? node.withChildRemoved(index) : node.withChildReplaced(index, updatedChild);
+        }
+
+        if (updated.courses.length == 0 && updated.children.length == 0) {
+            return null;
+        }
+        if (node.label.length > 0 && updated.courses.length == 0 && updated.children.length == 1) {
+            // A pass-through node: merge it with its only child
+            Node child = updated.children[0];
+            char[] label = Arrays.copyOf(updated.label, updated.label.length + child.label.length);
+            System.arraycopy(child.label, 0, label, updated.label.length, child.label.length);
+            return child.withLabel(label);
+        }
+        return updated;
+    }
+
+    private static boolean collect(Node node, int limit, List<CourseSuggestion> courses) {
+        for (CourseSuggestion course : node.courses) {
+            courses.add(course);
+            if (courses.size() == limit) {
+                return true;
+            }
+        }
+        for (Node child : node.children) {
+            if (collect(child, limit, courses)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static CourseSuggestion[] added(CourseSuggestion[] courses, CourseSuggestion course) {
+        CourseSuggestion[] updated = Arrays.copyOf(courses, courses.length + 1);
+        updated[courses.length] = course;
+        Arrays.sort(updated, COURSE_ORDER);
+        return updated;
+    }
+
+    private static CourseSuggestion[] removed(CourseSuggestion[] courses, UUID id) {
+        for (int i = 0; i < courses.length; i++) {
+            if (courses[i].id().equals(id)) {
+                if (courses.length == 1) {
+                    return NO_COURSES;
+                }
+                CourseSuggestion[] updated = new CourseSuggestion[courses.length - 1];
+                System.arraycopy(courses, 0, updated, 0, i);
+                System.arraycopy(courses, i + 1, updated, i, courses.length - i - 1);
+                return updated;
+            }
+        }
+        return courses;
+    }
+
+    private static long estimatedHeapBytes(Node node) {
+        long bytes = align(OBJECT_HEADER + 4 * REFERENCE) + align(ARRAY_HEADER + 2L * node.label.length);
+        if (node.children.length > 0) {
+            bytes += align(ARRAY_HEADER + 2L * node.firsts.length) + align(ARRAY_HEADER + REFERENCE * node.children.length);
+        }
+        if (node.courses.length > 0) {
+            bytes += align(ARRAY_HEADER + REFERENCE * node.courses.length);
+        }
+        for (Node child : node.children) {
+            bytes += estimatedHeapBytes(child);
+        }
+        return bytes;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    static String fold(String name) {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A trie node: the characters of the edge leading to it, its children and the courses whose
+     * folded name ends here. Never modified once built.
+     */
+    private static final class Node {
+
+        private final char[] label;
+        private final char[] firsts;
+        private final Node[] children;
+        private final CourseSuggestion[] courses;
+
+        Node(char[] label, char[] firsts, Node[] children, CourseSuggestion[] courses) {
+            this.label = label;
+            this.firsts = firsts;
+            this.children = children;
+            this.courses = courses;
+        }
+
+        Node withLabel(char[] label) {
+            return new Node(label, firsts, children, courses);
+        }
+
+        Node withCourses(CourseSuggestion[] courses) {
+            return new Node(label, firsts, children, courses);
+        }
+
+        Node withChildReplaced(int index, Node child) {
+            Node[] updated = children.clone();
+            updated[index] = child;
+            return new Node(label, firsts, updated, courses);
+        }
+
+        Node withChildInserted(int index, Node child) {
+            char[] updatedFirsts = new char[firsts.length + 1];
+            Node[] updatedChildren = new Node[children.length + 1];
+            System.arraycopy(firsts, 0, updatedFirsts, 0, index);
+            System.arraycopy(children, 0, updatedChildren, 0, index);
+            updatedFirsts[index] = child.label[0];
+            updatedChildren[index] = child;
+            System.arraycopy(firsts, index, updatedFirsts, index + 1, firsts.length - index);
+            System.arraycopy(children, index, updatedChildren, index + 1, children.length - index);
+            return new Node(label, updatedFirsts, updatedChildren, courses);
+        }
+
+        Node withChildRemoved(int index) {
+            if (children.length == 1) {
+                return new Node(label, NO_CHARS, NO_CHILDREN, courses);
+            }
+            char[] updatedFirsts = new char[firsts.length - 1];
+            Node[] updatedChildren = new Node[children.length - 1];
+            System.arraycopy(firsts, 0, updatedFirsts, 0, index);
+            System.arraycopy(children, 0, updatedChildren, 0, index);
+            System.arraycopy(firsts, index + 1, updatedFirsts, index, firsts.length - index - 1);
+            System.arraycopy(children, index + 1, updatedChildren, index, children.length - index - 1);
+            return new Node(label, updatedFirsts, updatedChildren, courses);
+        }
+    }
+}
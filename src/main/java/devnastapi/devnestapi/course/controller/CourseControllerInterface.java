@@ -1,14 +1,19 @@
 package devnastapi.devnestapi.course.controller;
 
 import devnastapi.devnestapi.common.genericinterfaces.GenericControllerInterface;
+import devnastapi.devnestapi.common.helpers.ETags;
 import devnastapi.devnestapi.common.helpers.Helpers;
 import devnastapi.devnestapi.course.dto.CourseDto;
 import devnastapi.devnestapi.course.mapper.CourseMapper;
 import devnastapi.devnestapi.course.service.CourseService;
+import devnastapi.devnestapi.student.service.StudentService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.UUID;
 
 /**
  * REST controller responsible for managing Course resources.
@@ -23,13 +28,16 @@ public class CourseControllerInterface implements GenericControllerInterface {
     private final CourseMapper mapper;
     private final CourseService service;
     private final Helpers helpers;
+    private final StudentService studentService;
 
     public CourseControllerInterface(CourseMapper mapper,
                                      CourseService service,
-                                     Helpers helpers){
+                                     Helpers helpers,
+                                     StudentService studentService){
         this.helpers = helpers;
         this.service = service;
         this.mapper = mapper;
+        this.studentService = studentService;
 }
     /**
      * Creates a new instance of {@link CourseControllerInerface} using constructor injection.
@@ -85,17 +93,123 @@ public class CourseControllerInterface implements GenericControllerInterface {
         return ResponseEntity.ok(service.getCourseByName(name));
     }
 
+    /**
+     * Suggests courses whose name starts with the typed prefix, ignoring case, for autocompletion.
+     * <p>
+     * Accessible to <b>TEACHER</b>, <b>ADMIN</b>, and <b>STUDENT</b>.
+     *
+     * @param prefix The beginning of the course name typed so far.
+     * @param limit  The maximum number of suggestions; optional.
+     * @return ResponseEntity containing the id and name of the matching courses, ordered by name.
+     */
+    @PreAuthorize("hasAnyRole('TEACHER','ADMIN','STUDENT')")
+    @GetMapping("/suggest")
+    public ResponseEntity<Object> suggestCourses(@RequestParam String prefix,
+                                                 @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(service.suggestCourses(prefix, limit));
+    }
+
     /**
      * Retrieves a specific course by its ID.
      * <p>
      * Accessible to <b>TEACHER</b>, <b>ADMIN</b>, and <b>STUDENT</b>.
+     * <p>
+     * Sends the course version as {@code ETag} and its last modification as {@code Last-Modified}; a matching
+     * {@code If-None-Match} or {@code If-Modified-Since} gets a 304 after a version-only lookup.
      *
      * @param id The ID of the course, received as String.
-     * @return ResponseEntity containing the requested course.
+     * @param request The current request, checked for conditional headers.
+     * @return ResponseEntity containing the requested course, or 304 without body if the client's copy is current.
      */
     @PreAuthorize("hasAnyRole('TEACHER','ADMIN','STUDENT')")
     @GetMapping("/{id}")
-    public ResponseEntity<Object> getCourseById(@PathVariable String id) {
-        return ResponseEntity.ok(service.getCourseById(helpers.idFromString(id)));
+    public ResponseEntity<Object> getCourseById(@PathVariable String id, WebRequest request) {
+        UUID courseId = helpers.idFromString(id);
+        if (ETags.notModified(request, service.getCourseVersion(courseId))) {
+            return null;
+        }
+        return ResponseEntity.ok(service.getCourseById(courseId));
+    }
+
+    /**
+     * Lists the students enrolled in a course, one page at a time.
+     * <p>
+     * Only users with roles <b>TEACHER</b> or <b>ADMIN</b> can perform this action.
+     * <p>
+     * Pages are ordered by student id; pass the {@code nextCursor} of a page to get the next one.
+     *
+     * @param id The ID of the course, received as String.
+     * @param cursor The cursor of the previous page; absent for the first page.
+     * @param size The page size; optional.
+     * @return ResponseEntity containing the page of enrolled students.
+     */
+    @PreAuthorize("hasAnyRole('TEACHER','ADMIN')")
+    @GetMapping("/{id}/students")
+    public ResponseEntity<Object> getCourseRoster(@PathVariable String id,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Integer size) {
+        UUID courseId = helpers.idFromString(id);
+        service.checkCourseExists(courseId);
+        return ResponseEntity.ok(studentService.listCourseRoster(courseId, cursor, size));
+    }
+
+    /**
+     * Counts the students enrolled in a course and the teachers assigned to it.
+     * <p>
+     * Accessible to <b>TEACHER</b>, <b>ADMIN</b>, and <b>STUDENT</b>.
+     *
+     * @param id The ID of the course, received as String.
+     * @return ResponseEntity containing the numbers of students and teachers.
+     */
+    @PreAuthorize("hasAnyRole('TEACHER','ADMIN','STUDENT')")
+    @GetMapping("/{id}/enrollment")
+    public ResponseEntity<Object> getCourseEnrollment(@PathVariable String id) {
+        return ResponseEntity.ok(service.getCourseEnrollment(helpers.idFromString(id)));
+    }
+
+    /**
+     * Lists the teachers assigned to a course.
+     * <p>
+     * Accessible to <b>TEACHER</b>, <b>ADMIN</b>, and <b>STUDENT</b>.
+     *
+     * @param id The ID of the course, received as String.
+     * @return ResponseEntity containing the teachers of the course, ordered by name.
+     */
+    @PreAuthorize("hasAnyRole('TEACHER','ADMIN','STUDENT')")
+    @GetMapping("/{id}/teachers")
+    public ResponseEntity<Object> getCourseTeachers(@PathVariable String id) {
+        return ResponseEntity.ok(service.getCourseTeachers(helpers.idFromString(id)));
+    }
+
+    /**
+     * Assigns a teacher to a course.
+     * <p>
+     * Only users with role <b>ADMIN</b> can perform this action.
+     *
+     * @param id The ID of the course, received as String.
+     * @param teacherId The ID of the teacher, received as String.
+     * @return ResponseEntity confirming the assignment.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/{id}/teachers/{teacherId}")
+    public ResponseEntity<Object> assignTeacher(@PathVariable String id, @PathVariable String teacherId) {
+        service.assignTeacher(helpers.idFromString(id), helpers.idFromString(teacherId));
+        return ResponseEntity.ok("Teacher assigned successfully.");
+    }
+
+    /**
+     * Removes a teacher from a course.
+     * <p>
+     * Only users with role <b>ADMIN</b> can perform this action.
+     *
+     * @param id The ID of the course, received as String.
+     * @param teacherId The ID of the teacher, received as String.
+     * @return ResponseEntity confirming the removal.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping("/{id}/teachers/{teacherId}")
+    public ResponseEntity<Object> unassignTeacher(@PathVariable String id, @PathVariable String teacherId) {
+        service.unassignTeacher(helpers.idFromString(id), helpers.idFromString(teacherId));
+        return ResponseEntity.ok("Teacher removed from the course.");
     }
 }
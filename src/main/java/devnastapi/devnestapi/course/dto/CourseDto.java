@@ -1,12 +1,13 @@
 package devnastapi.devnestapi.course.dto;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 public record CourseDto(String name
         , int workload
         , String description
         , LocalDate createDate
-        , LocalDate lastModify) {
+        , Instant lastModify) {
 
     @Override
     public LocalDate createDate() {
@@ -14,7 +15,7 @@ public record CourseDto(String name
     }
 
     @Override
-    public LocalDate lastModify() {
+    public Instant lastModify() {
         return lastModify;
     }
 
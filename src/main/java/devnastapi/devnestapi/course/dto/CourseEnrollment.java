@@ -0,0 +1,15 @@
+package devnastapi.devnestapi.course.dto;
+
+import java.util.UUID;
+
+/**
+ * Number of students and teachers linked to a course.
+ *
+ * @param courseId the unique identifier of the course
+ * @param students the number of students enrolled in the course
+ * @param teachers the number of teachers assigned to the course
+ */
+public record CourseEnrollment(UUID courseId
+        , long students
+        , long teachers) {
+}
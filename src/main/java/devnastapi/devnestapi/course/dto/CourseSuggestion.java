@@ -0,0 +1,13 @@
+package devnastapi.devnestapi.course.dto;
+
+import java.util.UUID;
+
+/**
+ * An autocomplete suggestion for a course name.
+ *
+ * @param id   the unique identifier of the course
+ * @param name the name of the course
+ */
+public record CourseSuggestion(UUID id
+        , String name) {
+}
@@ -0,0 +1,15 @@
+package devnastapi.devnestapi.course.dto;
+
+import java.util.UUID;
+
+/**
+ * A teacher assigned to a course, as listed by the course's teachers endpoint.
+ *
+ * @param id   the unique identifier of the teacher
+ * @param name the name of the teacher
+ * @param mail the email address of the teacher
+ */
+public record CourseTeacher(UUID id
+        , String name
+        , String mail) {
+}
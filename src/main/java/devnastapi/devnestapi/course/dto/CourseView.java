@@ -0,0 +1,20 @@
+package devnastapi.devnestapi.course.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Read-only view of a course as returned by the GET endpoints.
+ * <p>
+ * Searches select it with a JPQL constructor expression, so they read only these columns and never
+ * hydrate or dirty-track a {@code Course} entity. Lookups by id build it from the entity instead,
+ * which the second-level cache usually holds.
+ */
+public record CourseView(UUID id
+        , String nameOfCourse
+        , Integer workload
+        , String description
+        , LocalDate createDate
+        , Instant lastModify) {
+}
@@ -1,10 +1,16 @@
 package devnastapi.devnestapi.course.model;
 
+import devnastapi.devnestapi.common.cache.EntityCacheConfiguration;
+import devnastapi.devnestapi.common.idgenerator.UuidV7;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
@@ -17,17 +23,24 @@ import java.util.UUID;
  * Each course is identified by a UUID and automatically tracked with auditing
  * timestamps.
  * </p>
+ *
+ * <p>
+ * Courses change rarely and are read on most requests, so they are kept in the
+ * {@code course} second-level cache region, see {@link EntityCacheConfiguration}.
+ * </p>
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfiguration.COURSE_REGION)
 @Table(name = "course", schema = "public")
+@EntityListeners(AuditingEntityListener.class)
 public class Course {
 
     /**
      * Unique identifier of the course.
-     * Automatically generated using UUID strategy.
+     * Generated by the application as a time-ordered UUIDv7.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "course")
     private UUID id;
 
@@ -57,11 +70,11 @@ public class Course {
 
     /**
      * Timestamp of the latest update performed on the course.
-     * Automatically handled by Spring Data auditing.
+     * Automatically handled by Spring Data auditing; served as {@code Last-Modified}.
      */
     @LastModifiedDate
     @Column(name = "last_modify")
-    private LocalDate lastModify;
+    private Instant lastModify;
 
     /**
      * Timestamp of the course creation.
@@ -71,6 +84,14 @@ public class Course {
     @Column(name = "create_date")
     private LocalDate createDate;
 
+    /**
+     * Optimistic locking version, incremented by every update.
+     * Served as the entity tag of the course; rows created before versioning are backfilled with 0 by {@code schema.sql}.
+     */
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     // ------------------------------------------------------
     //                    Getters and Setters
     // ------------------------------------------------------
@@ -107,11 +128,11 @@ public class Course {
         this.description = description;
     }
 
-    public LocalDate getLastModify() {
+    public Instant getLastModify() {
         return lastModify;
     }
 
-    public void setLastModify(LocalDate lastModify) {
+    public void setLastModify(Instant lastModify) {
         this.lastModify = lastModify;
     }
 
@@ -122,4 +143,8 @@ public class Course {
     public void setCreateDate(LocalDate createDate) {
         this.createDate = createDate;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
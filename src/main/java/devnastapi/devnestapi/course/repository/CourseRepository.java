@@ -1,12 +1,75 @@
 package devnastapi.devnestapi.course.repository;
 
+import devnastapi.devnestapi.common.helpers.LikePatterns;
+import devnastapi.devnestapi.common.helpers.ResourceVersion;
+import devnastapi.devnestapi.course.dto.CourseSuggestion;
+import devnastapi.devnestapi.course.dto.CourseView;
 import devnastapi.devnestapi.course.model.Course;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface CourseRepository extends JpaRepository<Course, UUID> {
 
     boolean findByNameOfCourse(String name);
 
+    /**
+     * Reads the response columns of one course, without loading the entity.
+     */
+    @Query("""
+            select new devnastapi.devnestapi.course.dto.CourseView(
+                c.id, c.nameOfCourse, c.workload, c.description, c.createDate, c.lastModify)
+            from Course c
+            where c.id = :id
+            """)
+    Optional<CourseView> findViewById(UUID id);
+
+    /**
+     * Reads the version and last modification of one course, for conditional GETs.
+     */
+    @Query("""
+            select new devnastapi.devnestapi.common.helpers.ResourceVersion(c.version, c.lastModify)
+            from Course c
+            where c.id = :id
+            """)
+    Optional<ResourceVersion> findVersionById(UUID id);
+
+    /**
+     * Reads the response columns of every course whose name contains the given text, ignoring case.
+     * The text must be escaped with {@link LikePatterns#escape(String)}.
+     */
+    @Query("""
+            select new devnastapi.devnestapi.course.dto.CourseView(
+                c.id, c.nameOfCourse, c.workload, c.description, c.createDate, c.lastModify)
+            from Course c
+            where lower(c.nameOfCourse) like lower(concat('%', :name, '%')) escape '\\'
+            """)
+    List<CourseView> findViewsByNameContaining(String name);
+
+    /**
+     * Reads the id and name of the first courses, by name, whose name starts with the given prefix, ignoring case.
+     * The prefix must be escaped with {@link LikePatterns#escape(String)}.
+     */
+    @Query("""
+            select new devnastapi.devnestapi.course.dto.CourseSuggestion(c.id, c.nameOfCourse)
+            from Course c
+            where lower(c.nameOfCourse) like concat(lower(:prefix), '%') escape '\\'
+            order by lower(c.nameOfCourse), c.id
+            """)
+    List<CourseSuggestion> findSuggestionsByNameStartingWith(String prefix, Limit limit);
+
+    /**
+     * Deletes a course with a single {@code DELETE} statement and returns the number of removed rows.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from Course c where c.id = :id")
+    int deleteCourseById(UUID id);
+
 }
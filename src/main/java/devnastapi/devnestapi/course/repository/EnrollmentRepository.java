@@ -0,0 +1,251 @@
+package devnastapi.devnestapi.course.repository;
+
+import devnastapi.devnestapi.course.dto.CourseTeacher;
+import devnastapi.devnestapi.student.dto.StudentListItem;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Enrollments of students and assignments of teachers to courses.
+ * <p>
+ * Both relations are tables keyed by {@code (course_id, user id)}, created by {@code schema.sql}. A roster page
+ * and a per-course count are therefore a range of the primary key index, instead of a scan of the free-text
+ * {@code course} columns.
+ * <p>
+ * Students and teachers still carry the name of their course as entered. The statements linking them match that
+ * name to a course, ignoring case, and leave names of courses that do not exist unlinked until such a course is
+ * registered.
+ */
+@Repository
+public class EnrollmentRepository {
+
+    private static final String DELETE_STALE_ENROLLMENTS = """
+            delete from public.enrollment e
+            using public.student s
+            where s.id = e.student_id
+              and e.student_id in (:students)
+              and not exists (select 1 from public.course c
+                              where c.course = e.course_id and lower(c.name_of_course) = lower(s.course))
+            """;
+
+    private static final String INSERT_ENROLLMENTS = """
+            insert into public.enrollment (course_id, student_id)
+            select c.course, s.id
+            from public.student s
+            join public.course c on lower(c.name_of_course) = lower(s.course)
+            where s.id in (:students)
+            on conflict do nothing
+            """;
+
+    private static final String ENROLL_BY_COURSE_NAME = """
+            insert into public.enrollment (course_id, student_id)
+            select :course, s.id
+            from public.student s
+            where lower(s.course) = lower(:name)
+            on conflict do nothing
+            """;
+
+    private static final String ASSIGN_BY_COURSE_NAME = """
+            insert into public.teaching_assignment (course_id, teacher_id)
+            select :course, t.id
+            from public.teacher t
+            where lower(t.course) = lower(:name)
+            on conflict do nothing
+            """;
+
+    private static final String ASSIGN_BY_TEACHER_COURSE = """
+            insert into public.teaching_assignment (course_id, teacher_id)
+            select c.course, t.id
+            from public.teacher t
+            join public.course c on lower(c.name_of_course) = lower(t.course)
+            where t.id = :teacher
+            on conflict do nothing
+            """;
+
+    private static final String UNASSIGN_BY_COURSE_NAME = """
+            delete from public.teaching_assignment a
+            using public.course c
+            where c.course = a.course_id
+              and a.teacher_id = :teacher
+              and lower(c.name_of_course) = lower(:name)
+            """;
+
+    private static final String ROSTER = """
+            select s.id, s.name, s.mail, s.course
+            from public.enrollment e
+            join public.student s on s.id = e.student_id
+            where e.course_id = :course
+            order by e.student_id
+            limit :limit
+            """;
+
+    private static final String ROSTER_AFTER = """
+            select s.id, s.name, s.mail, s.course
+            from public.enrollment e
+            join public.student s on s.id = e.student_id
+            where e.course_id = :course and e.student_id > :after
+            order by e.student_id
+            limit :limit
+            """;
+
+    private static final String COUNT_STUDENTS = "select count(*) from public.enrollment where course_id = :course";
+
+    private static final String COUNT_TEACHERS = "select count(*) from public.teaching_assignment where course_id = :course";
+
+    private static final String TEACHERS = """
+            select t.id, t.name, t.mail
+            from public.teaching_assignment a
+            join public.teacher t on t.id = a.teacher_id
+            where a.course_id = :course
+            order by t.name, t.id
+            """;
+
+    private static final String ASSIGN_TEACHER = """
+            insert into public.teaching_assignment (course_id, teacher_id)
+            select :course, t.id
+            from public.teacher t
+            where t.id = :teacher
+            on conflict do nothing
+            """;
+
+    private static final String UNASSIGN_TEACHER =
+            "delete from public.teaching_assignment where course_id = :course and teacher_id = :teacher";
+
+    private static final String TEACHER_EXISTS = "select count(*) from public.teacher where id = :teacher";
+
+    private static final RowMapper<StudentListItem> STUDENT_MAPPER = (rs, rowNum) -> new StudentListItem(
+            rs.getObject("id", UUID.class),
+            rs.getString("name"),
+            rs.getString("mail"),
+            rs.getString("course"));
+
+    private static final RowMapper<CourseTeacher> TEACHER_MAPPER = (rs, rowNum) -> new CourseTeacher(
+            rs.getObject("id", UUID.class),
+            rs.getString("name"),
+            rs.getString("mail"));
+
+    private final JdbcClient jdbcClient;
+
+    public EnrollmentRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcClient = JdbcClient.create(jdbcTemplate);
+    }
+
+    /**
+     * Brings the enrollments of the given students in line with the course name each of them carries.
+     * <p>
+     * Enrollments in a course of another name are removed and the course of the student's name is added; a student
+     * whose course does not exist ends up with no enrollment. Joins the current transaction, if any.
+     *
+     * @param studentIds the students whose course may have changed
+     */
+    public void syncStudents(Collection<UUID> studentIds) {
+        if (studentIds.isEmpty()) {
+            return;
+        }
+        jdbcClient.sql(DELETE_STALE_ENROLLMENTS).param("students", studentIds).update();
+        jdbcClient.sql(INSERT_ENROLLMENTS).param("students", studentIds).update();
+    }
+
+    /**
+     * Links a newly registered course to the students and teachers that already carry its name.
+     *
+     * @param courseId the course id
+     * @param name     the course name
+     */
+    public void linkByCourseName(UUID courseId, String name) {
+        jdbcClient.sql(ENROLL_BY_COURSE_NAME).param("course", courseId).param("name", name).update();
+        jdbcClient.sql(ASSIGN_BY_COURSE_NAME).param("course", courseId).param("name", name).update();
+    }
+
+    /**
+     * Assigns a teacher to the course its course name refers to, if such a course exists.
+     * <p>
+     * Assignments to other courses, made through {@link #assignTeacher(UUID, UUID)}, are kept. Joins the current
+     * transaction, if any, so the teacher row must already be flushed.
+     *
+     * @param teacherId the teacher id
+     */
+    public void linkTeacher(UUID teacherId) {
+        jdbcClient.sql(ASSIGN_BY_TEACHER_COURSE).param("teacher", teacherId).update();
+    }
+
+    /**
+     * Removes the assignment of a teacher to the course of the given name, after the teacher moved to another course.
+     *
+     * @param teacherId  the teacher id
+     * @param courseName the course name the teacher carried before
+     */
+    public void unlinkTeacher(UUID teacherId, String courseName) {
+        jdbcClient.sql(UNASSIGN_BY_COURSE_NAME).param("teacher", teacherId).param("name", courseName).update();
+    }
+
+    /**
+     * Reads one page of the students enrolled in a course, ordered by student id.
+     *
+     * @param courseId the course id
+     * @param after    the id of the last student of the previous page, or {@code null} for the first page
+     * @param limit    the maximum number of students to return
+     * @return the enrolled students whose id is greater than {@code after}
+     */
+    public List<StudentListItem> findRosterPage(UUID courseId, UUID after, int limit) {
+        var statement = after == null
+                ? jdbcClient.sql(ROSTER)
+                : jdbcClient.sql(ROSTER_AFTER).param("after", after);
+        return statement.param("course", courseId)
+                .param("limit", limit)
+                .query(STUDENT_MAPPER)
+                .list();
+    }
+
+    /**
+     * Counts the students enrolled in a course, from the primary key index.
+     */
+    public long countStudents(UUID courseId) {
+        return jdbcClient.sql(COUNT_STUDENTS).param("course", courseId).query(Long.class).single();
+    }
+
+    /**
+     * Counts the teachers assigned to a course, from the primary key index.
+     */
+    public long countTeachers(UUID courseId) {
+        return jdbcClient.sql(COUNT_TEACHERS).param("course", courseId).query(Long.class).single();
+    }
+
+    /**
+     * Reads the teachers assigned to a course, ordered by name.
+     */
+    public List<CourseTeacher> findTeachers(UUID courseId) {
+        return jdbcClient.sql(TEACHERS).param("course", courseId).query(TEACHER_MAPPER).list();
+    }
+
+    /**
+     * Assigns a teacher to a course.
+     *
+     * @return {@code false} if the teacher does not exist or was already assigned
+     */
+    public boolean assignTeacher(UUID courseId, UUID teacherId) {
+        return jdbcClient.sql(ASSIGN_TEACHER).param("course", courseId).param("teacher", teacherId).update() > 0;
+    }
+
+    /**
+     * Removes a teacher from a course.
+     *
+     * @return {@code false} if the teacher was not assigned to the course
+     */
+    public boolean unassignTeacher(UUID courseId, UUID teacherId) {
+        return jdbcClient.sql(UNASSIGN_TEACHER).param("course", courseId).param("teacher", teacherId).update() > 0;
+    }
+
+    /**
+     * Tells whether a teacher exists.
+     */
+    public boolean teacherExists(UUID teacherId) {
+        return jdbcClient.sql(TEACHER_EXISTS).param("teacher", teacherId).query(Long.class).single() > 0;
+    }
+}
@@ -1,17 +1,25 @@
 package devnastapi.devnestapi.course.service;
 
+import devnastapi.devnestapi.common.exceptions.usergenericexceptions.NotFoundUserException;
+import devnastapi.devnestapi.common.helpers.LikePatterns;
+import devnastapi.devnestapi.common.helpers.ResourceVersion;
+import devnastapi.devnestapi.course.catalog.CourseCatalog;
+import devnastapi.devnestapi.course.dto.CourseEnrollment;
+import devnastapi.devnestapi.course.dto.CourseSuggestion;
+import devnastapi.devnestapi.course.dto.CourseTeacher;
+import devnastapi.devnestapi.course.dto.CourseView;
 import devnastapi.devnestapi.course.exceptions.CourseAlredyExistsException;
 import devnastapi.devnestapi.course.exceptions.CourseNotFoundException;
 import devnastapi.devnestapi.course.model.Course;
 import devnastapi.devnestapi.course.repository.CourseRepository;
+import devnastapi.devnestapi.course.repository.EnrollmentRepository;
 import devnastapi.devnestapi.course.validator.CouseValidator;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Example;
-import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -19,6 +27,11 @@ import java.util.UUID;
  * <p>
  * Provides CRUD operations and search functionalities for courses.
  * Throws exceptions when business rules are violated.
+ * <p>
+ * Reads are served from the in-memory {@link CourseCatalog} once it is loaded, and from the database before;
+ * registrations and deletions are written to the database and then applied to the catalog.
+ * <p>
+ * Enrolled students and assigned teachers are read from the {@link EnrollmentRepository} relations, keyed by course.
  */
 @Service
 public class CourseService {
@@ -29,8 +42,21 @@ public class CourseService {
     @Autowired
     private CouseValidator validator;
 
+    @Autowired
+    private CourseCatalog catalog;
+
+    @Autowired
+    private EnrollmentRepository enrollments;
+
+    @Value("${devnest.courses.suggest.max-results:20}")
+    private int maxSuggestions;
+
+    private static final int DEFAULT_SUGGESTIONS = 10;
+
     /**
      * Registers a new course in the database.
+     * <p>
+     * Students and teachers whose course value already names the new course are enrolled in it and assigned to it.
      *
      * @param course The Course object containing data to be saved.
      * @return The saved Course object.
@@ -40,57 +66,169 @@ public class CourseService {
         if (validator.courseExistsByName(course.getNameOfCourse())) {
             throw new CourseAlredyExistsException("This course already exists");
         }
-        return courseRepository.save(course);
+        Course saved = courseRepository.save(course);
+        enrollments.linkByCourseName(saved.getId(), saved.getNameOfCourse());
+        catalog.put(saved);
+        return saved;
     }
 
     /**
      * Deletes a course by its UUID.
+     * <p>
+     * Issues a single conditional {@code DELETE}; a course that does not exist is detected from the affected
+     * row count, without a prior existence query.
      *
      * @param id The UUID of the course to delete.
      * @return true if the course was successfully deleted.
      * @throws CourseNotFoundException If the course does not exist.
      */
     public boolean deleteCourse(UUID id) {
-        if (!validator.courseExistsById(id)) {
+        if (courseRepository.deleteCourseById(id) == 0) {
             throw new CourseNotFoundException("This course does not exist");
         }
-        courseRepository.deleteById(id);
+        catalog.remove(id);
         return true;
     }
 
     /**
      * Retrieves a course by its UUID.
+     * <p>
+     * Answered from the catalog when it holds the course, without opening a transaction. Otherwise the entity is
+     * loaded by id, from the second-level cache when possible, in the repository's read-only transaction.
      *
      * @param id The UUID of the course to retrieve.
-     * @return Optional containing the found Course.
+     * @return The view of the found course.
      * @throws CourseNotFoundException If no course is found with the given ID.
      */
-    public Optional<Course> getCourseById(UUID id) {
-        Optional<Course> course = courseRepository.findById(id);
-        if (course.isEmpty()) {
-            throw new CourseNotFoundException("This course does not exist");
+    public CourseView getCourseById(UUID id) {
+        CourseView cached = catalog.find(id);
+        if (cached != null) {
+            return cached;
         }
-        return course;
+        return courseRepository.findById(id)
+                .map(course -> new CourseView(course.getId(), course.getNameOfCourse(), course.getWorkload(),
+                        course.getDescription(), course.getCreateDate(), course.getLastModify()))
+                .orElseThrow(() -> new CourseNotFoundException("This course does not exist"));
     }
 
     /**
-     * Searches for courses by name.
+     * Reads the version and last modification of a course, from the catalog or else without loading the course.
+     *
+     * @param id The UUID of the course.
+     * @return The validators of the course, used to answer conditional GETs.
+     * @throws CourseNotFoundException If no course is found with the given ID.
+     */
+    public ResourceVersion getCourseVersion(UUID id) {
+        ResourceVersion cached = catalog.findVersion(id);
+        if (cached != null) {
+            return cached;
+        }
+        return courseRepository.findVersionById(id)
+                .orElseThrow(() -> new CourseNotFoundException("This course does not exist"));
+    }
+
+    /**
+     * Searches for courses by name, ignoring case.
+     * <p>
+     * Searched in the catalog's sorted suffix index once it is loaded, with results ordered by name. Before that,
+     * only the response columns are read, in the repository's read-only transaction, so no entity is hydrated or
+     * flushed.
      *
      * @param name The name or partial name of the course to search.
-     * @return List of courses matching the given name.
+     * @return List of views of the courses matching the given name.
      */
-    public List<Course> getCourseByName(String name) {
+    public List<CourseView> getCourseByName(String name) {
+        if (catalog.isReady()) {
+            return catalog.search(name);
+        }
+        return courseRepository.findViewsByNameContaining(LikePatterns.escape(name));
+    }
 
-        var course = new Course();
-        course.setNameOfCourse(name);
+    /**
+     * Suggests courses whose name starts with the given prefix, ignoring case, for autocompletion.
+     * <p>
+     * Completed from the catalog's name trie once it is loaded, walking only the prefix and the courses returned.
+     * Before that, the id and name of the first matching courses are read from the database.
+     *
+     * @param prefix The text typed so far; a blank prefix suggests nothing.
+     * @param limit  The maximum number of suggestions, 10 when absent, capped at
+     *               {@code devnest.courses.suggest.max-results}.
+     * @return The matching courses, ordered by name.
+     */
+    public List<CourseSuggestion> suggestCourses(String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        int count = Math.max(1, Math.min(limit == null ? DEFAULT_SUGGESTIONS : limit, maxSuggestions));
+        if (catalog.isReady()) {
+            return catalog.suggest(prefix, count);
+        }
+        return courseRepository.findSuggestionsByNameStartingWith(LikePatterns.escape(prefix), Limit.of(count));
+    }
 
-        ExampleMatcher matcher = ExampleMatcher.matching()
-                .withIgnoreNullValues()
-                .withIgnoreCase()
-                .withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING);
+    /**
+     * Checks that a course exists, from the catalog when it holds the course and else from the database.
+     *
+     * @param id The UUID of the course.
+     * @throws CourseNotFoundException If no course is found with the given ID.
+     */
+    public void checkCourseExists(UUID id) {
+        if (catalog.find(id) == null && !courseRepository.existsById(id)) {
+            throw new CourseNotFoundException("This course does not exist");
+        }
+    }
+
+    /**
+     * Counts the students enrolled in a course and the teachers assigned to it.
+     * <p>
+     * Both counts are ranges of the primary key indexes of the relations, whatever the number of students overall.
+     *
+     * @param id The UUID of the course.
+     * @return The numbers of students and teachers of the course.
+     * @throws CourseNotFoundException If no course is found with the given ID.
+     */
+    public CourseEnrollment getCourseEnrollment(UUID id) {
+        checkCourseExists(id);
+        return new CourseEnrollment(id, enrollments.countStudents(id), enrollments.countTeachers(id));
+    }
+
+    /**
+     * Lists the teachers assigned to a course.
+     *
+     * @param id The UUID of the course.
+     * @return The teachers of the course, ordered by name.
+     * @throws CourseNotFoundException If no course is found with the given ID.
+     */
+    public List<CourseTeacher> getCourseTeachers(UUID id) {
+        checkCourseExists(id);
+        return enrollments.findTeachers(id);
+    }
 
-        Example<Course> courseExample = Example.of(course, matcher);
+    /**
+     * Assigns a teacher to a course; assigning a teacher twice has no effect.
+     *
+     * @param id        The UUID of the course.
+     * @param teacherId The UUID of the teacher.
+     * @throws CourseNotFoundException If no course is found with the given ID.
+     * @throws NotFoundUserException   If no teacher is found with the given ID.
+     */
+    public void assignTeacher(UUID id, UUID teacherId) {
+        checkCourseExists(id);
+        if (!enrollments.assignTeacher(id, teacherId) && !enrollments.teacherExists(teacherId)) {
+            throw new NotFoundUserException("Teacher not found");
+        }
+    }
 
-        return courseRepository.findAll(courseExample);
+    /**
+     * Removes a teacher from a course.
+     *
+     * @param id        The UUID of the course.
+     * @param teacherId The UUID of the teacher.
+     * @throws NotFoundUserException If the teacher is not assigned to the course.
+     */
+    public void unassignTeacher(UUID id, UUID teacherId) {
+        if (!enrollments.unassignTeacher(id, teacherId)) {
+            throw new NotFoundUserException("This teacher is not assigned to this course");
+        }
     }
 }
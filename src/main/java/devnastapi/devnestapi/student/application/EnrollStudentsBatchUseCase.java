@@ -0,0 +1,77 @@
+package devnastapi.devnestapi.student.application;
+
+import devnastapi.devnestapi.common.exceptions.BatchTooLargeException;
+import devnastapi.devnestapi.student.dto.StudentBatchResult;
+import devnastapi.devnestapi.student.dto.StudentDto;
+import devnastapi.devnestapi.student.mapper.StudentMapper;
+import devnastapi.devnestapi.student.model.Student;
+import devnastapi.devnestapi.student.service.StudentBatchService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Use case for enrolling many students in one request.
+ *
+ * <p>Converts the DTOs to entities and hands them to the {@link StudentBatchService},
+ * which checks, hashes and inserts them in chunks. Requests larger than
+ * {@code devnest.students.batch.max-items} are refused as a whole.</p>
+ *
+ * @author Your Name or Team Name
+ * @version 1.0
+ * @since 2024-01-01
+ *
+ * @see StudentBatchService
+ * @see EnrollStudentUseCase
+ */
+@Component
+public class EnrollStudentsBatchUseCase {
+
+    /**
+     * Mapper for converting between DTO and entity representations.
+     */
+    private final StudentMapper mapper;
+
+    /**
+     * Service performing the chunked enrollment.
+     */
+    private final StudentBatchService batchService;
+
+    /**
+     * Largest number of students accepted in one request.
+     */
+    private final int maxItems;
+
+    /**
+     * Constructs a new {@code EnrollStudentsBatchUseCase}.
+     *
+     * @param mapper the mapper for DTO-entity conversion
+     * @param batchService the service performing the chunked enrollment
+     * @param maxItems the largest number of students accepted in one request
+     */
+    public EnrollStudentsBatchUseCase(StudentMapper mapper, StudentBatchService batchService,
+                                      @Value("${devnest.students.batch.max-items:10000}") int maxItems) {
+        this.mapper = mapper;
+        this.batchService = batchService;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * Enrolls the given students.
+     *
+     * @param dtos the students to enroll, with raw passwords
+     * @return the outcome of every student, in request order
+     *
+     * @throws BatchTooLargeException if more than the configured maximum of students is sent
+     */
+    public StudentBatchResult execute(List<StudentDto> dtos) {
+        if (dtos.size() > maxItems) {
+            throw new BatchTooLargeException("A batch may hold at most " + maxItems + " students");
+        }
+        List<Student> students = dtos.stream()
+                .map(dto -> dto == null ? null : mapper.ToEntity(dto))
+                .toList();
+        return batchService.createStudents(students);
+    }
+}
@@ -0,0 +1,50 @@
+package devnastapi.devnestapi.student.application;
+
+import devnastapi.devnestapi.student.service.StudentExportFormat;
+import devnastapi.devnestapi.student.service.StudentExportService;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Use case for exporting every student.
+ *
+ * <p>Delegates to the {@link StudentExportService}, which streams the students from a
+ * database cursor straight to the given output.</p>
+ *
+ * @author Your Name or Team Name
+ * @version 1.0
+ * @since 2024-01-01
+ *
+ * @see StudentExportService
+ */
+@Component
+public class ExportStudentsUseCase {
+
+    /**
+     * Service writing the export.
+     */
+    private final StudentExportService exportService;
+
+    /**
+     * Constructs a new {@code ExportStudentsUseCase}.
+     *
+     * @param exportService the service writing the export
+     */
+    public ExportStudentsUseCase(StudentExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * Writes every student to the given output.
+     *
+     * @param format the output format
+     * @param output the stream to write to
+     *
+     * @throws IOException if writing fails, typically because the client disconnected
+     */
+    public void execute(StudentExportFormat format, OutputStream output) throws IOException {
+        exportService.export(format, output);
+    }
+}
@@ -1,10 +1,16 @@
 package devnastapi.devnestapi.student.application;
 
 import devnastapi.devnestapi.common.helpers.Helpers;
+import devnastapi.devnestapi.common.helpers.ResourceVersion;
+import devnastapi.devnestapi.student.dto.StudentPage;
+import devnastapi.devnestapi.student.dto.StudentSearchPage;
+import devnastapi.devnestapi.student.dto.StudentSuggestion;
+import devnastapi.devnestapi.student.dto.StudentView;
 import devnastapi.devnestapi.student.model.Student;
 import devnastapi.devnestapi.student.service.StudentService;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -78,7 +84,7 @@ public class GetStudentUseCase {
      * @see StudentService#getStudentRefactored(UUID) (Object)
      * @see Optional
      */
-    public Optional<Student> getStudentWithId(String id) {
+    public Optional<StudentView> getStudentWithId(String id) {
         var getStudent = service.getStudent(helpers.idFromString(id));
         return getStudent;
     }
@@ -102,7 +108,64 @@ public class GetStudentUseCase {
      * @see Helpers#idFromString(String)
      * @see StudentService#getStudentRefactored(UUID)
      */
-    public Student getStudentWithIdRefatored(String id) {
+    public StudentView getStudentWithIdRefatored(String id) {
         return service.getStudentRefactored(helpers.idFromString(id));
     }
-}
\ No newline at end of file
+
+    /**
+     * Reads the version and last modification of a student, for conditional GETs.
+     *
+     * @param id the ID of the student, in string format
+     * @return the validators of the student
+     *
+     * @throws IllegalArgumentException if the {@code id} is null, empty, or invalid
+     * @throws devnastapi.devnestapi.common.exceptions.usergenericexceptions.NotFoundUserException if no student has this ID
+     *
+     * @see StudentService#getStudentVersion(UUID)
+     */
+    public ResourceVersion getStudentVersion(String id) {
+        return service.getStudentVersion(helpers.idFromString(id));
+    }
+
+    /**
+     * Retrieves one page of the student listing.
+     *
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the requested page size, or {@code null} for the default
+     * @return the page of students and the cursor of the next page
+     *
+     * @throws devnastapi.devnestapi.common.exceptions.InvalidCursorException if the cursor is malformed
+     *
+     * @see StudentService#listStudents(String, Integer)
+     */
+    public StudentPage listStudents(String cursor, Integer size) {
+        return service.listStudents(cursor, size);
+    }
+
+    /**
+     * Searches students by name or course, most relevant first.
+     *
+     * @param text the text to look for
+     * @param page the zero-based page number, or {@code null} for the first page
+     * @param size the requested page size, or {@code null} for the default
+     * @return the page of matching students
+     *
+     * @see StudentService#searchStudents(String, Integer, Integer)
+     */
+    public StudentSearchPage searchStudents(String text, Integer page, Integer size) {
+        return service.searchStudents(text, page, size);
+    }
+
+    /**
+     * Suggests students whose name contains the text typed so far.
+     *
+     * @param text the text typed so far
+     * @param limit the maximum number of suggestions, or {@code null} for the default
+     * @return the suggestions, best matches first
+     *
+     * @see StudentService#suggestStudents(String, Integer)
+     */
+    public List<StudentSuggestion> suggestStudents(String text, Integer limit) {
+        return service.suggestStudents(text, limit);
+    }
+}
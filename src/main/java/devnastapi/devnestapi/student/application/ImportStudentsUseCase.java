@@ -0,0 +1,83 @@
+package devnastapi.devnestapi.student.application;
+
+import devnastapi.devnestapi.common.helpers.Helpers;
+import devnastapi.devnestapi.student.dto.StudentImportJobStatus;
+import devnastapi.devnestapi.student.service.StudentImportService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Use case for importing students from an uploaded CSV file.
+ *
+ * <p>Moves the upload to a temporary file of its own, since the multipart data is
+ * discarded when the request ends, and queues it on the {@link StudentImportService}.
+ * The file is never read into memory here.</p>
+ *
+ * @author Your Name or Team Name
+ * @version 1.0
+ * @since 2024-01-01
+ *
+ * @see StudentImportService
+ * @see EnrollStudentsBatchUseCase
+ */
+@Component
+public class ImportStudentsUseCase {
+
+    /**
+     * Helper class for common operations and utilities.
+     */
+    private final Helpers helpers;
+
+    /**
+     * Service running the import jobs.
+     */
+    private final StudentImportService importService;
+
+    /**
+     * Constructs a new {@code ImportStudentsUseCase}.
+     *
+     * @param helpers the helper class for common operations
+     * @param importService the service running the import jobs
+     */
+    public ImportStudentsUseCase(Helpers helpers, StudentImportService importService) {
+        this.helpers = helpers;
+        this.importService = importService;
+    }
+
+    /**
+     * Queues the import of an uploaded CSV file.
+     *
+     * @param file the uploaded file
+     * @return the status of the queued job
+     *
+     * @throws IOException if the upload cannot be stored
+     * @throws devnastapi.devnestapi.common.exceptions.ImportCapacityExceededException if too many imports are queued
+     */
+    public StudentImportJobStatus execute(MultipartFile file) throws IOException {
+        Path upload = Files.createTempFile("student-import-", ".csv");
+        try {
+            file.transferTo(upload);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(upload);
+            throw e;
+        }
+        return importService.submit(upload);
+    }
+
+    /**
+     * Returns the progress of an import job.
+     *
+     * @param id the ID of the job, in string format
+     * @return the current status of the job
+     *
+     * @throws IllegalArgumentException if the {@code id} is invalid
+     * @throws devnastapi.devnestapi.common.exceptions.ImportJobNotFoundException if no job has this id
+     */
+    public StudentImportJobStatus getStatus(String id) {
+        return importService.getStatus(helpers.idFromString(id));
+    }
+}
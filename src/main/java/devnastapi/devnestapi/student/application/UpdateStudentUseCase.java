@@ -1,7 +1,11 @@
 package devnastapi.devnestapi.student.application;
 
-import devnastapi.devnestapi.student.dto.StudentDto;
-import devnastapi.devnestapi.student.mapper.StudentMapper;
+import devnastapi.devnestapi.common.helpers.ETags;
+import devnastapi.devnestapi.common.helpers.Helpers;
+import devnastapi.devnestapi.student.dto.StudentPatch;
+import devnastapi.devnestapi.student.dto.StudentPatchResult;
+import devnastapi.devnestapi.student.dto.StudentView;
+import devnastapi.devnestapi.student.model.Student;
 import devnastapi.devnestapi.student.service.StudentService;
 import org.springframework.stereotype.Component;
 
@@ -9,11 +13,11 @@ import org.springframework.stereotype.Component;
  * Use case for updating student information in the system.
  *
  * <p>This class implements the student update use case,
- * orchestrating the process of modifying an existing student's
- * information based on the provided data transfer object.</p>
+ * orchestrating the partial update of an existing student
+ * identified by the request path.</p>
  *
- * <p>Responsible for converting the DTO to a domain entity
- * and delegating the update operation to the service layer,
+ * <p>Responsible for converting the ID and the {@code If-Match}
+ * header and delegating the update operation to the service layer,
  * ensuring proper separation of concerns and business rule
  * enforcement.</p>
  *
@@ -22,8 +26,7 @@ import org.springframework.stereotype.Component;
  * @since 2024-01-01
  *
  * @see StudentService
- * @see StudentMapper
- * @see StudentDto
+ * @see StudentPatch
  */
 @Component
 public class UpdateStudentUseCase {
@@ -34,49 +37,49 @@ public class UpdateStudentUseCase {
     private final StudentService service;
 
     /**
-     * Mapper for converting between DTO and entity representations.
+     * Helper class for common operations and utilities.
      */
-    private final StudentMapper mapper;
+    private final Helpers helpers;
 
     /**
      * Constructs a new instance of {@code UpdateStudentUseCase}.
      *
      * @param service the service for student business operations
-     * @param mapper the mapper for converting between DTO and entity
+     * @param helpers the helper class for common operations
      *
-     * @throws IllegalArgumentException if {@code service} or {@code mapper} are null
+     * @throws IllegalArgumentException if {@code service} or {@code helpers} are null
      */
-    public UpdateStudentUseCase(StudentService service, StudentMapper mapper) {
+    public UpdateStudentUseCase(StudentService service, Helpers helpers) {
         this.service = service;
-        this.mapper = mapper;
+        this.helpers = helpers;
     }
 
     /**
-     * Updates a student's information based on the provided DTO.
+     * Partially updates the student with the given ID.
      *
      * <p>This method performs the following operations:
      * <ol>
-     *   <li>Converts the {@code StudentDto} to a domain {@code Student} entity</li>
-     *   <li>Delegates the update operation to the service layer</li>
-     *   <li>Returns the result of the update operation</li>
-     * </ol>
-     * The DTO must contain a valid student ID to identify which record to update.</p>
+     *   <li>Converts the string ID and reads the expected version from {@code If-Match}</li>
+     *   <li>Delegates the partial update to the service layer</li>
+     *   <li>Returns the stored student with its new version</li>
+     * </ol></p>
      *
-     * @param dto the student data transfer object containing updated information.
-     *            Must include a valid student ID and the fields to be updated.
-     * @return {@code true} if the student was successfully updated,
-     *         {@code false} if the student was not found or the update failed
+     * @param id the ID of the student to update, in string format
+     * @param patch the fields to change; absent fields keep their value
+     * @param ifMatch the {@code If-Match} header, or {@code null} to update whatever the current version is
+     * @return the updated student and its version
      *
-     * @throws IllegalArgumentException if {@code dto} is null, has an invalid ID,
-     *                                  or contains invalid data for the update
-     * @throws IllegalStateException if the update violates business rules
-     *                               (e.g., duplicate unique fields)
-     * @throws org.springframework.dao.DataAccessException if there's a persistence error
+     * @throws IllegalArgumentException if the {@code id} is invalid
+     * @throws devnastapi.devnestapi.common.exceptions.PreconditionFailedException if {@code ifMatch} names another version
+     * @throws org.springframework.dao.OptimisticLockingFailureException if a concurrent update committed first
      *
-     * @see StudentMapper#ToEntity(StudentDto)
-     * @see StudentService#updateStudent(devnastapi.devnestapi.student.model.Student)
+     * @see StudentService#patchStudent(java.util.UUID, StudentPatch, Long)
      */
-    public boolean updateStudentById(StudentDto dto) {
-        return service.updateStudent(mapper.ToEntity(dto));
+    public StudentPatchResult execute(String id, StudentPatch patch, String ifMatch) {
+        Student student = service.patchStudent(helpers.idFromString(id), patch, ETags.expectedVersion(ifMatch));
+        StudentView view = new StudentView(student.getId(), student.getName(), student.getEmail(),
+                student.getDateOfBirth(), student.getCourse(), student.getRoles(), student.getCreateDate(),
+                student.getLastModify());
+        return new StudentPatchResult(view, student.getVersion());
     }
-}
\ No newline at end of file
+}
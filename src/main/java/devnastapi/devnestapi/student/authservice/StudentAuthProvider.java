@@ -1,9 +1,14 @@
 package devnastapi.devnestapi.student.authservice;
 
-import devnastapi.devnestapi.student.model.Student;
-import devnastapi.devnestapi.student.service.StudentService;
+import devnastapi.devnestapi.common.directory.DirectoryAccount;
+import devnastapi.devnestapi.common.directory.UserDirectory;
+import devnastapi.devnestapi.common.exceptions.HashingCapacityExceededException;
+import devnastapi.devnestapi.common.exceptions.LoginThrottledException;
+import devnastapi.devnestapi.common.security.LoginThrottle;
+import devnastapi.devnestapi.common.security.PasswordHashingService;
 import org.jspecify.annotations.Nullable;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -18,18 +23,26 @@ import org.springframework.stereotype.Component;
  * to provide custom authentication logic for student users. It validates student
  * credentials against the database and creates authenticated sessions.</p>
  *
+ * <p>It is the single authentication path of the application: teacher accounts are
+ * resolved through the same {@link UserDirectory} query and receive the
+ * {@code TEACHER} role, so every login costs at most one database round-trip.</p>
+ *
+ * <p>Unknown emails are not pre-filtered in memory: an email registered on another node
+ * may still be missing from this node's filter, so a login is only rejected once the
+ * directory lookup found no account.</p>
+ *
  * <p>The provider supports {@link UsernamePasswordAuthenticationToken} authentication
  * requests and performs the following validation steps:
  * <ol>
  *   <li>Extracts username (typically email) and password from authentication request</li>
- *   <li>Retrieves student from database using the provided login identifier</li>
+ *   <li>Retrieves the student or teacher account using the provided login identifier</li>
  *   <li>Compares the provided password with the stored hashed password</li>
  *   <li>Creates a {@link StudentAuthentication} object for successful authentications</li>
  * </ol></p>
  *
  * <p>Security features include:
  * <ul>
- *   <li>Password hashing comparison using {@link PasswordEncoder}</li>
+ *   <li>Password hashing comparison using {@link PasswordEncoder} on the bounded {@link PasswordHashingService} pool</li>
  *   <li>Generic error messages to prevent user enumeration attacks</li>
  *   <li>Integration with Spring Security authentication framework</li>
  * </ul></p>
@@ -42,32 +55,47 @@ import org.springframework.stereotype.Component;
  * @see StudentAuthentication
  * @see UsernamePasswordAuthenticationToken
  * @see PasswordEncoder
- * @see StudentService
+ * @see UserDirectory
  */
 @Component
 public class StudentAuthProvider implements AuthenticationProvider {
 
     /**
-     * Password encoder for secure password comparison.
+     * Hashing pool used for secure password comparison off the request thread.
+     */
+    private final PasswordHashingService hashing;
+
+    /**
+     * Unified student and teacher directory, resolving a login in one query.
      */
-    private final PasswordEncoder encoder;
+    private final UserDirectory directory;
 
     /**
-     * Student service for database operations.
+     * Cache of recent successful verifications, consulted before the database and the encoder.
      */
-    private final StudentService service;
+    private final VerifiedCredentialCache credentialCache;
+
+    /**
+     * Failed-login throttle, rejecting floods before any lookup or hashing happens.
+     */
+    private final LoginThrottle loginThrottle;
 
     /**
      * Constructs a new {@code StudentAuthProvider}.
      *
-     * @param encoder the password encoder for secure password comparison
-     * @param service the student service for database operations
+     * @param hashing the hashing pool for secure password comparison
+     * @param directory the unified account directory for database lookups
+     * @param credentialCache the cache of recently verified credentials
+     * @param loginThrottle the throttle for failed logins
      *
-     * @throws IllegalArgumentException if {@code encoder} or {@code service} are {@code null}
+     * @throws IllegalArgumentException if any parameter is {@code null}
      */
-    public StudentAuthProvider(PasswordEncoder encoder, StudentService service) {
-        this.encoder = encoder;
-        this.service = service;
+    public StudentAuthProvider(PasswordHashingService hashing, UserDirectory directory,
+                               VerifiedCredentialCache credentialCache, LoginThrottle loginThrottle) {
+        this.hashing = hashing;
+        this.directory = directory;
+        this.credentialCache = credentialCache;
+        this.loginThrottle = loginThrottle;
     }
 
     /**
@@ -76,11 +104,15 @@ public class StudentAuthProvider implements AuthenticationProvider {
      * <p>This method performs the complete authentication workflow:
      * <ol>
      *   <li>Extracts login identifier (username/email) and raw password from the authentication request</li>
-     *   <li>Retrieves the student from the database using the login identifier</li>
-     *   <li>Verifies the student exists (throws {@link UsernameNotFoundException} if not found)</li>
+     *   <li>Returns the cached authentication if the same credentials were verified recently</li>
+     *   <li>Rejects the attempt if its email or client address failed too often recently, before any lookup or hashing</li>
+     *   <li>Resolves the login identifier to a student or teacher account with a single {@link UserDirectory} query</li>
+     *   <li>Verifies the account exists (throws {@link UsernameNotFoundException} if not found)</li>
      *   <li>Compares the raw password with the stored hashed password using {@link PasswordEncoder#matches(CharSequence, String)}</li>
+     *   <li>If password matches, schedules a background rehash when the stored hash uses an outdated work factor</li>
      *   <li>If password matches, creates and returns an authenticated {@link StudentAuthentication} object</li>
      *   <li>If password doesn't match, throws {@link UsernameNotFoundException} with generic error message</li>
+     *   <li>Every rejection is counted by the {@link LoginThrottle}; a success clears the failures of the email</li>
      * </ol></p>
      *
      * <p><strong>Security Note:</strong> Generic error messages ("Email or Password is uncorrectly")
@@ -95,12 +127,15 @@ public class StudentAuthProvider implements AuthenticationProvider {
      *           <li>Student not found with the provided login identifier</li>
      *           <li>Password doesn't match the stored hash</li>
      *         </ul>
+     * @throws AuthenticationServiceException if the password hashing pool is saturated
+     * @throws LoginThrottledException if too many logins failed recently for the email or client address
      * @throws AuthenticationException for other authentication-related errors
      * @throws IllegalArgumentException if {@code authentication} is {@code null} or credentials are invalid
      *
-     * @see StudentService#searchOnDb(String)
-     * @see PasswordEncoder#matches(CharSequence, String)
+     * @see UserDirectory#findByEmail(String)
+     * @see PasswordHashingService#matches(CharSequence, String)
      * @see StudentAuthentication
+     * @see VerifiedCredentialCache
      */
     @Override
     public @Nullable Authentication authenticate(Authentication authentication) throws AuthenticationException {
@@ -109,26 +144,62 @@ public class StudentAuthProvider implements AuthenticationProvider {
 
         String rawPassword = authentication.getCredentials().toString();
 
-        Student studentFounded = service.searchOnDb(login);
+        Authentication cached = credentialCache.find(login, rawPassword);
 
-        if (studentFounded == null){
-            throw new UsernameNotFoundException("Email or Password is uncorrectly");
+        if (cached != null){
+            return cached;
         }
 
-        String passwordOnDb = studentFounded.getPassword();
+        loginThrottle.checkAllowed(authentication);
+
+        long cacheEpoch = credentialCache.currentEpoch();
+
+        DirectoryAccount accountFounded = directory.findByEmail(login)
+                .orElseThrow(() -> rejected(authentication));
+
+        String passwordOnDb = accountFounded.passwordHash();
 
-        boolean passwordMatches = encoder.matches(rawPassword, passwordOnDb);
+        boolean passwordMatches;
+
+        try {
+            passwordMatches = hashing.matches(rawPassword, passwordOnDb);
+        } catch (HashingCapacityExceededException e) {
+            throw new AuthenticationServiceException(e.getMessage(), e);
+        }
 
         if (passwordMatches){
 
-            Authentication auth = new StudentAuthentication(studentFounded);
+            if (hashing.needsRehash(passwordOnDb)){
+                hashing.encodeInBackground(rawPassword,
+                        newHash -> directory.updatePasswordIfUnchanged(accountFounded, newHash));
+            }
+
+            Authentication auth = new StudentAuthentication(new StudentPrincipal(
+                    accountFounded.id(),
+                    accountFounded.email(),
+                    StudentPrincipal.authoritiesForRoles(accountFounded.roles())));
 
             auth.setAuthenticated(true);
 
+            credentialCache.put(login, rawPassword, accountFounded.id(), auth, cacheEpoch);
+
+            loginThrottle.recordSuccess(authentication);
+
             return auth;
         }
 
-        throw new UsernameNotFoundException("Email or Password is uncorrectly");
+        throw rejected(authentication);
+    }
+
+    /**
+     * Counts a failed login and builds the generic rejection for it.
+     *
+     * @param authentication the rejected authentication request
+     * @return the exception to throw
+     */
+    private UsernameNotFoundException rejected(Authentication authentication) {
+        loginThrottle.recordFailure(authentication);
+        return new UsernameNotFoundException("Email or Password is uncorrectly");
     }
 
     /**
@@ -4,21 +4,19 @@ import devnastapi.devnestapi.student.model.Student;
 import org.jspecify.annotations.Nullable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.Collection;
-import java.util.List;
 
 /**
  * Custom {@link Authentication} implementation for student authentication.
  *
- * <p>This class wraps a {@link Student} object and implements the Spring Security
- * {@link Authentication} interface, providing authentication information for
- * student users in the system.</p>
+ * <p>This class wraps a compact {@link StudentPrincipal} snapshot and implements
+ * the Spring Security {@link Authentication} interface, providing authentication
+ * information for student users in the system. The managed {@link Student}
+ * entity and its password hash are not retained.</p>
  *
- * <p>It assigns the "ROLE_STUDENT" authority to authenticated students and
- * exposes student information through the standard Spring Security authentication
- * methods.</p>
+ * <p>It exposes the principal's precomputed, shared authority set (by default
+ * "ROLE_STUDENT") through the standard Spring Security authentication methods.</p>
  *
  * <p>This implementation is immutable once created and always returns
  * {@code true} from {@link #isAuthenticated()} as it represents an already
@@ -29,82 +27,94 @@ import java.util.List;
  * @since 2024-01-01
  *
  * @see Authentication
- * @see Student
+ * @see StudentPrincipal
  * @see GrantedAuthority
  */
 public class StudentAuthentication implements Authentication {
 
     /**
-     * The authenticated student entity.
+     * The authenticated student snapshot.
      */
-    private final Student student;
+    private final StudentPrincipal principal;
 
     /**
      * Constructs a new {@code StudentAuthentication} instance.
      *
+     * @param principal the authenticated student snapshot, must not be {@code null}
+     *
+     * @throws IllegalArgumentException if {@code principal} is {@code null}
+     */
+    public StudentAuthentication(StudentPrincipal principal) {
+        this.principal = principal;
+    }
+
+    /**
+     * Constructs a new {@code StudentAuthentication} instance from a student entity.
+     *
      * @param student the authenticated student entity, must not be {@code null}
      *
      * @throws IllegalArgumentException if {@code student} is {@code null}
+     *
+     * @see StudentPrincipal#of(Student)
      */
     public StudentAuthentication(Student student) {
-        this.student = student;
+        this(StudentPrincipal.of(student));
     }
 
     /**
      * Returns the authorities granted to the student.
      *
      * <p>Students are granted the "ROLE_STUDENT" authority by default.
-     * This authority can be used in Spring Security expressions and
-     * authorization checks.</p>
+     * The returned set is shared by every principal with the same roles
+     * and is not copied on each call.</p>
      *
-     * @return an unmodifiable collection containing the "ROLE_STUDENT" authority
+     * @return an unmodifiable collection of the granted authorities
      *
      * @see GrantedAuthority
-     * @see SimpleGrantedAuthority
+     * @see StudentPrincipal#authoritiesForRoles(String)
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_STUDENT"));
+        return principal.authorities();
     }
 
     /**
      * Returns the credentials that prove the principal's identity.
      *
-     * <p>In this implementation, returns the student's password hash
-     * or authentication token. The exact format depends on the
-     * authentication mechanism used.</p>
+     * <p>Credentials are not retained once the student is authenticated,
+     * so this implementation always returns {@code null}.</p>
      *
-     * @return the student's credentials (typically password hash), or {@code null}
+     * @return {@code null}
      */
     @Override
     public @Nullable Object getCredentials() {
-        return student.getPassword();
+        return null;
     }
 
     /**
      * Returns additional details about the authentication request.
      *
-     * <p>Returns the complete {@link Student} entity, providing full
-     * access to student information for auditing or additional processing.</p>
+     * <p>Returns the {@link StudentPrincipal} snapshot, which carries the
+     * student's identifier and email for auditing or additional processing.</p>
      *
-     * @return the complete {@link Student} entity
+     * @return the {@link StudentPrincipal} snapshot
      */
     @Override
     public @Nullable Object getDetails() {
-        return student;
+        return principal;
     }
 
     /**
      * Returns the identity of the principal being authenticated.
      *
-     * <p>Returns the {@link Student} entity representing the authenticated
-     * user's identity.</p>
+     * <p>Returns the {@link StudentPrincipal} snapshot representing the
+     * authenticated user's identity.</p>
      *
-     * @return the {@link Student} entity
+     * @return the {@link StudentPrincipal} snapshot
      */
     @Override
     public @Nullable Object getPrincipal() {
-        return student;
+        return principal;
     }
 
     /**
@@ -139,13 +149,13 @@ public class StudentAuthentication implements Authentication {
     /**
      * Returns the name of the authenticated principal.
      *
-     * <p>Returns the student's name from the {@link Student} entity.
-     * This is typically used for display purposes and logging.</p>
+     * <p>Returns the student's login email from the {@link StudentPrincipal}.
+     * This is typically used for auditing and logging.</p>
      *
-     * @return the student's name
+     * @return the student's email
      */
     @Override
     public String getName() {
-        return student.getName();
+        return principal.email();
     }
 }
\ No newline at end of file
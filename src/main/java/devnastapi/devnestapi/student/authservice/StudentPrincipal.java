@@ -0,0 +1,108 @@
+package devnastapi.devnestapi.student.authservice;
+
+import devnastapi.devnestapi.student.model.Student;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Immutable snapshot of an authenticated student, used as the security principal.
+ *
+ * <p>Only the identifier, the login email and the granted authorities are kept. The
+ * managed {@link Student} entity, including its password hash, is never retained by a
+ * session or a cached authentication, which keeps the per-session footprint small and
+ * avoids working with detached entities after the request that loaded them.</p>
+ *
+ * <p>Authority sets are precomputed and shared: every principal with the same roles
+ * references the same immutable set, so no collection is allocated per session or per
+ * {@code getAuthorities()} call.</p>
+ *
+ * @author Your Name or Team Name
+ * @version 1.0
+ * @since 2024-01-01
+ *
+ * @param id the unique identifier of the student
+ * @param email the login email of the student
+ * @param authorities the shared, immutable set of granted authorities
+ *
+ * @see StudentAuthentication
+ */
+public record StudentPrincipal(UUID id, String email, Set<GrantedAuthority> authorities) implements Serializable {
+
+    /**
+     * Prefix prepended to each role stored in the {@code roles} column.
+     */
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    /**
+     * Role assumed when a student has no roles stored.
+     */
+    private static final String DEFAULT_ROLE = "STUDENT";
+
+    /**
+     * Shared authority sets, keyed by their comma-separated authority names.
+     */
+    private static final ConcurrentMap<String, Set<GrantedAuthority>> SHARED_AUTHORITIES = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a principal snapshot from a student entity.
+     *
+     * @param student the authenticated student, must not be {@code null}
+     * @return the principal for the student
+     */
+    public static StudentPrincipal of(Student student) {
+        return new StudentPrincipal(student.getId(), student.getEmail(), authoritiesForRoles(student.getRoles()));
+    }
+
+    /**
+     * Returns the shared authority set for a value of the {@code roles} column.
+     *
+     * <p>Each comma-separated role {@code R} is granted as {@code ROLE_R}; a missing
+     * value is treated as {@code STUDENT}.</p>
+     *
+     * @param roles the comma-separated roles, may be {@code null}
+     * @return the shared, immutable authority set
+     */
+    public static Set<GrantedAuthority> authoritiesForRoles(String roles) {
+        String value = roles == null || roles.isBlank() ? DEFAULT_ROLE : roles;
+        return sharedAuthorities(Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(role -> !role.isEmpty())
+                .map(role -> ROLE_PREFIX + role)
+                .toList());
+    }
+
+    /**
+     * Returns the shared authority set for the given authority names.
+     *
+     * @param authorityNames the authority names, e.g. as carried by an access token
+     * @return the shared, immutable authority set
+     */
+    public static Set<GrantedAuthority> sharedAuthorities(Collection<String> authorityNames) {
+        return SHARED_AUTHORITIES.computeIfAbsent(String.join(",", authorityNames), key -> {
+            Set<GrantedAuthority> authorities = new LinkedHashSet<>();
+            for (String name : authorityNames) {
+                authorities.add(new SimpleGrantedAuthority(name));
+            }
+            return Set.copyOf(authorities);
+        });
+    }
+
+    /**
+     * Returns the authority names, in a form suitable for an access token.
+     *
+     * @return the names of the granted authorities
+     */
+    public List<String> authorityNames() {
+        return authorities.stream().map(GrantedAuthority::getAuthority).toList();
+    }
+}
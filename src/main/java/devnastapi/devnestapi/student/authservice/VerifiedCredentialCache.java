@@ -0,0 +1,207 @@
+package devnastapi.devnestapi.student.authservice;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, time-evicting cache of successful student credential verifications.
+ *
+ * <p>HTTP Basic sends the credentials on every request, so without this cache
+ * every call pays a repository lookup plus a full BCrypt comparison inside
+ * {@link StudentAuthProvider}. Once a pair of (email, raw password) has been
+ * verified, the resulting {@link Authentication} is kept here for a short time
+ * and subsequent requests with the same pair skip both steps.</p>
+ *
+ * <p>Entries are keyed by an HMAC-SHA256 digest of the email and the raw
+ * password, computed with a random key generated at startup. The raw password
+ * is never stored and the key never leaves the process, so the cache content
+ * is useless for offline guessing.</p>
+ *
+ * <p>Entries must be dropped whenever the underlying account changes; the
+ * student and teacher services call {@link #invalidateAccount(UUID)} on update and delete.
+ * Every invalidation also advances an epoch; a verification that started in an
+ * earlier epoch is never cached, since it may have read the credentials the
+ * invalidation replaced.</p>
+ *
+ * @author Your Name or Team Name
+ * @version 1.0
+ * @since 2024-01-01
+ *
+ * @see StudentAuthProvider
+ * @see devnastapi.devnestapi.student.service.StudentService
+ */
+@Component
+public class VerifiedCredentialCache {
+
+    /**
+     * Separator between email and password in the digest input, so that
+     * ("ab", "c") and ("a", "bc") never produce the same key.
+     */
+    private static final byte SEPARATOR = 0;
+
+    /**
+     * Whether the cache is consulted at all.
+     */
+    private final boolean enabled;
+
+    /**
+     * Verified credentials, keyed by the credential digest.
+     */
+    private final Cache<String, VerifiedCredential> verified;
+
+    /**
+     * Advanced by every invalidation.
+     */
+    private final AtomicLong epoch = new AtomicLong();
+
+    /**
+     * Per-thread MAC instances initialised with the process-local key.
+     */
+    private final ThreadLocal<Mac> macs;
+
+    /**
+     * Constructs a new {@code VerifiedCredentialCache}.
+     *
+     * @param enabled     whether verified credentials are cached
+     * @param ttl         how long a verification stays valid after it was written
+     * @param maximumSize maximum number of cached verifications
+     */
+    public VerifiedCredentialCache(
+            @Value("${devnest.security.credential-cache.enabled:true}") boolean enabled,
+            @Value("${devnest.security.credential-cache.ttl:5m}") Duration ttl,
+            @Value("${devnest.security.credential-cache.maximum-size:10000}") long maximumSize) {
+        this.enabled = enabled;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        SecretKeySpec keySpec = new SecretKeySpec(key, "HmacSHA256");
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(keySpec);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        });
+    }
+
+    /**
+     * Returns the authentication cached for the given credentials, if any.
+     *
+     * @param email       the login identifier
+     * @param rawPassword the raw password sent by the client
+     * @return the cached authentication, or {@code null} on a miss or when the cache is disabled
+     */
+    public Authentication find(String email, String rawPassword) {
+        if (!enabled) {
+            return null;
+        }
+        VerifiedCredential credential = verified.getIfPresent(digest(email, rawPassword));
+        return credential == null ? null : credential.authentication();
+    }
+
+    /**
+     * Returns the current invalidation epoch.
+     *
+     * <p>Read before the credentials are looked up, and handed to
+     * {@link #put(String, String, UUID, Authentication, long)} once they are verified.</p>
+     *
+     * @return the current epoch
+     */
+    public long currentEpoch() {
+        return epoch.get();
+    }
+
+    /**
+     * Records a successful verification, unless an account was invalidated since it started.
+     *
+     * <p>The entry is written first and the epoch checked again afterwards, so an
+     * invalidation running concurrently either sees the entry and drops it, or is
+     * seen here and the entry is withdrawn.</p>
+     *
+     * @param email          the login identifier
+     * @param rawPassword    the raw password that was verified
+     * @param accountId      the identifier of the authenticated student or teacher
+     * @param authentication the authentication returned to Spring Security
+     * @param startEpoch     the {@link #currentEpoch()} read before the credentials were looked up
+     */
+    public void put(String email, String rawPassword, UUID accountId, Authentication authentication, long startEpoch) {
+        if (!enabled || epoch.get() != startEpoch) {
+            return;
+        }
+        String key = digest(email, rawPassword);
+        VerifiedCredential credential = new VerifiedCredential(accountId, authentication);
+        verified.put(key, credential);
+        if (epoch.get() != startEpoch) {
+            verified.asMap().remove(key, credential);
+        }
+    }
+
+    /**
+     * Drops every cached verification belonging to the given account.
+     *
+     * <p>Called when the account is updated or deleted. Account changes are rare
+     * compared to logins, so a scan over the cached entries is acceptable here.</p>
+     *
+     * <p>When called inside a transaction, the entries are dropped now and again after
+     * commit: a login verified against the old credentials while the transaction was
+     * still open would otherwise be cached after the first drop and outlive the change.</p>
+     *
+     * @param accountId the identifier of the changed or removed student or teacher
+     */
+    public void invalidateAccount(UUID accountId) {
+        invalidateNow(accountId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(accountId);
+                }
+            });
+        }
+    }
+
+    private void invalidateNow(UUID accountId) {
+        epoch.incrementAndGet();
+        verified.asMap().values().removeIf(credential -> credential.accountId().equals(accountId));
+    }
+
+    /**
+     * Computes the cache key for the given credentials.
+     */
+    private String digest(String email, String rawPassword) {
+        Mac mac = macs.get();
+        mac.update(email.getBytes(StandardCharsets.UTF_8));
+        mac.update(SEPARATOR);
+        return Base64.getEncoder().encodeToString(mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * A verified credential together with the account it belongs to.
+     *
+     * @param accountId      the identifier of the authenticated student or teacher
+     * @param authentication the authentication produced by the verification
+     */
+    private record VerifiedCredential(UUID accountId, Authentication authentication) {
+    }
+}
@@ -1,15 +1,40 @@
 package devnastapi.devnestapi.student.controller;
 
 import devnastapi.devnestapi.common.genericinterfaces.GenericControllerInterface;
+import devnastapi.devnestapi.common.helpers.ETags;
 import devnastapi.devnestapi.student.application.DeleteStudentUseCase;
 import devnastapi.devnestapi.student.application.EnrollStudentUseCase;
+import devnastapi.devnestapi.student.application.EnrollStudentsBatchUseCase;
+import devnastapi.devnestapi.student.application.ExportStudentsUseCase;
 import devnastapi.devnestapi.student.application.GetStudentUseCase;
+import devnastapi.devnestapi.student.application.ImportStudentsUseCase;
 import devnastapi.devnestapi.student.application.UpdateStudentUseCase;
+import devnastapi.devnestapi.student.dto.StudentBatchResult;
 import devnastapi.devnestapi.student.dto.StudentDto;
+import devnastapi.devnestapi.student.dto.StudentImportJobStatus;
+import devnastapi.devnestapi.student.dto.StudentPage;
+import devnastapi.devnestapi.student.dto.StudentPatch;
+import devnastapi.devnestapi.student.dto.StudentPatchResult;
+import devnastapi.devnestapi.student.dto.StudentSearchPage;
+import devnastapi.devnestapi.student.dto.StudentSuggestion;
+import devnastapi.devnestapi.student.dto.StudentView;
+import devnastapi.devnestapi.student.service.StudentExportFormat;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.List;
 
 /**
  * REST Controller for managing student resources.
@@ -60,6 +85,21 @@ public class StudentControllerInterface implements GenericControllerInterface {
      */
     private final UpdateStudentUseCase updateStudentUseCase;
 
+    /**
+     * Use case for enrolling many students in one request.
+     */
+    private final EnrollStudentsBatchUseCase enrollStudentsBatchUseCase;
+
+    /**
+     * Use case for exporting every student.
+     */
+    private final ExportStudentsUseCase exportStudentsUseCase;
+
+    /**
+     * Use case for importing students from CSV files.
+     */
+    private final ImportStudentsUseCase importStudentsUseCase;
+
     /**
      * Constructs a new {@code StudentControllerInterface}.
      *
@@ -67,6 +107,9 @@ public class StudentControllerInterface implements GenericControllerInterface {
      * @param getStudentUseCase the use case for retrieving student information
      * @param deleteStudentUseCase the use case for deleting student records
      * @param updateStudentUseCase the use case for updating student information
+     * @param enrollStudentsBatchUseCase the use case for enrolling many students at once
+     * @param exportStudentsUseCase the use case for exporting every student
+     * @param importStudentsUseCase the use case for importing students from CSV files
      *
      * @throws IllegalArgumentException if any parameter is {@code null}
      */
@@ -74,12 +117,18 @@ public class StudentControllerInterface implements GenericControllerInterface {
             EnrollStudentUseCase enrollStudentUserCase,
             GetStudentUseCase getStudentUseCase,
             DeleteStudentUseCase deleteStudentUseCase,
-            UpdateStudentUseCase updateStudentUseCase
+            UpdateStudentUseCase updateStudentUseCase,
+            EnrollStudentsBatchUseCase enrollStudentsBatchUseCase,
+            ExportStudentsUseCase exportStudentsUseCase,
+            ImportStudentsUseCase importStudentsUseCase
     ) {
         this.enrollStudentUserCase = enrollStudentUserCase;
         this.getStudentUseCase = getStudentUseCase;
         this.deleteStudentUseCase = deleteStudentUseCase;
         this.updateStudentUseCase = updateStudentUseCase;
+        this.enrollStudentsBatchUseCase = enrollStudentsBatchUseCase;
+        this.exportStudentsUseCase = exportStudentsUseCase;
+        this.importStudentsUseCase = importStudentsUseCase;
     }
 
     /**
@@ -116,6 +165,193 @@ public class StudentControllerInterface implements GenericControllerInterface {
                 .body(saved);
     }
 
+    /**
+     * Creates many students in one request.
+     *
+     * <p>Endpoint: {@code POST /students/batch}</p>
+     * <p>Authorization: Requires {@code ROLE_ADMIN} authority</p>
+     *
+     * <p>Students are checked for duplicates with one query per chunk, hashed in parallel
+     * and inserted with JDBC batching. A failing student does not fail the request:
+     * the response reports the outcome of every student, in request order.</p>
+     *
+     * @param studentDtos the students to create
+     * @return {@code ResponseEntity} with status 200 (OK) and the per-student results
+     *
+     * @throws devnastapi.devnestapi.common.exceptions.BatchTooLargeException if the request holds too many students
+     * @throws org.springframework.security.access.AccessDeniedException if user lacks required role
+     *
+     * @see EnrollStudentsBatchUseCase#execute(List)
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StudentBatchResult> createStudents(@RequestBody List<StudentDto> studentDtos) {
+        return ResponseEntity.ok(enrollStudentsBatchUseCase.execute(studentDtos));
+    }
+
+    /**
+     * Imports students from an uploaded CSV file in the background.
+     *
+     * <p>Endpoint: {@code POST /students/import} ({@code multipart/form-data}, part {@code file})</p>
+     * <p>Authorization: Requires {@code ROLE_ADMIN} authority</p>
+     *
+     * <p>The file needs the header {@code name,email,password,dateOfBirth,course}. It is
+     * parsed row by row and stored in batched transactions, so files of hundreds of
+     * megabytes never sit in memory. The response returns immediately; the progress is
+     * polled at the URI of the {@code Location} header.</p>
+     *
+     * @param file the CSV file, UTF-8 encoded
+     * @return {@code ResponseEntity} with status 202 (Accepted), the job status and its {@code Location}
+     *
+     * @throws IOException if the upload cannot be stored
+     * @throws devnastapi.devnestapi.common.exceptions.ImportCapacityExceededException if too many imports are queued
+     * @throws org.springframework.security.access.AccessDeniedException if user lacks required role
+     *
+     * @see ImportStudentsUseCase#execute(MultipartFile)
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StudentImportJobStatus> importStudents(@RequestParam("file") MultipartFile file) throws IOException {
+        StudentImportJobStatus job = importStudentsUseCase.execute(file);
+        return ResponseEntity
+                .accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(job.id()).toUri())
+                .body(job);
+    }
+
+    /**
+     * Retrieves the progress of a CSV import.
+     *
+     * <p>Endpoint: {@code GET /students/import/{jobId}}</p>
+     * <p>Authorization: Requires {@code ROLE_ADMIN} authority</p>
+     *
+     * <p>The status is only known to the node that accepted the upload, so with several
+     * nodes the poll has to be routed to that node.</p>
+     *
+     * @param jobId the ID of the import job
+     * @return {@code ResponseEntity} with status 200 (OK) and the counters and first errors of the job
+     *
+     * @throws devnastapi.devnestapi.common.exceptions.ImportJobNotFoundException if the job is unknown to this node or expired
+     * @throws org.springframework.security.access.AccessDeniedException if user lacks required role
+     *
+     * @see ImportStudentsUseCase#getStatus(String)
+     */
+    @GetMapping("/import/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StudentImportJobStatus> getImportStatus(@PathVariable("jobId") String jobId) {
+        return ResponseEntity.ok(importStudentsUseCase.getStatus(jobId));
+    }
+
+    /**
+     * Lists students one page at a time.
+     *
+     * <p>Endpoint: {@code GET /students?cursor=...&size=...}</p>
+     * <p>Authorization: Requires {@code ROLE_ADMIN} authority</p>
+     *
+     * <p>Pages are ordered by student id and chained with an opaque cursor: pass the
+     * {@code nextCursor} of a page to get the following one. Deep pages cost the same
+     * as the first one. The page size is capped by {@code devnest.students.listing.max-page-size}.</p>
+     *
+     * @param cursor the cursor of the page to read, absent for the first page
+     * @param size the requested page size, absent for the default
+     * @return {@code ResponseEntity} with status 200 (OK) and the page of students;
+     *         {@code nextCursor} is {@code null} on the last page
+     *
+     * @throws devnastapi.devnestapi.common.exceptions.InvalidCursorException if the cursor is malformed
+     * @throws org.springframework.security.access.AccessDeniedException if user lacks required role
+     *
+     * @see GetStudentUseCase#listStudents(String, Integer)
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StudentPage> listStudents(@RequestParam(name = "cursor", required = false) String cursor,
+                                                    @RequestParam(name = "size", required = false) Integer size) {
+        return ResponseEntity.ok(getStudentUseCase.listStudents(cursor, size));
+    }
+
+    /**
+     * Searches students whose name or course contains the given text.
+     *
+     * <p>Endpoint: {@code GET /students/search?q=...&page=...&size=...}</p>
+     * <p>Authorization: Requires {@code ROLE_ADMIN} authority</p>
+     *
+     * <p>Matching ignores case and is served by trigram indexes, so it does not scan the
+     * table. Results are ranked by similarity to the search text, most relevant first.</p>
+     *
+     * @param text the text to look for, at least three characters
+     * @param page the zero-based page number, absent for the first page
+     * @param size the requested page size, absent for the default
+     * @return {@code ResponseEntity} with status 200 (OK) and the page of matching students
+     *
+     * @throws org.springframework.web.method.annotation.HandlerMethodValidationException if the text is too short
+     * @throws org.springframework.security.access.AccessDeniedException if user lacks required role
+     *
+     * @see GetStudentUseCase#searchStudents(String, Integer, Integer)
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StudentSearchPage> searchStudents(
+            @RequestParam(name = "q") @Size(min = 3, message = "Search text must have at least 3 characters") String text,
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "size", required = false) Integer size) {
+        return ResponseEntity.ok(getStudentUseCase.searchStudents(text, page, size));
+    }
+
+    /**
+     * Exports every student as newline-delimited JSON or CSV.
+     *
+     * <p>Endpoint: {@code GET /students/export?format=NDJSON|CSV}</p>
+     * <p>Authorization: Requires {@code ROLE_ADMIN} authority</p>
+     *
+     * <p>The body is streamed from a database cursor while the students are read, so
+     * memory use stays flat however many students exist. The export stops as soon as
+     * the client disconnects. Password hashes are never exported.</p>
+     *
+     * @param format the output format, {@code NDJSON} by default
+     * @return {@code ResponseEntity} with status 200 (OK) and the streamed export as an attachment
+     *
+     * @throws org.springframework.security.access.AccessDeniedException if user lacks required role
+     *
+     * @see ExportStudentsUseCase#execute(StudentExportFormat, java.io.OutputStream)
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportStudents(
+            @RequestParam(name = "format", defaultValue = "NDJSON") StudentExportFormat format) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(format.fileName()).build().toString())
+                .body(output -> exportStudentsUseCase.execute(format, output));
+    }
+
+    /**
+     * Suggests students whose name contains the text typed so far, for type-ahead.
+     *
+     * <p>Endpoint: {@code GET /students/suggest?q=...&limit=...}</p>
+     * <p>Authorization: Requires {@code ROLE_ADMIN} authority</p>
+     *
+     * <p>Served from an in-memory name index, without a database round-trip. One or two
+     * characters match the start of a word; longer texts match anywhere in the name.
+     * Names starting with the text come first.</p>
+     *
+     * @param text the text typed so far
+     * @param limit the maximum number of suggestions, absent for the default
+     * @return {@code ResponseEntity} with status 200 (OK) and the suggestions
+     *
+     * @throws org.springframework.web.method.annotation.HandlerMethodValidationException if the text is blank
+     * @throws org.springframework.security.access.AccessDeniedException if user lacks required role
+     *
+     * @see GetStudentUseCase#suggestStudents(String, Integer)
+     */
+    @GetMapping("/suggest")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<StudentSuggestion>> suggestStudents(
+            @RequestParam(name = "q") @NotBlank(message = "Suggestion text is required") String text,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+        return ResponseEntity.ok(getStudentUseCase.suggestStudents(text, limit));
+    }
+
     /**
      * Retrieves a student by ID using Optional-based approach.
      *
@@ -126,21 +362,31 @@ public class StudentControllerInterface implements GenericControllerInterface {
      * if no student is found with the given ID. This approach provides explicit
      * null-safety in the response.</p>
      *
+     * <p>The response carries the student's version as a strong {@code ETag} and its
+     * last modification as {@code Last-Modified}. A request whose {@code If-None-Match}
+     * or {@code If-Modified-Since} still matches is answered with 304 after a
+     * version-only lookup, without reading or serializing the student.</p>
+     *
      * @param id the student ID as a path variable
+     * @param request the current request, checked for conditional headers
      * @return {@code ResponseEntity} with:
      *         <ul>
      *           <li>Status 200 (OK) with the student if found</li>
-     *           <li>Status 200 (OK) with empty optional if not found</li>
+     *           <li>Status 304 (Not Modified) without body if the client's copy is current</li>
      *         </ul>
      *
      * @throws org.springframework.security.access.AccessDeniedException if user lacks required role
      * @throws IllegalArgumentException if the ID format is invalid
      *
      * @see GetStudentUseCase#getStudentWithId(String)
+     * @see ETags#notModified(WebRequest, devnastapi.devnestapi.common.helpers.ResourceVersion)
      */
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Object> getStudent(@PathVariable("id") String id) {
+    public ResponseEntity<Object> getStudent(@PathVariable("id") String id, WebRequest request) {
+        if (ETags.notModified(request, getStudentUseCase.getStudentVersion(id))) {
+            return null;
+        }
         var student = getStudentUseCase.getStudentWithId(id);
         return ResponseEntity.ok(student);
     }
@@ -151,15 +397,21 @@ public class StudentControllerInterface implements GenericControllerInterface {
      * <p>Endpoint: {@code GET /students/refactored/{id}}</p>
      * <p>Authorization: Requires {@code ROLE_ADMIN} authority</p>
      *
-     * <p>Alternative to {@link #getStudent(String)} that returns the student
+     * <p>Alternative to {@link #getStudent(String, WebRequest)} that returns the student
      * directly rather than wrapped in an Optional. May return {@code null}
      * or throw an exception if the student is not found, depending on the
      * underlying implementation.</p>
      *
+     * <p>Supports the same conditional requests as {@link #getStudent(String, WebRequest)}.
+     * The body differs from that endpoint's, so its {@code ETag} names the representation
+     * as well, for example {@code "3-refactored"}.</p>
+     *
      * @param id the student ID as a path variable
+     * @param request the current request, checked for conditional headers
      * @return {@code ResponseEntity} with:
      *         <ul>
      *           <li>Status 200 (OK) with the student if found</li>
+     *           <li>Status 304 (Not Modified) without body if the client's copy is current</li>
      *           <li>May return null or throw exception if not found (implementation-dependent)</li>
      *         </ul>
      *
@@ -170,7 +422,10 @@ public class StudentControllerInterface implements GenericControllerInterface {
      */
     @GetMapping("/refactored/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Object> getStudentRefactored(@PathVariable("id") String id){
+    public ResponseEntity<Object> getStudentRefactored(@PathVariable("id") String id, WebRequest request){
+        if (ETags.notModified(request, getStudentUseCase.getStudentVersion(id), "refactored")) {
+            return null;
+        }
         var student = getStudentUseCase.getStudentWithIdRefatored(id);
         return ResponseEntity.ok(student);
     }
@@ -209,27 +464,37 @@ public class StudentControllerInterface implements GenericControllerInterface {
      * <p>Endpoint: {@code PATCH /students/update/{id}}</p>
      * <p>Authorization: Requires {@code ROLE_ADMIN} authority</p>
      *
-     * <p>Note: The method signature doesn't include the ID path parameter in the
-     * method parameters. The ID should be extracted from the {@code StudentDto}
-     * object or added as a method parameter for proper resource identification.</p>
+     * <p>Only the fields present in the body are changed, and only the changed columns
+     * are written. A new password is hashed before it is stored; a password equal to
+     * the current one is left untouched.</p>
      *
-     * @param dto the student data transfer object containing updated information
-     * @return {@code ResponseEntity} with:
-     *         <ul>
-     *           <li>Status 200 (OK) with success message</li>
-     *           <li>Returns success message even if no changes were made</li>
-     *         </ul>
+     * <p>Concurrency: send the {@code ETag} of the student as {@code If-Match} to make
+     * sure the update applies to the state that was read; an outdated tag is refused
+     * with 412 (Precondition Failed). Without the header, a concurrent update that
+     * commits first still makes this one fail with 409 (Conflict) instead of being
+     * overwritten.</p>
+     *
+     * @param id the ID of the student to update
+     * @param patch the fields to change
+     * @param ifMatch the {@code ETag} the client last saw, optional
+     * @return {@code ResponseEntity} with status 200 (OK), the updated student and its new {@code ETag}
      *
      * @throws org.springframework.security.access.AccessDeniedException if user lacks required role
-     * @throws IllegalArgumentException if the DTO or ID is invalid
-     * @throws jakarta.persistence.EntityNotFoundException if student doesn't exist
+     * @throws IllegalArgumentException if the ID is invalid
+     * @throws devnastapi.devnestapi.common.exceptions.usergenericexceptions.NotFoundUserException if student doesn't exist
+     * @throws devnastapi.devnestapi.common.exceptions.PreconditionFailedException if {@code If-Match} is outdated
+     * @throws org.springframework.dao.OptimisticLockingFailureException if a concurrent update committed first
      *
-     * @see UpdateStudentUseCase#updateStudentById(StudentDto)
+     * @see UpdateStudentUseCase#execute(String, StudentPatch, String)
      */
     @PatchMapping("/update/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Object> patchStudent(@RequestBody StudentDto dto) {
-        updateStudentUseCase.updateStudentById(dto);
-        return ResponseEntity.ok().body("Student updated successfully");
+    public ResponseEntity<StudentView> patchStudent(@PathVariable("id") String id,
+                                                    @RequestBody @Valid StudentPatch patch,
+                                                    @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        StudentPatchResult result = updateStudentUseCase.execute(id, patch, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(result.version()))
+                .body(result.student());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package devnastapi.devnestapi.student.dto;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one student of a batch enrollment.
+ *
+ * @param index the position of the student in the request array
+ * @param status what happened to the student
+ * @param id the identifier of the created student, {@code null} unless {@code CREATED}
+ * @param message why the student was not created, {@code null} when it was
+ */
+public record StudentBatchItemResult(
+        int index,
+        Status status,
+        UUID id,
+        String message
+) {
+
+    /**
+     * Outcome of a batch item.
+     */
+    public enum Status {
+        /** The student was inserted. */
+        CREATED,
+        /** The email is already registered, or appears earlier in the same request. */
+        DUPLICATE,
+        /** The student failed validation. */
+        INVALID,
+        /** The insert of the chunk holding the student failed. */
+        FAILED
+    }
+
+    public static StudentBatchItemResult created(int index, UUID id) {
+        return new StudentBatchItemResult(index, Status.CREATED, id, null);
+    }
+
+    public static StudentBatchItemResult rejected(int index, Status status, String message) {
+        return new StudentBatchItemResult(index, status, null, message);
+    }
+}
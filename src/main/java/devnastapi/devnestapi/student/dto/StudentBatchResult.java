@@ -0,0 +1,17 @@
+package devnastapi.devnestapi.student.dto;
+
+import java.util.List;
+
+/**
+ * Result of a batch enrollment.
+ *
+ * @param created the number of students inserted
+ * @param rejected the number of students not inserted
+ * @param items the outcome of every student, in request order
+ */
+public record StudentBatchResult(
+        int created,
+        int rejected,
+        List<StudentBatchItemResult> items
+) {
+}
@@ -29,6 +29,7 @@ import java.util.UUID;
  * @param name the full name of the student, must not be {@code null} or empty
  * @param email the email address of the student, must be a valid email format
  * @param birthDate the date of birth of the student, must be in the past
+ * @param course the name of the course the student enrolls in, must not be {@code null} or empty
  * @param password the student's password (plaintext for input, hashed for output),
  *                 may be {@code null} for retrieval operations
  *
@@ -41,7 +42,8 @@ public record StudentDto(
         String name,
         String email,
         LocalDate birthDate,
-        String password
+        String password,
+        String course
 ) {
 
     /**
@@ -100,6 +102,19 @@ public record StudentDto(
         return name;
     }
 
+    /**
+     * Returns the name of the student's course.
+     *
+     * <p>This getter method is provided for compatibility with frameworks
+     * that expect JavaBean-style property accessors. The record's component
+     * accessor {@link #course()} should be preferred in modern code.</p>
+     *
+     * @return the name of the student's course
+     */
+    public String getCourse() {
+        return course;
+    }
+
     /**
      * Returns the student's unique identifier.
      *
@@ -0,0 +1,15 @@
+package devnastapi.devnestapi.student.dto;
+
+/**
+ * A CSV row an import job could not store.
+ *
+ * @param line the line of the uploaded file on which the row starts
+ * @param status why the row was not stored
+ * @param message a description of the problem
+ */
+public record StudentImportError(
+        long line,
+        StudentBatchItemResult.Status status,
+        String message
+) {
+}
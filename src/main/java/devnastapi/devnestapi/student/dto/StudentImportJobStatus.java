@@ -0,0 +1,50 @@
+package devnastapi.devnestapi.student.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Progress of a CSV import job.
+ *
+ * <p>The counters grow while the job runs. Only the first errors are listed, the
+ * counters cover all of them.</p>
+ *
+ * @param id the unique identifier of the job
+ * @param state the lifecycle state of the job
+ * @param rowsRead the number of data rows parsed so far
+ * @param created the number of students stored
+ * @param duplicates the number of rows whose email is already registered or repeated
+ * @param invalid the number of rows that failed parsing or validation
+ * @param failed the number of rows whose insert failed
+ * @param errors the first rejected rows, in file order
+ * @param submittedAt when the file was accepted
+ * @param startedAt when processing started, {@code null} while queued
+ * @param finishedAt when processing ended, {@code null} until then
+ * @param failure why the whole job stopped, {@code null} unless it failed
+ */
+public record StudentImportJobStatus(
+        UUID id,
+        State state,
+        long rowsRead,
+        long created,
+        long duplicates,
+        long invalid,
+        long failed,
+        List<StudentImportError> errors,
+        Instant submittedAt,
+        Instant startedAt,
+        Instant finishedAt,
+        String failure
+) {
+
+    /**
+     * Lifecycle of an import job.
+     */
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
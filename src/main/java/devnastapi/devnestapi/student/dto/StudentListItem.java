@@ -0,0 +1,22 @@
+package devnastapi.devnestapi.student.dto;
+
+import java.util.UUID;
+
+/**
+ * Summary of a student as returned by the listing endpoint.
+ *
+ * <p>Selected directly by a JPQL constructor expression, so listing never loads
+ * managed {@code Student} entities or their password hashes.</p>
+ *
+ * @param id the unique identifier of the student, also the keyset sort key
+ * @param name the full name of the student
+ * @param email the email address of the student
+ * @param course the course the student is enrolled in
+ */
+public record StudentListItem(
+        UUID id,
+        String name,
+        String email,
+        String course
+) {
+}
@@ -0,0 +1,15 @@
+package devnastapi.devnestapi.student.dto;
+
+import java.util.List;
+
+/**
+ * One page of the keyset-paginated student listing.
+ *
+ * @param items the students on this page, ordered by id
+ * @param nextCursor the opaque cursor of the next page, or {@code null} on the last page
+ */
+public record StudentPage(
+        List<StudentListItem> items,
+        String nextCursor
+) {
+}
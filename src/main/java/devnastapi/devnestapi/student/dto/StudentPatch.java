@@ -0,0 +1,30 @@
+package devnastapi.devnestapi.student.dto;
+
+import jakarta.validation.constraints.Pattern;
+
+import java.time.LocalDate;
+
+/**
+ * Partial update of a student.
+ *
+ * <p>Only the fields present in the request are changed; a missing or {@code null}
+ * field keeps its stored value. Present text fields must not be blank.</p>
+ *
+ * @param name the new full name of the student
+ * @param email the new email address of the student
+ * @param password the new raw password of the student, hashed before it is stored
+ * @param dateOfBirth the new date of birth of the student
+ * @param course the new course of the student
+ */
+public record StudentPatch(
+        @Pattern(regexp = "(?s).*\\S.*", message = "Name must not be blank")
+        String name,
+        @Pattern(regexp = "(?s).*\\S.*", message = "Email must not be blank")
+        String email,
+        @Pattern(regexp = "(?s).*\\S.*", message = "Password must not be blank")
+        String password,
+        LocalDate dateOfBirth,
+        @Pattern(regexp = "(?s).*\\S.*", message = "Course must not be blank")
+        String course
+) {
+}
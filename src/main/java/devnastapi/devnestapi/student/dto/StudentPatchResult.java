@@ -0,0 +1,13 @@
+package devnastapi.devnestapi.student.dto;
+
+/**
+ * Outcome of a partial update of a student.
+ *
+ * @param student the student as stored after the update
+ * @param version the optimistic locking version after the update, sent back as the {@code ETag}
+ */
+public record StudentPatchResult(
+        StudentView student,
+        long version
+) {
+}
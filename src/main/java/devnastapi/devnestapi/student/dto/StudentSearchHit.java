@@ -0,0 +1,21 @@
+package devnastapi.devnestapi.student.dto;
+
+import java.util.UUID;
+
+/**
+ * A student matching a search, with its relevance.
+ *
+ * @param id the unique identifier of the student
+ * @param name the full name of the student
+ * @param email the email address of the student
+ * @param course the course the student is enrolled in
+ * @param score the trigram similarity of the best matching column, between 0 and 1
+ */
+public record StudentSearchHit(
+        UUID id,
+        String name,
+        String email,
+        String course,
+        double score
+) {
+}
@@ -0,0 +1,19 @@
+package devnastapi.devnestapi.student.dto;
+
+import java.util.List;
+
+/**
+ * One page of student search results, most relevant first.
+ *
+ * @param hits the matching students on this page
+ * @param page the zero-based page number
+ * @param size the page size used
+ * @param hasNext whether another page follows
+ */
+public record StudentSearchPage(
+        List<StudentSearchHit> hits,
+        int page,
+        int size,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,15 @@
+package devnastapi.devnestapi.student.dto;
+
+import java.util.UUID;
+
+/**
+ * A type-ahead suggestion for a student name.
+ *
+ * @param id the unique identifier of the student
+ * @param name the full name of the student
+ */
+public record StudentSuggestion(
+        UUID id,
+        String name
+) {
+}
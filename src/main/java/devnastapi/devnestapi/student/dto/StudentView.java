@@ -0,0 +1,33 @@
+package devnastapi.devnestapi.student.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Read-only view of a student as returned by the GET endpoints.
+ *
+ * <p>Selected directly by a JPQL constructor expression: only these columns are
+ * read, the password hash never leaves the database, and Hibernate neither
+ * hydrates nor dirty-tracks a {@code Student} entity for the request.</p>
+ *
+ * @param id the unique identifier of the student
+ * @param name the full name of the student
+ * @param email the email address of the student
+ * @param dateOfBirth the date of birth of the student
+ * @param course the course the student is enrolled in
+ * @param roles the comma-separated roles of the student
+ * @param createDate the creation date of the record
+ * @param lastModify the instant of the last modification
+ */
+public record StudentView(
+        UUID id,
+        String name,
+        String email,
+        LocalDate dateOfBirth,
+        String course,
+        String roles,
+        LocalDate createDate,
+        Instant lastModify
+) {
+}
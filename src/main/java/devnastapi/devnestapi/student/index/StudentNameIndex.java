@@ -0,0 +1,299 @@
+package devnastapi.devnestapi.student.index;
+
+import devnastapi.devnestapi.student.dto.StudentSuggestion;
+import devnastapi.devnestapi.student.repository.StudentSearchRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * In-memory name index answering the admin type-ahead without a database round-trip.
+ *
+ * <p>Holds a {@link TrigramIndex} over every student name. Lookups take a shared read
+ * lock; changes take the write lock, which they hold only for the few postings of one
+ * name.</p>
+ *
+ * <p>Lifecycle:
+ * <ul>
+ *   <li>Until the first build completes {@link #isReady()} is {@code false} and callers fall back to the database</li>
+ *   <li>The index is built after startup with a streaming scan over the student table</li>
+ *   <li>Created, renamed and deleted students are applied once their transaction has committed</li>
+ *   <li>Deletions and renames leave stale postings behind; once they exceed
+ *       {@code devnest.students.name-index.rebuild-ratio} of the students the index is rebuilt
+ *       in the background</li>
+ *   <li>The index is also rebuilt every {@code devnest.students.name-index.refresh-interval}, which
+ *       picks up students created, renamed or deleted on other nodes</li>
+ * </ul></p>
+ *
+ * <p>During a rebuild, changes are applied to the current index and recorded; they are
+ * replayed on the new index before it is swapped in, so nothing committed while the scan
+ * runs can be lost or resurrected.</p>
+ *
+ * <p>The estimated heap usage is published as the {@code devnest.students.name-index.heap}
+ * gauge, next to {@code devnest.students.name-index.size}.</p>
+ *
+ * @author Your Name or Team Name
+ * @version 1.0
+ * @since 2024-01-01
+ *
+ * @see devnastapi.devnestapi.student.service.StudentService#suggestStudents(String, Integer)
+ */
+@Component
+public class StudentNameIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentNameIndex.class);
+
+    /**
+     * Repository used for the streaming scan of student names.
+     */
+    private final StudentSearchRepository searchRepository;
+
+    /**
+     * Read-only transaction wrapping the streaming scan.
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * Fraction of stale documents that triggers a rebuild.
+     */
+    private final double rebuildRatio;
+
+    /**
+     * Guards {@link #current}, {@link #pending} and the index they refer to.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * The index answering lookups, or {@code null} until the first build completes.
+     */
+    private TrigramIndex current;
+
+    /**
+     * Changes committed while a build runs, or {@code null} when no build runs.
+     */
+    private List<Consumer<TrigramIndex>> pending;
+
+    /**
+     * Guards against concurrent builds.
+     */
+    private final AtomicBoolean building = new AtomicBoolean();
+
+    /**
+     * Constructs a new {@code StudentNameIndex}.
+     *
+     * @param searchRepository the repository used to scan student names
+     * @param transactionManager the transaction manager for the read-only scan
+     * @param registry the registry the size and heap gauges are published to
+     * @param rebuildRatio the fraction of stale documents that triggers a rebuild
+     */
+    public StudentNameIndex(StudentSearchRepository searchRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry registry,
+                            @Value("${devnest.students.name-index.rebuild-ratio:0.2}") double rebuildRatio) {
+        this.searchRepository = searchRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rebuildRatio = rebuildRatio;
+
+        Gauge.builder("devnest.students.name-index.size", this, index -> index.read(TrigramIndex::size))
+                .description("Students in the in-memory name index")
+                .register(registry);
+        Gauge.builder("devnest.students.name-index.heap", this, index -> index.read(TrigramIndex::estimatedHeapBytes))
+                .description("Estimated heap retained by the in-memory name index")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * Tells whether the index has been built and can answer lookups.
+     *
+     * @return {@code true} once the first build has completed
+     */
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return current != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Suggests the students whose name contains the given text, best matches first.
+     *
+     * <p>Texts of three characters or more match anywhere in the name; shorter texts
+     * match the start of a word.</p>
+     *
+     * @param text the text typed so far
+     * @param limit the maximum number of suggestions
+     * @return the suggestions, empty if the index is not built yet
+     */
+    public List<StudentSuggestion> suggest(String text, int limit) {
+        lock.readLock().lock();
+        try {
+            if (current == null) {
+                return List.of();
+            }
+            return current.search(text, limit).stream()
+                    .map(match -> new StudentSuggestion(match.id(), match.name()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes the current name of a student.
+     *
+     * <p>When called inside a transaction, the name is indexed after commit.</p>
+     *
+     * @param id the student id
+     * @param name the student name
+     */
+    public void put(UUID id, String name) {
+        afterCommit(index -> index.put(id, name));
+    }
+
+    /**
+     * Removes a deleted student from the index.
+     *
+     * <p>When called inside a transaction, the student is removed after commit.</p>
+     *
+     * @param id the student id
+     */
+    public void remove(UUID id) {
+        afterCommit(index -> index.remove(id));
+    }
+
+    /**
+     * Builds the index once the application is ready to serve requests.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the index when too many documents became stale.
+     */
+    @Scheduled(fixedDelayString = "${devnest.students.name-index.rebuild-check-interval:PT10M}")
+    public void rebuildIfStale() {
+        long size = read(TrigramIndex::size);
+        long stale = read(TrigramIndex::staleDocuments);
+        if (stale > 0 && stale > size * rebuildRatio) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuilds the index on a fixed schedule, whatever the number of stale documents.
+     */
+    @Scheduled(initialDelayString = "${devnest.students.name-index.refresh-interval:PT15M}",
+            fixedDelayString = "${devnest.students.name-index.refresh-interval:PT15M}")
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * Builds a new index with a streaming scan and swaps it in.
+     */
+    void rebuild() {
+        if (!building.compareAndSet(false, true)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            long started = System.nanoTime();
+            TrigramIndex index = new TrigramIndex();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<StudentSuggestion> names = searchRepository.streamNames()) {
+                    names.forEach(student -> index.put(student.id(), student.name()));
+                }
+            });
+
+            lock.writeLock().lock();
+            try {
+                pending.forEach(change -> change.accept(index));
+                current = index;
+            } finally {
+                pending = null;
+                lock.writeLock().unlock();
+            }
+
+            log.info("Student name index built with {} names in {} ms (~{} KiB)", index.size(),
+                    (System.nanoTime() - started) / 1_000_000, index.estimatedHeapBytes() / 1024);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.warn("Could not build the student name index, suggestions keep using the database", e);
+        } finally {
+            building.set(false);
+        }
+    }
+
+    private void afterCommit(Consumer<TrigramIndex> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<TrigramIndex> change) {
+        lock.writeLock().lock();
+        try {
+            if (current != null) {
+                change.accept(current);
+            }
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long read(ToLongFunction<TrigramIndex> reader) {
+        lock.readLock().lock();
+        try {
+            return current == null ? 0 : reader.applyAsLong(current);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
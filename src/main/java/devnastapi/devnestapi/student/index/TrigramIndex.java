@@ -0,0 +1,345 @@
+package devnastapi.devnestapi.student.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Inverted trigram index over student names, with primitive {@code int} posting lists.
+ *
+ * <p>Every indexed name gets a document number, assigned in insertion order. Each trigram
+ * of the lower-cased name maps to the ascending list of documents containing it, stored in
+ * a growable {@code int[]}: no boxed integers and no per-entry objects. Word starts are
+ * additionally indexed with one and two leading markers, so one- and two-character queries
+ * are answered as word-prefix lookups.</p>
+ *
+ * <p>A query intersects the posting lists of its trigrams, shortest first, and verifies
+ * each candidate against the name, since sharing all trigrams does not imply containing
+ * the text. Removing or renaming a student only tombstones its document; the stale
+ * postings are skipped until the index is rebuilt.</p>
+ *
+ * <p>Not thread-safe: {@link StudentNameIndex} guards every access.</p>
+ */
+final class TrigramIndex {
+
+    /**
+     * Marker placed before each word start, never part of a normalized name.
+     */
+    private static final char WORD_START = '\u0000';
+
+    /*
+     * Rough 64-bit JVM sizes with compressed references, used by the heap estimate.
+     */
+    private static final long ARRAY_HEADER = 16;
+    private static final long MAP_ENTRY = 32 + 4 + 16 + 24;
+    private static final long UUID_SIZE = 32;
+    private static final long STRING_HEADER = 24 + ARRAY_HEADER;
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<UUID, Integer> documents = new HashMap<>();
+
+    private UUID[] ids = new UUID[1024];
+    private String[] names = new String[1024];
+    private String[] keys = new String[1024];
+    private int documentCount;
+    private int liveCount;
+
+    private long postingBytes;
+    private long nameBytes;
+
+    /**
+     * Indexes the name of a student, replacing the name indexed before.
+     *
+     * @param id   the student id
+     * @param name the student name; a {@code null} or blank name removes the student
+     */
+    void put(UUID id, String name) {
+        String key = normalize(name);
+        Integer previous = documents.get(id);
+        if (previous != null) {
+            if (key.equals(keys[previous])) {
+                names[previous] = name;
+                return;
+            }
+            tombstone(previous);
+        }
+        if (key.isEmpty()) {
+            documents.remove(id);
+            return;
+        }
+
+        int document = documentCount++;
+        if (document == ids.length) {
+            int capacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+        }
+        ids[document] = id;
+        names[document] = name;
+        keys[document] = key;
+        documents.put(id, document);
+        liveCount++;
+        nameBytes += stringBytes(name) + stringBytes(key);
+
+        forEachTrigram(key, trigram -> {
+            Postings list = postings.get(trigram);
+            if (list == null) {
+                list = new Postings();
+                postings.put(trigram, list);
+                postingBytes += MAP_ENTRY + ARRAY_HEADER;
+            }
+            postingBytes += list.add(document);
+        });
+    }
+
+    /**
+     * Removes a student from the index.
+     *
+     * @param id the student id
+     */
+    void remove(UUID id) {
+        Integer document = documents.remove(id);
+        if (document != null) {
+            tombstone(document);
+        }
+    }
+
+    /**
+     * Finds the names containing the given text, best matches first.
+     *
+     * <p>Texts of three characters or more match anywhere in the name; shorter texts match
+     * the start of a word. Names starting with the text rank first, then names with a word
+     * starting with it, then any other match; shorter names win ties.</p>
+     *
+     * @param text  the text to look for
+     * @param limit the maximum number of matches to return
+     * @return the matches, best first
+     */
+    List<Match> search(String text, int limit) {
+        String query = normalize(text);
+        if (query.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        List<Postings> lists = new ArrayList<>();
+        if (query.length() < 3) {
+            Postings list = postings.get(trigram(WORD_START, query.length() == 1 ? WORD_START : query.charAt(0),
+                    query.charAt(query.length() - 1)));
+            if (list == null) {
+                return List.of();
+            }
+            lists.add(list);
+        } else {
+            for (int i = 0; i + 3 <= query.length(); i++) {
+                Postings list = postings.get(trigram(query.charAt(i), query.charAt(i + 1), query.charAt(i + 2)));
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+        }
+
+        PriorityQueue<Match> best = new PriorityQueue<>(Math.min(limit, 64) + 1, Match.ORDER.reversed());
+        Postings shortest = lists.get(0);
+        int[] cursors = new int[lists.size()];
+        candidates:
+        for (int i = 0; i < shortest.size; i++) {
+            int document = shortest.documents[i];
+            for (int l = 1; l < lists.size(); l++) {
+                cursors[l] = lists.get(l).seek(document, cursors[l]);
+                if (cursors[l] == lists.get(l).size) {
+                    break candidates;
+                }
+                if (lists.get(l).documents[cursors[l]] != document) {
+                    continue candidates;
+                }
+            }
+
+            String key = keys[document];
+            if (key == null) {
+                continue;
+            }
+            int rank = rank(key, query);
+            if (rank < 0 || (best.size() == limit && worse(rank, key.length(), best.peek()))) {
+                continue;
+            }
+            best.add(new Match(ids[document], names[document], rank, key.length()));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(best);
+        matches.sort(Match.ORDER);
+        return matches;
+    }
+
+    /**
+     * Returns the number of indexed students.
+     */
+    int size() {
+        return liveCount;
+    }
+
+    /**
+     * Returns the number of removed or renamed documents still present in the postings.
+     */
+    int staleDocuments() {
+        return documentCount - liveCount;
+    }
+
+    /**
+     * Estimates the heap retained by the index, in bytes.
+     *
+     * <p>Counts the posting arrays at their capacity, the document arrays, the name
+     * strings and the map entries, with typical 64-bit JVM object sizes.</p>
+     */
+    long estimatedHeapBytes() {
+        long documentArrays = 3 * (ARRAY_HEADER + 4L * ids.length);
+        long documentMap = documents.size() * (MAP_ENTRY + UUID_SIZE);
+        return postingBytes + nameBytes + documentArrays + documentMap;
+    }
+
+    private void tombstone(int document) {
+        nameBytes -= stringBytes(names[document]) + stringBytes(keys[document]);
+        ids[document] = null;
+        names[document] = null;
+        keys[document] = null;
+        liveCount--;
+    }
+
+    /**
+     * Ranks a verified candidate: {@code 0} name prefix, {@code 1} word prefix,
+     * {@code 2} substring, {@code -1} no match.
+     */
+    private static int rank(String key, String query) {
+        if (key.startsWith(query)) {
+            return 0;
+        }
+        int at = key.indexOf(query);
+        if (at < 0) {
+            return -1;
+        }
+        while (at >= 0) {
+            if (key.charAt(at - 1) == ' ') {
+                return 1;
+            }
+            at = key.indexOf(query, at + 1);
+        }
+        return query.length() < 3 ? -1 : 2;
+    }
+
+    /**
+     * Tells whether a candidate certainly ranks below the worst match kept so far,
+     * without allocating it.
+     */
+    private static boolean worse(int rank, int nameLength, Match worst) {
+        return rank > worst.rank() || (rank == worst.rank() && nameLength > worst.nameLength());
+    }
+
+    /**
+     * Lower-cases the text and collapses whitespace runs into single spaces.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace(WORD_START, ' ').strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static void forEachTrigram(String key, TrigramConsumer consumer) {
+        for (int i = 0; i < key.length(); i++) {
+            if (i == 0 || key.charAt(i - 1) == ' ') {
+                consumer.accept(trigram(WORD_START, WORD_START, key.charAt(i)));
+                if (i + 1 < key.length()) {
+                    consumer.accept(trigram(WORD_START, key.charAt(i), key.charAt(i + 1)));
+                }
+            }
+            if (i + 3 <= key.length()) {
+                consumer.accept(trigram(key.charAt(i), key.charAt(i + 1), key.charAt(i + 2)));
+            }
+        }
+    }
+
+    private static long trigram(char first, char second, char third) {
+        return ((long) first << 32) | ((long) second << 16) | third;
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : STRING_HEADER + value.length();
+    }
+
+    @FunctionalInterface
+    private interface TrigramConsumer {
+        void accept(long trigram);
+    }
+
+    /**
+     * Ascending, duplicate-free list of document numbers.
+     */
+    private static final class Postings {
+
+        private int[] documents = new int[4];
+        private int size;
+
+        /**
+         * Appends a document, which is never lower than the last one.
+         *
+         * @return the bytes the backing array grew by
+         */
+        long add(int document) {
+            if (size > 0 && documents[size - 1] == document) {
+                return 0;
+            }
+            long grown = 0;
+            if (size == documents.length) {
+                int capacity = documents.length + (documents.length >> 1) + 1;
+                grown = 4L * (capacity - documents.length);
+                documents = Arrays.copyOf(documents, capacity);
+            }
+            documents[size++] = document;
+            return grown + (size == 1 ? 4L * documents.length : 0);
+        }
+
+        /**
+         * Returns the position of the first document not lower than the target, searching from
+         * {@code from} with galloping steps.
+         */
+        int seek(int target, int from) {
+            int low = from;
+            int step = 1;
+            int high = from;
+            while (high < size && documents[high] < target) {
+                low = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            int found = Arrays.binarySearch(documents, low, Math.min(high + 1, size), target);
+            return found >= 0 ? found : -found - 1;
+        }
+    }
+
+    /**
+     * A name matching a query.
+     *
+     * @param id         the student id
+     * @param name       the name as stored
+     * @param rank       {@code 0} name prefix, {@code 1} word prefix, {@code 2} substring
+     * @param nameLength the length of the normalized name
+     */
+    record Match(UUID id, String name, int rank, int nameLength) {
+
+        static final Comparator<Match> ORDER = Comparator.comparingInt(Match::rank)
+                .thenComparingInt(Match::nameLength)
+                .thenComparing(Match::name)
+                .thenComparing(Match::id);
+    }
+}
@@ -3,6 +3,7 @@ package devnastapi.devnestapi.student.mapper;
 import devnastapi.devnestapi.student.dto.StudentDto;
 import devnastapi.devnestapi.student.model.Student;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 /**
  * Mapper interface for converting between {@link Student} entities and {@link StudentDto} DTOs.
@@ -46,8 +47,9 @@ public interface StudentMapper {
      *   <li>{@code StudentDto.id()} → {@code Student.id()}</li>
      *   <li>{@code StudentDto.name()} → {@code Student.name()}</li>
      *   <li>{@code StudentDto.email()} → {@code Student.email()}</li>
-     *   <li>{@code StudentDto.birthDate()} → {@code Student.birthDate()}</li>
+     *   <li>{@code StudentDto.birthDate()} → {@code Student.dateOfBirth()}</li>
      *   <li>{@code StudentDto.password()} → {@code Student.password()}</li>
+     *   <li>{@code StudentDto.course()} → {@code Student.course()}</li>
      * </ul>
      * Additional custom mappings can be defined using {@code @Mapping} annotations.</p>
      *
@@ -59,6 +61,7 @@ public interface StudentMapper {
      * @see StudentDto
      * @see Student
      */
+    @Mapping(target = "dateOfBirth", source = "birthDate")
     Student ToEntity(StudentDto dto);
 
     /**
@@ -73,8 +76,9 @@ public interface StudentMapper {
      *   <li>{@code Student.id()} → {@code StudentDto.id()}</li>
      *   <li>{@code Student.name()} → {@code StudentDto.name()}</li>
      *   <li>{@code Student.email()} → {@code StudentDto.email()}</li>
-     *   <li>{@code Student.birthDate()} → {@code StudentDto.birthDate()}</li>
+     *   <li>{@code Student.dateOfBirth()} → {@code StudentDto.birthDate()}</li>
      *   <li>{@code Student.password()} → {@code StudentDto.password()}</li>
+     *   <li>{@code Student.course()} → {@code StudentDto.course()}</li>
      * </ul>
      * Additional custom mappings can be defined using {@code @Mapping} annotations.</p>
      *
@@ -90,5 +94,6 @@ public interface StudentMapper {
      * @see Student
      * @see StudentDto
      */
+    @Mapping(target = "birthDate", source = "dateOfBirth")
     StudentDto toDto(Student student);
 }
\ No newline at end of file
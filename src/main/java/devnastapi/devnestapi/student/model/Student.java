@@ -1,11 +1,15 @@
 package devnastapi.devnestapi.student.model;
 
 import devnastapi.devnestapi.common.genericclasses.User;
+import devnastapi.devnestapi.common.idgenerator.UuidV7;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
@@ -21,6 +25,10 @@ import java.util.UUID;
  *
  * <p>Stored in the database table <b>student</b> under schema <b>public</b>.</p>
  *
+ * <p>Updates only write the columns that changed ({@link DynamicUpdate}) and are
+ * guarded by the {@link Version} column, so two concurrent edits of the same
+ * student cannot silently overwrite each other.</p>
+ *
  * @author Your Name or Team Name
  * @version 1.0
  * @since 2024-01-01
@@ -30,15 +38,18 @@ import java.util.UUID;
  * @see User
  */
 @Entity
-@Table(name = "student", schema = "public")
+@DynamicUpdate
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "student", schema = "public",
+        indexes = @Index(name = "ix_student_mail", columnList = "mail"))
 public class Student extends User {
 
     /**
      * Unique identifier for the student.
-     * Automatically generated using UUID strategy.
+     * Generated by the application as a time-ordered UUIDv7.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "id")
     private UUID id;
 
@@ -85,12 +96,12 @@ public class Student extends User {
     private String course;
 
     /**
-     * Date when the student record was last modified.
-     * Automatically updated on record changes.
+     * Instant when the student record was last modified.
+     * Automatically updated on record changes; served as {@code Last-Modified}.
      */
     @LastModifiedDate
     @Column(name = "last_modify")
-    private LocalDate lastModify;
+    private Instant lastModify;
 
     /**
      * Date when the student record was created.
@@ -108,6 +119,14 @@ public class Student extends User {
     @Column(name = "roles")
     private String roles;
 
+    /**
+     * Optimistic locking version, incremented by every update.
+     * <p>Rows created before versioning was introduced are backfilled with 0 by {@code schema.sql}.</p>
+     */
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     /**
      * Returns the unique identifier of the student.
      *
@@ -240,11 +259,20 @@ public class Student extends User {
     }
 
     /**
-     * Returns the date when the student record was last modified.
+     * Returns the optimistic locking version of the student.
+     *
+     * @return the version, {@code null} for unsaved entities
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the instant when the student record was last modified.
      *
-     * @return the last modification date, may be {@code null} if never modified
+     * @return the last modification instant, may be {@code null} for records saved before auditing was enabled
      */
-    public LocalDate getLastModify() {
+    public Instant getLastModify() {
         return lastModify;
     }
 
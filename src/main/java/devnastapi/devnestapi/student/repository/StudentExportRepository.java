@@ -0,0 +1,45 @@
+package devnastapi.devnestapi.student.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+/**
+ * Forward-only scan over every student, for the export.
+ * <p>
+ * Rows are handed to a callback as the driver fetches them, {@code devnest.students.export.fetch-size} at a time,
+ * so no result list is ever built. The Postgres driver only fetches in chunks inside a transaction; outside one
+ * it would read the whole result set into memory first.
+ */
+@Repository
+public class StudentExportRepository {
+
+    private static final String ALL_STUDENTS = """
+            select id, name, mail, date_of_birth, course, create_date, last_modify
+            from public.student
+            order by id
+            """;
+
+    private final JdbcTemplate streamingTemplate;
+
+    public StudentExportRepository(DataSource dataSource,
+                                   @Value("${devnest.students.export.fetch-size:1000}") int fetchSize) {
+        this.streamingTemplate = new JdbcTemplate(dataSource);
+        this.streamingTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Passes every student row to the handler, in id order.
+     * <p>
+     * Must be called inside a transaction. An exception thrown by the handler stops the scan and closes the cursor.
+     * The columns are {@code id, name, mail, date_of_birth, course, create_date, last_modify}.
+     *
+     * @param handler receives each row while the result set is positioned on it
+     */
+    public void forEachStudent(RowCallbackHandler handler) {
+        streamingTemplate.query(ALL_STUDENTS, handler);
+    }
+}
@@ -1,8 +1,18 @@
 package devnastapi.devnestapi.student.repository;
 
+import devnastapi.devnestapi.common.helpers.ResourceVersion;
+import devnastapi.devnestapi.student.dto.StudentListItem;
+import devnastapi.devnestapi.student.dto.StudentView;
 import devnastapi.devnestapi.student.model.Student;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -78,4 +88,102 @@ public interface StudentRepository extends JpaRepository<Student, UUID> {
      * @see Student#getEmail()
      */
     Student findByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Returns the first page of the student listing, ordered by id.
+     *
+     * <p>Selects only the listed columns through a constructor expression and walks
+     * the primary key index, so no entities are managed and no rows are sorted.</p>
+     *
+     * @param limit the maximum number of rows to return
+     * @return the students with the lowest ids
+     *
+     * @see #findListPageAfter(UUID, Limit)
+     */
+    @Query("""
+            select new devnastapi.devnestapi.student.dto.StudentListItem(s.id, s.name, s.email, s.course)
+            from Student s
+            order by s.id
+            """)
+    List<StudentListItem> findListPage(Limit limit);
+
+    /**
+     * Returns the page of the student listing that follows the given id.
+     *
+     * <p>Keyset pagination: the query seeks directly to {@code after} in the primary
+     * key index instead of skipping rows with {@code OFFSET}, so every page costs
+     * the same as the first one, however deep it is.</p>
+     *
+     * @param after the id of the last student of the previous page
+     * @param limit the maximum number of rows to return
+     * @return the students whose id is greater than {@code after}
+     */
+    @Query("""
+            select new devnastapi.devnestapi.student.dto.StudentListItem(s.id, s.name, s.email, s.course)
+            from Student s
+            where s.id > :after
+            order by s.id
+            """)
+    List<StudentListItem> findListPageAfter(UUID after, Limit limit);
+
+    /**
+     * Reads the response columns of one student.
+     *
+     * <p>A constructor expression selects only the columns of {@link StudentView}:
+     * the password hash is never read and no entity is hydrated or dirty-tracked.</p>
+     *
+     * @param id the unique identifier of the student
+     * @return the view of the student, or empty if no student has this id
+     */
+    @Query("""
+            select new devnastapi.devnestapi.student.dto.StudentView(
+                s.id, s.name, s.email, s.dateOfBirth, s.course, s.roles, s.createDate, s.lastModify)
+            from Student s
+            where s.id = :id
+            """)
+    Optional<StudentView> findViewById(UUID id);
+
+    /**
+     * Reads the version and last modification of one student, for conditional GETs.
+     *
+     * <p>Two columns found through the primary key: answering a {@code 304} costs neither
+     * hydration nor the serialization of the full view.</p>
+     *
+     * @param id the unique identifier of the student
+     * @return the validators of the student, or empty if no student has this id
+     */
+    @Query("""
+            select new devnastapi.devnestapi.common.helpers.ResourceVersion(s.version, s.lastModify)
+            from Student s
+            where s.id = :id
+            """)
+    Optional<ResourceVersion> findVersionById(UUID id);
+
+    /**
+     * Returns which of the given emails are already registered.
+     *
+     * <p>Checks a whole set of emails with one {@code IN} query over the unique
+     * {@code lower(mail)} index, instead of one {@link #existsByEmail(String)}
+     * round-trip per email.</p>
+     *
+     * @param emails the emails to check, already normalized to lower case
+     * @return the registered emails among {@code emails}, in lower case
+     */
+    @Query("select lower(s.email) from Student s where lower(s.email) in :emails")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Deletes a student with a single {@code DELETE} statement.
+     *
+     * <p>Unlike {@link #deleteById(Object)}, which loads the entity before removing it,
+     * this issues one bulk statement and reports how many rows it removed, so the
+     * caller can tell a missing student apart without a prior existence query.</p>
+     *
+     * @param id the unique identifier of the student
+     * @return the number of deleted rows, {@code 0} if no student has this id
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from Student s where s.id = :id")
+    int deleteStudentById(UUID id);
+}
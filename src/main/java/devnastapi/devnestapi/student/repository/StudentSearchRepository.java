@@ -0,0 +1,86 @@
+package devnastapi.devnestapi.student.repository;
+
+import devnastapi.devnestapi.common.helpers.LikePatterns;
+import devnastapi.devnestapi.student.dto.StudentSearchHit;
+import devnastapi.devnestapi.student.dto.StudentSuggestion;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Relevance-ranked substring search over student names and courses.
+ * <p>
+ * {@code ExampleMatcher} with {@code CONTAINING} compiles to {@code lower(name) like '%x%'}, which no B-tree index
+ * can serve. The query here uses the same predicate, but on the {@code pg_trgm} GIN indexes created by
+ * {@code schema.sql}, so Postgres looks up candidate rows by trigram instead of scanning the table. Matches are
+ * ranked by trigram similarity to the search text.
+ */
+@Repository
+public class StudentSearchRepository {
+
+    private static final String SEARCH = """
+            select id, name, mail, course,
+                   greatest(similarity(lower(name), :text), similarity(lower(course), :text)) as score
+            from public.student
+            where lower(name) like :pattern escape '\\' or lower(course) like :pattern escape '\\'
+            order by score desc, id
+            limit :limit offset :offset
+            """;
+
+    private static final String ALL_NAMES = "select id, name from public.student";
+
+    private static final RowMapper<StudentSearchHit> HIT_MAPPER = (rs, rowNum) -> new StudentSearchHit(
+            rs.getObject("id", UUID.class),
+            rs.getString("name"),
+            rs.getString("mail"),
+            rs.getString("course"),
+            rs.getDouble("score"));
+
+    private final JdbcClient jdbcClient;
+    private final JdbcClient streamingClient;
+
+    public StudentSearchRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcClient = JdbcClient.create(jdbcTemplate);
+
+        JdbcTemplate streamingTemplate = new JdbcTemplate(dataSource);
+        streamingTemplate.setFetchSize(1000);
+        this.streamingClient = JdbcClient.create(streamingTemplate);
+    }
+
+    /**
+     * Finds the students whose name or course contains the given text, ignoring case.
+     *
+     * @param text   the lower-cased search text
+     * @param offset the number of ranked matches to skip
+     * @param limit  the maximum number of matches to return
+     * @return the matches, most similar first
+     */
+    public List<StudentSearchHit> search(String text, long offset, int limit) {
+        return jdbcClient.sql(SEARCH)
+                .param("text", text)
+                .param("pattern", "%" + LikePatterns.escape(text) + "%")
+                .param("limit", limit)
+                .param("offset", offset)
+                .query(HIT_MAPPER)
+                .list();
+    }
+
+    /**
+     * Streams the id and name of every student from a server-side cursor.
+     * <p>
+     * Must be called inside a transaction so the driver can fetch in chunks, and the stream must be closed.
+     *
+     * @return a stream over all student names
+     */
+    public Stream<StudentSuggestion> streamNames() {
+        return streamingClient.sql(ALL_NAMES)
+                .query((rs, rowNum) -> new StudentSuggestion(rs.getObject("id", UUID.class), rs.getString("name")))
+                .stream();
+    }
+}
@@ -0,0 +1,238 @@
+package devnastapi.devnestapi.student.service;
+
+import devnastapi.devnestapi.common.helpers.Emails;
+import devnastapi.devnestapi.common.security.PasswordHashingService;
+import devnastapi.devnestapi.course.repository.EnrollmentRepository;
+import devnastapi.devnestapi.student.dto.StudentBatchItemResult;
+import devnastapi.devnestapi.student.dto.StudentBatchItemResult.Status;
+import devnastapi.devnestapi.student.dto.StudentBatchResult;
+import devnastapi.devnestapi.student.index.StudentNameIndex;
+import devnastapi.devnestapi.student.model.Student;
+import devnastapi.devnestapi.student.repository.StudentRepository;
+import devnastapi.devnestapi.student.validator.RegisteredEmailFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service for enrolling many students in one call.
+ *
+ * <p>Creating students one by one costs a transaction, an existence query and an
+ * insert each. Here the students are processed in chunks of
+ * {@code devnest.students.batch.chunk-size}, and each chunk costs:
+ * <ul>
+ *   <li>one {@code IN} query for the emails that are already registered</li>
+ *   <li>parallel password hashing on the {@link PasswordHashingService} pool</li>
+ *   <li>one transaction whose inserts Hibernate sends as JDBC batches
+ *       ({@code hibernate.jdbc.batch_size}), followed by one statement enrolling
+ *       the chunk's students in their courses</li>
+ * </ul></p>
+ *
+ * <p>Every student gets its own result: invalid students, duplicates and students
+ * of a chunk whose insert failed are reported without aborting the other chunks.</p>
+ *
+ * @author Your Name or Team Name
+ * @version 1.0
+ * @since 2024-01-01
+ *
+ * @see StudentService#createNewStudent(Student)
+ * @see StudentBatchResult
+ */
+@Service
+public class StudentBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentBatchService.class);
+
+    /**
+     * Repository for the duplicate check and the inserts.
+     */
+    private final StudentRepository repository;
+
+    /**
+     * Bounded hashing pool, used in parallel for each chunk.
+     */
+    private final PasswordHashingService hashing;
+
+    /**
+     * Filter of registered emails, updated once each chunk commits.
+     */
+    private final RegisteredEmailFilter emailFilter;
+
+    /**
+     * Name index behind the type-ahead, updated once each chunk commits.
+     */
+    private final StudentNameIndex nameIndex;
+
+    /**
+     * Student/course relation, filled for each chunk inside its transaction.
+     */
+    private final EnrollmentRepository enrollments;
+
+    /**
+     * Bean validation of each student before it is hashed or inserted.
+     */
+    private final Validator validator;
+
+    /**
+     * Persistence context, cleared after each chunk so it never grows with the batch.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * One transaction per chunk.
+     */
+    private final TransactionTemplate chunkTransaction;
+
+    /**
+     * Number of students checked, hashed and inserted together.
+     */
+    private final int chunkSize;
+
+    /**
+     * Constructs a new {@code StudentBatchService}.
+     *
+     * @param repository the student repository
+     * @param hashing the hashing pool
+     * @param emailFilter the filter of registered emails
+     * @param nameIndex the in-memory name index
+     * @param enrollments the student/course relation
+     * @param validator the bean validator
+     * @param entityManager the shared entity manager
+     * @param transactionManager the transaction manager for the chunk transactions
+     * @param chunkSize the number of students per chunk
+     */
+    public StudentBatchService(StudentRepository repository, PasswordHashingService hashing,
+                               RegisteredEmailFilter emailFilter, StudentNameIndex nameIndex, EnrollmentRepository enrollments,
+                               Validator validator, EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${devnest.students.batch.chunk-size:500}") int chunkSize) {
+        this.repository = repository;
+        this.hashing = hashing;
+        this.emailFilter = emailFilter;
+        this.nameIndex = nameIndex;
+        this.enrollments = enrollments;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Creates the given students, chunk by chunk.
+     *
+     * <p>Each student is validated, checked against the registered emails and the emails
+     * earlier in the same batch, hashed, and inserted with the {@code STUDENT} role.</p>
+     *
+     * @param students the students to create, with raw passwords
+     * @return the outcome of every student, in request order
+     *
+     * @throws devnastapi.devnestapi.common.exceptions.HashingCapacityExceededException if the hashing pool is saturated
+     */
+    public StudentBatchResult createStudents(List<Student> students) {
+        StudentBatchItemResult[] results = new StudentBatchItemResult[students.size()];
+        Set<String> seenEmails = new HashSet<>();
+
+        for (int start = 0; start < students.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, students.size());
+            processChunk(students, start, end, seenEmails, results);
+        }
+
+        List<StudentBatchItemResult> items = Arrays.asList(results);
+        int created = (int) items.stream().filter(item -> item.status() == Status.CREATED).count();
+        return new StudentBatchResult(created, items.size() - created, items);
+    }
+
+    private void processChunk(List<Student> students, int start, int end, Set<String> seenEmails,
+                              StudentBatchItemResult[] results) {
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            Student student = students.get(i);
+            if (student != null) {
+                student.setEmail(Emails.normalize(student.getEmail()));
+            }
+            String violations = student == null ? "Student is required" : violations(student);
+            if (violations != null) {
+                results[i] = StudentBatchItemResult.rejected(i, Status.INVALID, violations);
+            } else if (!seenEmails.add(student.getEmail())) {
+                results[i] = StudentBatchItemResult.rejected(i, Status.DUPLICATE, "Email appears earlier in this batch");
+            } else {
+                candidates.add(i);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<String> existing = new HashSet<>(repository.findExistingEmails(
+                candidates.stream().map(i -> students.get(i).getEmail()).toList()));
+
+        List<Student> toInsert = new ArrayList<>();
+        List<Integer> toInsertIndexes = new ArrayList<>();
+        for (int i : candidates) {
+            Student student = students.get(i);
+            if (existing.contains(student.getEmail())) {
+                results[i] = StudentBatchItemResult.rejected(i, Status.DUPLICATE, "This user already exists");
+            } else {
+                toInsert.add(student);
+                toInsertIndexes.add(i);
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return;
+        }
+
+        List<String> hashes = hashing.encodeAll(toInsert.stream().map(Student::getPassword).toList());
+        for (int i = 0; i < toInsert.size(); i++) {
+            toInsert.get(i).setPassword(hashes.get(i));
+            toInsert.get(i).setRoles("STUDENT");
+        }
+
+        try {
+            chunkTransaction.executeWithoutResult(status -> {
+                repository.saveAll(toInsert);
+                entityManager.flush();
+                entityManager.clear();
+                enrollments.syncStudents(toInsert.stream().map(Student::getId).toList());
+                toInsert.forEach(student -> {
+                    emailFilter.add(student.getEmail());
+                    nameIndex.put(student.getId(), student.getName());
+                });
+            });
+            for (int i = 0; i < toInsert.size(); i++) {
+                results[toInsertIndexes.get(i)] = StudentBatchItemResult.created(toInsertIndexes.get(i), toInsert.get(i).getId());
+            }
+        } catch (DataAccessException | TransactionException | PersistenceException e) {
+            log.warn("Batch enrollment chunk of {} students failed", toInsert.size(), e);
+            for (int i : toInsertIndexes) {
+                results[i] = StudentBatchItemResult.rejected(i, Status.FAILED, "Could not store this student, retry it");
+            }
+        }
+    }
+
+    private String violations(Student student) {
+        Set<ConstraintViolation<Student>> violations = validator.validate(student);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+}
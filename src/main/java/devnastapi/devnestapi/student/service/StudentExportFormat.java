@@ -0,0 +1,163 @@
+package devnastapi.devnestapi.student.service;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Output formats of the student export.
+ *
+ * <p>Both formats write one student per line, so a client can process the export
+ * while it is still being downloaded.</p>
+ *
+ * @author Your Name or Team Name
+ * @version 1.0
+ * @since 2024-01-01
+ *
+ * @see StudentExportService
+ */
+public enum StudentExportFormat {
+
+    /**
+     * Newline-delimited JSON: one JSON object per line.
+     */
+    NDJSON("application/x-ndjson", "students.ndjson") {
+        @Override
+        void writeHeader(Writer out) {
+        }
+
+        @Override
+        void writeRow(Writer out, String[] values) throws IOException {
+            out.write('{');
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write('"');
+                out.write(COLUMNS[i]);
+                out.write("\":");
+                writeJsonString(out, values[i]);
+            }
+            out.write("}\n");
+        }
+    },
+
+    /**
+     * Comma-separated values as in RFC 4180, with a header line.
+     *
+     * <p>Names and courses are entered by students, and a spreadsheet evaluates a cell starting
+     * with {@code =}, {@code +}, {@code -}, {@code @}, a tab or a carriage return as a formula.
+     * Such cells are written with a leading {@code '}, which spreadsheets show as plain text.</p>
+     */
+    CSV("text/csv", "students.csv") {
+        @Override
+        void writeHeader(Writer out) throws IOException {
+            out.write(String.join(",", COLUMNS));
+            out.write("\r\n");
+        }
+
+        @Override
+        void writeRow(Writer out, String[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                writeCsvField(out, values[i]);
+            }
+            out.write("\r\n");
+        }
+    };
+
+    /**
+     * Exported fields, in output order. The password hash is never exported.
+     */
+    static final String[] COLUMNS = {"id", "name", "email", "dateOfBirth", "course", "createDate", "lastModify"};
+
+    private final String contentType;
+    private final String fileName;
+
+    StudentExportFormat(String contentType, String fileName) {
+        this.contentType = contentType;
+        this.fileName = fileName;
+    }
+
+    /**
+     * Returns the media type of the export.
+     *
+     * @return the {@code Content-Type} to send
+     */
+    public String contentType() {
+        return contentType;
+    }
+
+    /**
+     * Returns the file name suggested to the client.
+     *
+     * @return the file name for the {@code Content-Disposition} header
+     */
+    public String fileName() {
+        return fileName;
+    }
+
+    /**
+     * Writes whatever precedes the first row.
+     */
+    abstract void writeHeader(Writer out) throws IOException;
+
+    /**
+     * Writes one student.
+     *
+     * @param values the values of {@link #COLUMNS}, {@code null} for missing values
+     */
+    abstract void writeRow(Writer out, String[] values) throws IOException;
+
+    private static void writeJsonString(Writer out, String value) throws IOException {
+        if (value == null) {
+            out.write("null");
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+        out.write('"');
+    }
+
+    private static void writeCsvField(Writer out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (!value.isEmpty() && isFormulaTrigger(value.charAt(0))) {
+            value = "'" + value;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    private static boolean isFormulaTrigger(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+}
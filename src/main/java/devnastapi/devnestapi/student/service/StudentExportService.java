@@ -0,0 +1,116 @@
+package devnastapi.devnestapi.student.service;
+
+import devnastapi.devnestapi.student.repository.StudentExportRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * Service writing every student to an output stream.
+ *
+ * <p>Unlike {@link StudentService#searchStudentByExample(String, String)}, which loads a
+ * {@code List<Student>}, the export never holds more than one fetch of rows and one output
+ * buffer: each row is written as soon as the cursor reaches it, so memory use does not
+ * depend on the number of students.</p>
+ *
+ * <p>When the client disconnects, the next buffer flush fails; the failure stops the scan,
+ * closes the cursor and rolls the read-only transaction back, so the connection returns to
+ * the pool right away instead of after the remaining rows were read.</p>
+ *
+ * @author Your Name or Team Name
+ * @version 1.0
+ * @since 2024-01-01
+ *
+ * @see StudentExportFormat
+ * @see StudentExportRepository
+ */
+@Service
+public class StudentExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentExportService.class);
+
+    /**
+     * Size of the character buffer in front of the response stream.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Repository running the forward-only scan.
+     */
+    private final StudentExportRepository repository;
+
+    /**
+     * Read-only transaction keeping the cursor open for the whole scan.
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * Constructs a new {@code StudentExportService}.
+     *
+     * @param repository the repository running the scan
+     * @param transactionManager the transaction manager for the read-only scan
+     */
+    public StudentExportService(StudentExportRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Writes every student to the given stream, in id order.
+     *
+     * @param format the output format
+     * @param output the stream to write to; flushed but not closed
+     * @return the number of students written
+     *
+     * @throws IOException if writing fails, typically because the client disconnected
+     * @throws org.springframework.dao.DataAccessException if a database error occurs
+     */
+    public long export(StudentExportFormat format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+        long started = System.nanoTime();
+        long[] rows = {0};
+        try {
+            format.writeHeader(writer);
+            readOnlyTransaction.executeWithoutResult(status -> repository.forEachStudent(rs -> {
+                try {
+                    format.writeRow(writer, values(rs));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            }));
+            writer.flush();
+        } catch (UncheckedIOException e) {
+            log.info("Student export stopped after {} rows: {}", rows[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+        log.info("Exported {} students as {} in {} ms", rows[0], format, (System.nanoTime() - started) / 1_000_000);
+        return rows[0];
+    }
+
+    private static String[] values(ResultSet rs) throws SQLException {
+        return new String[]{
+                Objects.toString(rs.getObject("id"), null),
+                rs.getString("name"),
+                rs.getString("mail"),
+                rs.getString("date_of_birth"),
+                rs.getString("course"),
+                rs.getString("create_date"),
+                rs.getString("last_modify")
+        };
+    }
+}
@@ -0,0 +1,400 @@
+package devnastapi.devnestapi.student.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import devnastapi.devnestapi.common.exceptions.HashingCapacityExceededException;
+import devnastapi.devnestapi.common.exceptions.ImportCapacityExceededException;
+import devnastapi.devnestapi.common.exceptions.ImportJobNotFoundException;
+import devnastapi.devnestapi.common.helpers.CsvReader;
+import devnastapi.devnestapi.student.dto.StudentBatchItemResult;
+import devnastapi.devnestapi.student.dto.StudentBatchItemResult.Status;
+import devnastapi.devnestapi.student.dto.StudentBatchResult;
+import devnastapi.devnestapi.student.dto.StudentImportError;
+import devnastapi.devnestapi.student.dto.StudentImportJobStatus;
+import devnastapi.devnestapi.student.dto.StudentImportJobStatus.State;
+import devnastapi.devnestapi.student.model.Student;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service importing students from uploaded CSV files in the background.
+ *
+ * <p>The file is parsed one record at a time with a {@link CsvReader} and handed to the
+ * {@link StudentBatchService} in chunks of {@code devnest.students.batch.chunk-size}
+ * rows, so at most one chunk of students is held in memory, whatever the size of
+ * the file. Each chunk is validated, hashed and inserted in its own transaction,
+ * exactly like a {@code POST /students/batch} request.</p>
+ *
+ * <p>Backpressure: the next chunk is only parsed once the previous one is stored, and
+ * when the hashing pool is saturated by other traffic the chunk is retried with an
+ * increasing delay instead of failing the job. At most
+ * {@code devnest.students.import.concurrency} jobs run at once and
+ * {@code devnest.students.import.max-queued-jobs} wait; further uploads are refused.</p>
+ *
+ * <p>The expected header is {@code name,email,password,dateOfBirth,course}, in any order
+ * and case; dates use the ISO format. Jobs are kept for
+ * {@code devnest.students.import.retention} after submission so clients can poll their
+ * progress.</p>
+ *
+ * <p>Jobs and their status live in the memory of the node that accepted the upload and
+ * are lost when it restarts. Behind a load balancer, {@code GET /students/import/{jobId}}
+ * must reach that same node, for instance through sticky sessions; any other node
+ * answers 404.</p>
+ *
+ * @author Your Name or Team Name
+ * @version 1.0
+ * @since 2024-01-01
+ *
+ * @see StudentBatchService
+ * @see StudentImportJobStatus
+ */
+@Service
+public class StudentImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentImportService.class);
+
+    /**
+     * Columns every import file must provide.
+     */
+    static final List<String> COLUMNS = List.of("name", "email", "password", "dateofbirth", "course");
+
+    private static final long INITIAL_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+
+    /**
+     * Service storing each chunk.
+     */
+    private final StudentBatchService batchService;
+
+    /**
+     * Threads running the import jobs, with a bounded queue of waiting jobs.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Jobs by id, dropped once the retention has passed. Local to this node.
+     */
+    private final Cache<UUID, ImportJob> jobs;
+
+    /**
+     * Number of rows stored together.
+     */
+    private final int chunkSize;
+
+    /**
+     * Maximum number of rejected rows listed per job.
+     */
+    private final int maxErrors;
+
+    /**
+     * Maximum number of characters of one CSV record.
+     */
+    private final int maxRecordLength;
+
+    /**
+     * Constructs a new {@code StudentImportService}.
+     *
+     * @param batchService the service storing each chunk
+     * @param chunkSize the number of rows stored together
+     * @param concurrency the number of jobs running at once
+     * @param maxQueuedJobs the number of jobs allowed to wait for a free slot
+     * @param maxErrors the maximum number of rejected rows listed per job
+     * @param maxRecordLength the maximum number of characters of one CSV record
+     * @param retention how long a job can be looked up after its submission
+     */
+    public StudentImportService(StudentBatchService batchService,
+                                @Value("${devnest.students.batch.chunk-size:500}") int chunkSize,
+                                @Value("${devnest.students.import.concurrency:1}") int concurrency,
+                                @Value("${devnest.students.import.max-queued-jobs:4}") int maxQueuedJobs,
+                                @Value("${devnest.students.import.max-errors:100}") int maxErrors,
+                                @Value("${devnest.students.import.max-record-length:4096}") int maxRecordLength,
+                                @Value("${devnest.students.import.retention:24h}") Duration retention) {
+        this.batchService = batchService;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.maxRecordLength = maxRecordLength;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                concurrency, concurrency,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueuedJobs),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "student-import-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .build();
+    }
+
+    /**
+     * Queues the import of a CSV file.
+     *
+     * <p>The service takes ownership of the file and deletes it once the job ends,
+     * or right away if the job cannot be queued.</p>
+     *
+     * @param file the uploaded CSV file, UTF-8 encoded
+     * @return the status of the queued job
+     *
+     * @throws ImportCapacityExceededException if the maximum number of jobs is already queued
+     */
+    public StudentImportJobStatus submit(Path file) {
+        ImportJob job = new ImportJob(UUID.randomUUID(), maxErrors);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job, file));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.id);
+            deleteQuietly(file);
+            throw new ImportCapacityExceededException("Too many imports are in progress, try again later");
+        }
+        return job.status();
+    }
+
+    /**
+     * Returns the progress of an import job.
+     *
+     * @param id the unique identifier of the job
+     * @return the current status of the job
+     *
+     * @throws ImportJobNotFoundException if no job has this id, or it expired
+     */
+    public StudentImportJobStatus getStatus(UUID id) {
+        ImportJob job = jobs.getIfPresent(id);
+        if (job == null) {
+            throw new ImportJobNotFoundException("Import job not found");
+        }
+        return job.status();
+    }
+
+    void run(ImportJob job, Path file) {
+        job.start();
+        try (CsvReader csv = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8), maxRecordLength)) {
+            int[] columns = columnPositions(csv.next());
+
+            List<Student> chunk = new ArrayList<>(chunkSize);
+            long[] lines = new long[chunkSize];
+            List<String> record;
+            while ((record = csv.next()) != null) {
+                job.rowRead();
+                try {
+                    lines[chunk.size()] = csv.recordLine();
+                    chunk.add(toStudent(record, columns));
+                } catch (IllegalArgumentException e) {
+                    job.reject(csv.recordLine(), Status.INVALID, e.getMessage());
+                    continue;
+                }
+                if (chunk.size() == chunkSize) {
+                    store(job, chunk, lines);
+                    chunk.clear();
+                }
+            }
+            store(job, chunk, lines);
+            job.complete();
+            StudentImportJobStatus status = job.status();
+            log.info("Student import {} completed: {} rows, {} created, {} duplicates, {} invalid, {} failed", job.id,
+                    status.rowsRead(), status.created(), status.duplicates(), status.invalid(), status.failed());
+        } catch (IOException | UncheckedIOException | IllegalArgumentException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            job.fail(e.getMessage());
+            log.warn("Student import {} failed after {} rows: {}", job.id, job.status().rowsRead(), e.getMessage());
+        } catch (RuntimeException e) {
+            job.fail("Unexpected error, the remaining rows were not imported");
+            log.error("Student import {} failed", job.id, e);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private void store(ImportJob job, List<Student> chunk, long[] lines) throws InterruptedException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        StudentBatchResult result = createWithBackoff(chunk);
+        for (StudentBatchItemResult item : result.items()) {
+            if (item.status() == Status.CREATED) {
+                job.created();
+            } else {
+                job.reject(lines[item.index()], item.status(), item.message());
+            }
+        }
+    }
+
+    /**
+     * Stores one chunk, waiting for the hashing pool while it is saturated.
+     *
+     * <p>The chunk never exceeds the batch chunk size, so it is stored in a single
+     * transaction and a retry never repeats a committed insert.</p>
+     */
+    private StudentBatchResult createWithBackoff(List<Student> chunk) throws InterruptedException {
+        long backoff = INITIAL_BACKOFF_MILLIS;
+        while (true) {
+            try {
+                return batchService.createStudents(chunk);
+            } catch (HashingCapacityExceededException e) {
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Resolves the position of every expected column from the header record.
+     */
+    static int[] columnPositions(List<String> header) {
+        if (header == null) {
+            throw new IllegalArgumentException("The file is empty");
+        }
+        int[] positions = new int[COLUMNS.size()];
+        Arrays.fill(positions, -1);
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").strip().toLowerCase(Locale.ROOT);
+            int column = COLUMNS.indexOf(name);
+            if (column >= 0) {
+                positions[column] = i;
+            }
+        }
+        for (int column = 0; column < positions.length; column++) {
+            if (positions[column] < 0) {
+                throw new IllegalArgumentException("Missing column '" + COLUMNS.get(column)
+                        + "', expected header name,email,password,dateOfBirth,course");
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Builds a student from a record; bean validation happens in the batch service.
+     */
+    static Student toStudent(List<String> record, int[] positions) {
+        Student student = new Student();
+        student.setName(field(record, positions[0]));
+        student.setEmail(field(record, positions[1]));
+        student.setPassword(field(record, positions[2]));
+        String dateOfBirth = field(record, positions[3]);
+        if (dateOfBirth != null) {
+            try {
+                student.setDateOfBirth(LocalDate.parse(dateOfBirth.strip()));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Date of birth must use the format yyyy-MM-dd");
+            }
+        }
+        student.setCourse(field(record, positions[4]));
+        return student;
+    }
+
+    private static String field(List<String> record, int position) {
+        if (position >= record.size()) {
+            return null;
+        }
+        String value = record.get(position);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}", file, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Mutable progress of one job, written by its worker thread and read by status requests.
+     */
+    static final class ImportJob {
+
+        private final UUID id;
+        private final int maxErrors;
+        private final Instant submittedAt = Instant.now();
+        private final List<StudentImportError> errors = new ArrayList<>();
+
+        private State state = State.QUEUED;
+        private long rowsRead;
+        private long created;
+        private long duplicates;
+        private long invalid;
+        private long failed;
+        private Instant startedAt;
+        private Instant finishedAt;
+        private String failure;
+
+        ImportJob(UUID id, int maxErrors) {
+            this.id = id;
+            this.maxErrors = maxErrors;
+        }
+
+        synchronized void start() {
+            state = State.RUNNING;
+            startedAt = Instant.now();
+        }
+
+        synchronized void rowRead() {
+            rowsRead++;
+        }
+
+        synchronized void created() {
+            created++;
+        }
+
+        synchronized void reject(long line, Status status, String message) {
+            switch (status) {
+                case DUPLICATE -> duplicates++;
+                case INVALID -> invalid++;
+                default -> failed++;
+            }
+            if (errors.size() < maxErrors) {
+                errors.add(new StudentImportError(line, status, message));
+            }
+        }
+
+        synchronized void complete() {
+            state = State.COMPLETED;
+            finishedAt = Instant.now();
+        }
+
+        synchronized void fail(String message) {
+            state = State.FAILED;
+            finishedAt = Instant.now();
+            failure = message;
+        }
+
+        synchronized StudentImportJobStatus status() {
+            return new StudentImportJobStatus(id, state, rowsRead, created, duplicates, invalid, failed,
+                    List.copyOf(errors), submittedAt, startedAt, finishedAt, failure);
+        }
+    }
+}
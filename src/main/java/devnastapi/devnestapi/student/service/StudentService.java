@@ -1,16 +1,41 @@
 package devnastapi.devnestapi.student.service;
 
+import devnastapi.devnestapi.common.exceptions.InvalidCursorException;
+import devnastapi.devnestapi.common.exceptions.PreconditionFailedException;
 import devnastapi.devnestapi.common.exceptions.usergenericexceptions.DuplicateUserException;
 import devnastapi.devnestapi.common.exceptions.usergenericexceptions.NotFoundUserException;
+import devnastapi.devnestapi.common.helpers.Emails;
+import devnastapi.devnestapi.common.helpers.ResourceVersion;
+import devnastapi.devnestapi.common.security.PasswordHashingService;
+import devnastapi.devnestapi.course.repository.EnrollmentRepository;
+import devnastapi.devnestapi.student.authservice.VerifiedCredentialCache;
+import devnastapi.devnestapi.student.dto.StudentListItem;
+import devnastapi.devnestapi.student.dto.StudentPatch;
+import devnastapi.devnestapi.student.dto.StudentPage;
+import devnastapi.devnestapi.student.dto.StudentSearchHit;
+import devnastapi.devnestapi.student.dto.StudentSearchPage;
+import devnastapi.devnestapi.student.dto.StudentSuggestion;
+import devnastapi.devnestapi.student.dto.StudentView;
+import devnastapi.devnestapi.student.index.StudentNameIndex;
 import devnastapi.devnestapi.student.model.Student;
 import devnastapi.devnestapi.student.repository.StudentRepository;
+import devnastapi.devnestapi.student.repository.StudentSearchRepository;
+import devnastapi.devnestapi.student.validator.RegisteredEmailFilter;
 import devnastapi.devnestapi.student.validator.StudentValidator;
 import org.springframework.data.domain.Example;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.ExampleMatcher;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.ByteBuffer;
+import java.util.Base64;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,6 +53,7 @@ import java.util.UUID;
  *   <li>Updating existing student records</li>
  *   <li>Deleting student records</li>
  *   <li>Searching for students using various criteria</li>
+ *   <li>Keeping each student's course enrollment in line with the course it carries</li>
  *   <li>Ensuring data consistency and enforcing business rules</li>
  * </ul></p>
  *
@@ -42,39 +68,113 @@ import java.util.UUID;
  * @see Student
  * @see StudentRepository
  * @see StudentValidator
- * @see PasswordEncoder
+ * @see PasswordHashingService
  */
 @Service
 public class StudentService {
 
+    /**
+     * Number of type-ahead suggestions returned when the client does not ask for a number.
+     */
+    private static final int DEFAULT_SUGGESTIONS = 10;
+
     /**
      * Repository for database operations on Student entities.
      */
     private final StudentRepository repository;
 
+    /**
+     * Trigram-indexed, relevance-ranked search over names and courses.
+     */
+    private final StudentSearchRepository searchRepository;
+
     /**
      * Validator for business rule validation.
      */
     private final StudentValidator validator;
 
     /**
-     * Password encoder for secure password hashing.
+     * Bounded hashing pool for secure password hashing off the request thread.
+     */
+    private final PasswordHashingService hashing;
+
+    /**
+     * Cache of verified credentials, invalidated whenever an account changes.
+     */
+    private final VerifiedCredentialCache credentialCache;
+
+    /**
+     * Filter of registered emails, kept current on every account change.
+     */
+    private final RegisteredEmailFilter emailFilter;
+
+    /**
+     * In-memory name index behind the type-ahead, kept current on every change.
+     */
+    private final StudentNameIndex nameIndex;
+
+    /**
+     * Indexed student/course relation, kept in line with the course name of each student.
+     */
+    private final EnrollmentRepository enrollments;
+
+    /**
+     * Transaction of a partial update, started once its password hashing is done.
+     */
+    private final TransactionTemplate patchTransaction;
+
+    /**
+     * Page size used by the listing when the client does not ask for one.
+     */
+    private final int defaultPageSize;
+
+    /**
+     * Largest page size the listing returns, whatever the client asks for.
      */
-    private final PasswordEncoder encoder;
+    private final int maxPageSize;
+
+    /**
+     * Largest number of type-ahead suggestions returned, whatever the client asks for.
+     */
+    private final int maxSuggestions;
 
     /**
      * Constructs a new {@code StudentService} with required dependencies.
      *
      * @param repository the student repository for database operations
+     * @param searchRepository the ranked substring search over names and courses
      * @param validator the validator for business rule validation
-     * @param encoder the password encoder for secure password hashing
+     * @param hashing the hashing pool for secure password hashing
+     * @param credentialCache the cache of verified credentials to invalidate on account changes
+     * @param emailFilter the filter of registered emails to keep current
+     * @param nameIndex the in-memory name index to keep current
+     * @param enrollments the student/course relation to keep current
+     * @param transactionManager the transaction manager for partial updates
+     * @param defaultPageSize the listing page size used when none is requested
+     * @param maxPageSize the hard maximum listing page size
+     * @param maxSuggestions the hard maximum number of type-ahead suggestions
      *
      * @throws IllegalArgumentException if any parameter is {@code null}
      */
-    public StudentService(StudentRepository repository, StudentValidator validator, PasswordEncoder encoder) {
+    public StudentService(StudentRepository repository, StudentSearchRepository searchRepository, StudentValidator validator, PasswordHashingService hashing,
+                          VerifiedCredentialCache credentialCache, RegisteredEmailFilter emailFilter,
+                          StudentNameIndex nameIndex, EnrollmentRepository enrollments,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${devnest.students.listing.default-page-size:50}") int defaultPageSize,
+                          @Value("${devnest.students.listing.max-page-size:200}") int maxPageSize,
+                          @Value("${devnest.students.suggest.max-results:20}") int maxSuggestions) {
         this.repository = repository;
+        this.searchRepository = searchRepository;
         this.validator = validator;
-        this.encoder = encoder;
+        this.hashing = hashing;
+        this.credentialCache = credentialCache;
+        this.emailFilter = emailFilter;
+        this.nameIndex = nameIndex;
+        this.enrollments = enrollments;
+        this.patchTransaction = new TransactionTemplate(transactionManager);
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxSuggestions = maxSuggestions;
     }
 
     /**
@@ -82,29 +182,39 @@ public class StudentService {
      *
      * <p>This method performs the following steps:
      * <ol>
-     *   <li>Validates that a student with the same email doesn't already exist</li>
-     *   <li>Encodes the plaintext password using {@link PasswordEncoder}</li>
+     *   <li>Normalizes the email to lower case</li>
+     *   <li>Encodes the plaintext password on the {@link PasswordHashingService} pool</li>
      *   <li>Sets the default role as "STUDENT"</li>
      *   <li>Persists the student entity to the database</li>
+     *   <li>Adds the email to the {@link RegisteredEmailFilter}</li>
+     *   <li>Adds the name to the {@link StudentNameIndex}</li>
+     *   <li>Enrolls the student in the course it names, if that course exists</li>
      * </ol></p>
      *
+     * <p>Duplicates are not looked up beforehand: the unique {@code lower(mail)} index
+     * rejects the insert, which also holds for concurrent enrollments, and
+     * {@link devnastapi.devnestapi.common.exceptions.GlobalExceptionHandler} answers the
+     * violation like a {@link DuplicateUserException}.</p>
+     *
      * @param student the student entity to create, must not be {@code null}
      * @return the saved student entity with generated ID and encoded password
      *
-     * @throws DuplicateUserException if a student with the same email already exists
+     * @throws org.springframework.dao.DataIntegrityViolationException if a student with the same email already exists
+     * @throws devnastapi.devnestapi.common.exceptions.HashingCapacityExceededException if the hashing pool is saturated
      * @throws IllegalArgumentException if {@code student} is {@code null}
      * @throws org.springframework.dao.DataAccessException if a database error occurs
      *
-     * @see StudentValidator#studentExistsByEmail(Student)
-     * @see PasswordEncoder#encode(CharSequence)
+     * @see PasswordHashingService#encode(CharSequence)
      */
     public Student createNewStudent(Student student) {
-        if (!validator.studentExistsByEmail(student)) {
-            throw new DuplicateUserException("This user already exists");
-        }
-        student.setPassword(encoder.encode(student.getPassword()));
+        student.setEmail(Emails.normalize(student.getEmail()));
+        student.setPassword(hashing.encode(student.getPassword()));
         student.setRoles("STUDENT");
-        return repository.save(student);
+        Student saved = repository.save(student);
+        emailFilter.add(saved.getEmail());
+        nameIndex.put(saved.getId(), saved.getName());
+        enrollments.syncStudents(List.of(saved.getId()));
+        return saved;
     }
 
     /**
@@ -114,8 +224,12 @@ public class StudentService {
      * the student is not found. This is the preferred approach for refactored
      * code as it provides cleaner error handling at the service layer.</p>
      *
+     * <p>Only the response columns are selected, in a read-only transaction:
+     * no entity is hydrated, dirty-tracked or flushed, and the password hash
+     * is never read.</p>
+     *
      * @param id the unique identifier of the student to retrieve
-     * @return the student entity with the given ID
+     * @return the view of the student with the given ID
      *
      * @throws NotFoundUserException if no student exists with the given ID
      * @throws IllegalArgumentException if {@code id} is {@code null}
@@ -123,8 +237,26 @@ public class StudentService {
      *
      * @see #getStudent(UUID)
      */
-    public Student getStudentRefactored(UUID id) {
-        return repository.findById(id)
+    @Transactional(readOnly = true)
+    public StudentView getStudentRefactored(UUID id) {
+        return repository.findViewById(id)
+                .orElseThrow(() -> new NotFoundUserException("Student not found"));
+    }
+
+    /**
+     * Reads the version and last modification of a student, without loading it.
+     *
+     * <p>Lets {@code GET /students/{id}} answer {@code 304 Not Modified} with a
+     * two-column lookup; the view is only read when the client's copy is stale.</p>
+     *
+     * @param id the unique identifier of the student
+     * @return the validators of the student
+     *
+     * @throws NotFoundUserException if no student exists with the given ID
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getStudentVersion(UUID id) {
+        return repository.findVersionById(id)
                 .orElseThrow(() -> new NotFoundUserException("Student not found"));
     }
 
@@ -135,8 +267,10 @@ public class StudentService {
      * It's recommended to use {@link #getStudentRefactored(UUID)} instead for
      * cleaner error handling with exceptions.</p>
      *
+     * <p>Reads the same column projection as {@link #getStudentRefactored(UUID)}.</p>
+     *
      * @param id the unique identifier of the student to retrieve
-     * @return an {@link Optional} containing the student if found, empty otherwise
+     * @return an {@link Optional} containing the view of the student if found
      *
      * @throws NotFoundUserException if no student exists with the given ID
      * @throws IllegalArgumentException if {@code id} is {@code null}
@@ -146,25 +280,26 @@ public class StudentService {
      * @see #getStudentRefactored(UUID)
      */
     @Deprecated
-    public Optional<Student> getStudent(UUID id) {
-        if (!validator.studentExistsById(id)) {
+    @Transactional(readOnly = true)
+    public Optional<StudentView> getStudent(UUID id) {
+        Optional<StudentView> student = repository.findViewById(id);
+        if (student.isEmpty()) {
             throw new NotFoundUserException("No student found with this ID");
         }
-        return repository.findById(id);
+        return student;
     }
 
     /**
      * Deletes a student by ID.
      *
-     * <p>This method performs an idempotent delete operation:
+     * <p>This method performs the delete in a single round-trip:
      * <ul>
-     *   <li>Validates that the student exists</li>
-     *   <li>Deletes the student from the database</li>
+     *   <li>Deletes the student with one conditional {@code DELETE} statement</li>
+     *   <li>Reports a missing student when no row was affected</li>
+     *   <li>Drops any cached credential verification for the student</li>
+     *   <li>Removes the student from the {@link StudentNameIndex}</li>
      *   <li>Returns {@code true} on successful deletion</li>
-     * </ul>
-     * Note: The validation check makes this non-idempotent. Consider
-     * using {@link StudentRepository#deleteById(Object)} directly if
-     * idempotency is required.</p>
+     * </ul></p>
      *
      * @param id the unique identifier of the student to delete
      * @return {@code true} if the student was successfully deleted
@@ -173,53 +308,124 @@ public class StudentService {
      * @throws IllegalArgumentException if {@code id} is {@code null}
      * @throws org.springframework.dao.DataAccessException if a database error occurs
      *
-     * @see StudentValidator#studentExistsById(UUID)
+     * @see StudentRepository#deleteStudentById(UUID)
      */
     public Boolean deleteStudent(UUID id) {
-        if (!validator.studentExistsById(id)){
+        if (repository.deleteStudentById(id) == 0){
             throw new NotFoundUserException("Student not found");
         }
-        repository.deleteById(id);
+        credentialCache.invalidateAccount(id);
+        emailFilter.markStale();
+        nameIndex.remove(id);
         return true;
     }
 
     /**
-     * Updates an existing student's information.
+     * Applies a partial update to a student.
      *
-     * <p>This method performs a partial update of student information:
+     * <p>This method performs a true partial update:
      * <ol>
-     *   <li>Retrieves the existing student from the database</li>
-     *   <li>Updates the email, password, and name fields</li>
-     *   <li>Persists the updated entity</li>
-     * </ol>
+     *   <li>Loads the student and checks the version the client expects, if any</li>
+     *   <li>Hashes the password only when it differs from the stored one, before any transaction starts</li>
+     *   <li>Reloads the student in a transaction and copies only the fields present in the patch that
+     *       differ from the stored values</li>
+     *   <li>Flushes an {@code UPDATE} of the changed columns only, guarded by the version</li>
+     *   <li>Drops any cached credential verification when the email or password changed, again once
+     *       the transaction has committed</li>
+     *   <li>Keeps the {@link RegisteredEmailFilter} and {@link StudentNameIndex} current</li>
+     *   <li>Moves the enrollment to the new course when the course changed</li>
+     * </ol></p>
      *
-     * <p><strong>Important Notes:</strong>
-     * <ul>
-     *   <li>The password is updated without re-encoding. This is a security risk.</li>
-     *   <li>Only email, password, and name are updated. Other fields remain unchanged.</li>
-     *   <li>No validation is performed on the updated email for uniqueness.</li>
-     * </ul></p>
+     * <p>A patch that changes nothing issues no {@code UPDATE} and keeps the version.
+     * Checking whether a password changed costs one hash comparison on the
+     * {@link PasswordHashingService} pool; it runs outside the transaction, so no
+     * connection is held while hashing.</p>
      *
-     * @param student the student entity containing updated information
-     * @return {@code true} if the update was successful
+     * @param id the unique identifier of the student to update
+     * @param patch the fields to change
+     * @param expectedVersion the version the client last saw, or {@code null} to skip the check
+     * @return the student as stored after the update
      *
      * @throws NotFoundUserException if no student exists with the given ID
-     * @throws IllegalArgumentException if {@code student} or {@code student.getId()} is {@code null}
-     * @throws org.springframework.dao.DataAccessException if a database error occurs
+     * @throws devnastapi.devnestapi.common.exceptions.PreconditionFailedException if the student's version is not {@code expectedVersion}
+     * @throws org.springframework.dao.OptimisticLockingFailureException if a concurrent update committed first
+     * @throws org.springframework.dao.DataIntegrityViolationException if the new email is already registered
+     * @throws devnastapi.devnestapi.common.exceptions.HashingCapacityExceededException if the hashing pool is saturated
      *
      * @see #createNewStudent(Student)
      */
-    public Boolean updateStudent(Student student) {
+    public Student patchStudent(UUID id, StudentPatch patch, Long expectedVersion) {
+        Student read = findForPatch(id, expectedVersion);
+        String readHash = read.getPassword();
+        boolean passwordChanged = patch.password() != null && !hashing.matches(patch.password(), readHash);
+        String newHash = passwordChanged ? hashing.encode(patch.password()) : null;
 
-        Student existingStudent = repository.findById(student.getId())
+        return patchTransaction.execute(status -> {
+            Student student = findForPatch(id, expectedVersion);
+            if (passwordChanged && !readHash.equals(student.getPassword())) {
+                throw new OptimisticLockingFailureException("Student password was changed concurrently");
+            }
+            return applyPatch(student, patch, newHash);
+        });
+    }
+
+    private Student findForPatch(UUID id, Long expectedVersion) {
+        Student student = repository.findById(id)
                 .orElseThrow(() -> new NotFoundUserException("Student not found"));
+        if (expectedVersion != null && !expectedVersion.equals(student.getVersion())) {
+            throw new PreconditionFailedException("Student was modified since it was read, reload it and retry");
+        }
+        return student;
+    }
 
-        existingStudent.setEmail(student.getEmail());
-        existingStudent.setPassword(student.getPassword());
-        existingStudent.setName(student.getName());
+    private Student applyPatch(Student student, StudentPatch patch, String newHash) {
+        UUID id = student.getId();
+        boolean nameChanged = changed(patch.name(), student.getName());
+        boolean emailChanged = changed(Emails.normalize(patch.email()), student.getEmail());
+        boolean passwordChanged = newHash != null;
+        boolean dateOfBirthChanged = changed(patch.dateOfBirth(), student.getDateOfBirth());
+        boolean courseChanged = changed(patch.course(), student.getCourse());
 
-        repository.save(existingStudent);
-        return true;
+        if (!(nameChanged || emailChanged || passwordChanged || dateOfBirthChanged || courseChanged)) {
+            return student;
+        }
+        if (nameChanged) {
+            student.setName(patch.name());
+        }
+        if (emailChanged) {
+            student.setEmail(Emails.normalize(patch.email()));
+        }
+        if (passwordChanged) {
+            student.setPassword(newHash);
+        }
+        if (dateOfBirthChanged) {
+            student.setDateOfBirth(patch.dateOfBirth());
+        }
+        if (courseChanged) {
+            student.setCourse(patch.course());
+        }
+
+        // Flush now so a version conflict or a duplicate email surfaces here, with the new version assigned
+        repository.flush();
+
+        if (emailChanged || passwordChanged) {
+            credentialCache.invalidateAccount(id);
+        }
+        if (emailChanged) {
+            emailFilter.add(student.getEmail());
+            emailFilter.markStale();
+        }
+        if (nameChanged) {
+            nameIndex.put(id, student.getName());
+        }
+        if (courseChanged) {
+            enrollments.syncStudents(List.of(id));
+        }
+        return student;
+    }
+
+    private static boolean changed(Object requested, Object stored) {
+        return requested != null && !requested.equals(stored);
     }
 
     /**
@@ -257,6 +463,135 @@ public class StudentService {
         return repository.findAll(studentExample);
     }
 
+    /**
+     * Lists students one page at a time, ordered by id.
+     *
+     * <p>Uses keyset pagination: the cursor encodes the id of the last student returned,
+     * and the next page is read with {@code id > cursor} straight from the primary key
+     * index. One extra row is fetched to tell whether another page follows.</p>
+     *
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the requested page size, or {@code null} for the default; capped at the configured maximum
+     * @return the page of students and the cursor of the next page
+     *
+     * @throws InvalidCursorException if the cursor was not issued by this listing
+     */
+    @Transactional(readOnly = true)
+    public StudentPage listStudents(String cursor, Integer size) {
+        int pageSize = size == null || size < 1 ? defaultPageSize : Math.min(size, maxPageSize);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<StudentListItem> rows = cursor == null || cursor.isBlank()
+                ? repository.findListPage(limit)
+                : repository.findListPageAfter(decodeCursor(cursor), limit);
+
+        if (rows.size() <= pageSize) {
+            return new StudentPage(rows, null);
+        }
+        List<StudentListItem> page = rows.subList(0, pageSize);
+        return new StudentPage(List.copyOf(page), encodeCursor(page.get(pageSize - 1).id()));
+    }
+
+    /**
+     * Lists the students enrolled in a course one page at a time, ordered by id.
+     *
+     * <p>Keyset pagination like {@link #listStudents(String, Integer)}, over the enrollment
+     * primary key {@code (course_id, student_id)}: each page is one range of that index,
+     * however many students the other courses have.</p>
+     *
+     * @param courseId the course whose roster is listed
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the requested page size, or {@code null} for the default; capped at the configured maximum
+     * @return the page of enrolled students and the cursor of the next page
+     *
+     * @throws InvalidCursorException if the cursor was not issued by a listing
+     */
+    @Transactional(readOnly = true)
+    public StudentPage listCourseRoster(UUID courseId, String cursor, Integer size) {
+        int pageSize = size == null || size < 1 ? defaultPageSize : Math.min(size, maxPageSize);
+        UUID after = cursor == null || cursor.isBlank() ? null : decodeCursor(cursor);
+
+        List<StudentListItem> rows = enrollments.findRosterPage(courseId, after, pageSize + 1);
+
+        if (rows.size() <= pageSize) {
+            return new StudentPage(rows, null);
+        }
+        List<StudentListItem> page = rows.subList(0, pageSize);
+        return new StudentPage(List.copyOf(page), encodeCursor(page.get(pageSize - 1).id()));
+    }
+
+    private static String encodeCursor(UUID id) {
+        ByteBuffer bytes = ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.array());
+    }
+
+    private static UUID decodeCursor(String cursor) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != 16) {
+                throw new InvalidCursorException("Invalid page cursor");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid page cursor");
+        }
+    }
+
+    /**
+     * Searches students whose name or course contains the given text, most relevant first.
+     *
+     * <p>Unlike {@link #searchStudentByExample(String, String)}, which scans the whole
+     * table, this search is served by the {@code pg_trgm} indexes on name and course and
+     * ranks matches by trigram similarity. One extra row is fetched to tell whether
+     * another page follows.</p>
+     *
+     * @param text the text to look for, at least three characters for the index to apply
+     * @param page the zero-based page number, or {@code null} for the first page
+     * @param size the requested page size, or {@code null} for the default; capped at the configured maximum
+     * @return the page of matching students
+     */
+    @Transactional(readOnly = true)
+    public StudentSearchPage searchStudents(String text, Integer page, Integer size) {
+        int pageNumber = page == null || page < 0 ? 0 : page;
+        int pageSize = size == null || size < 1 ? defaultPageSize : Math.min(size, maxPageSize);
+
+        List<StudentSearchHit> hits = searchRepository.search(
+                text.trim().toLowerCase(Locale.ROOT), (long) pageNumber * pageSize, pageSize + 1);
+
+        boolean hasNext = hits.size() > pageSize;
+        return new StudentSearchPage(hasNext ? List.copyOf(hits.subList(0, pageSize)) : hits,
+                pageNumber, pageSize, hasNext);
+    }
+
+    /**
+     * Suggests students whose name contains the given text, for the admin type-ahead.
+     *
+     * <p>Answered from the in-memory {@link StudentNameIndex} without a database
+     * round-trip. Until the index has been built after startup, texts of three
+     * characters or more fall back to {@link #searchStudents(String, Integer, Integer)}'s
+     * query and shorter texts get no suggestions.</p>
+     *
+     * @param text the text typed so far
+     * @param limit the maximum number of suggestions, or {@code null} for the default; capped at the configured maximum
+     * @return the suggestions, best matches first
+     */
+    public List<StudentSuggestion> suggestStudents(String text, Integer limit) {
+        int count = limit == null || limit < 1 ? Math.min(DEFAULT_SUGGESTIONS, maxSuggestions) : Math.min(limit, maxSuggestions);
+        if (nameIndex.isReady()) {
+            return nameIndex.suggest(text, count);
+        }
+        String query = text.trim().toLowerCase(Locale.ROOT);
+        if (query.length() < 3) {
+            return List.of();
+        }
+        return searchRepository.search(query, 0, count).stream()
+                .map(hit -> new StudentSuggestion(hit.id(), hit.name()))
+                .toList();
+    }
+
     /**
      * Searches for a student by email address.
      *
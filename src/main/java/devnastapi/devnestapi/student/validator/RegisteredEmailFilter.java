@@ -0,0 +1,351 @@
+package devnastapi.devnestapi.student.validator;
+
+import devnastapi.devnestapi.common.directory.UserDirectory;
+import devnastapi.devnestapi.common.helpers.Emails;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter of every registered account email.
+ *
+ * <p>The filter covers students and teachers alike, since both share one email space.
+ * It lets the duplicate check on registration skip the database for emails that were
+ * never registered. A stale miss is harmless there: the {@code lower(mail)} unique index
+ * still refuses a duplicate student. Logins do not consult the filter, since a miss for
+ * an email registered on another node would reject a valid account.
+ * A Bloom filter never produces false negatives: when {@link #mightContain(String)}
+ * returns {@code false} the email is certainly unknown, and when it returns {@code true}
+ * the caller must still ask the database.</p>
+ *
+ * <p>Lifecycle:
+ * <ul>
+ *   <li>Until the first build completes every lookup answers "maybe", so callers fall back to the database</li>
+ *   <li>The filter is built after startup with a streaming scan over the {@link UserDirectory}</li>
+ *   <li>New emails are added once their insert has committed</li>
+ *   <li>Bloom filters cannot remove entries, so deletions and email changes are only counted;
+ *       once they exceed {@code devnest.students.email-filter.rebuild-ratio} of the entries the
+ *       filter is rebuilt in the background</li>
+ *   <li>The filter is also rebuilt every {@code devnest.students.email-filter.refresh-interval}, which
+ *       picks up emails registered on other nodes</li>
+ * </ul></p>
+ *
+ * <p>Each node only adds the emails it registered itself, so an email registered on another node is
+ * missing until the next rebuild, and so is one committed while the scan ran. For
+ * {@code devnest.students.email-filter.miss-grace-period} after each build a miss therefore still answers
+ * "maybe" and sends the caller to the database.</p>
+ *
+ * <p>Emails are normalized with {@link Emails#normalize(String)} on both insertion and
+ * lookup, so the answer never depends on the case the client used.</p>
+ *
+ * <p>During a rebuild, new emails are written to both the current and the next filter,
+ * so nothing committed while the scan runs can be lost.</p>
+ *
+ * @author Your Name or Team Name
+ * @version 1.0
+ * @since 2024-01-01
+ *
+ * @see StudentValidator
+ */
+@Component
+public class RegisteredEmailFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RegisteredEmailFilter.class);
+
+    /**
+     * Directory used for the streaming scan of registered emails.
+     */
+    private final UserDirectory directory;
+
+    /**
+     * Read-only transaction wrapping the streaming scan.
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * Minimum number of entries the filter is sized for.
+     */
+    private final long expectedEmails;
+
+    /**
+     * Target false positive probability.
+     */
+    private final double falsePositiveRate;
+
+    /**
+     * Fraction of stale entries that triggers a rebuild.
+     */
+    private final double rebuildRatio;
+
+    /**
+     * How long after a build a miss is not trusted, in nanoseconds.
+     */
+    private final long missGraceNanos;
+
+    /**
+     * The filter answering lookups, or {@code null} until the first build completes.
+     */
+    private volatile BloomBits current;
+
+    /**
+     * The filter being built, receiving new emails as well, or {@code null} when no build runs.
+     */
+    private volatile BloomBits next;
+
+    /**
+     * {@link System#nanoTime()} at which the current filter was swapped in.
+     */
+    private volatile long builtAt;
+
+    /**
+     * Emails deleted or replaced since the last build.
+     */
+    private final AtomicLong staleEntries = new AtomicLong();
+
+    /**
+     * Guards against concurrent builds.
+     */
+    private final AtomicBoolean building = new AtomicBoolean();
+
+    /**
+     * Constructs a new {@code RegisteredEmailFilter}.
+     *
+     * @param directory the account directory used to scan registered emails
+     * @param transactionManager the transaction manager for the read-only scan
+     * @param expectedEmails the minimum number of emails the filter is sized for
+     * @param falsePositiveRate the target false positive probability
+     * @param rebuildRatio the fraction of deleted or replaced emails that triggers a rebuild
+     * @param missGracePeriod how long after a build a miss still sends the caller to the database
+     */
+    public RegisteredEmailFilter(UserDirectory directory,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${devnest.students.email-filter.expected-emails:1000000}") long expectedEmails,
+                                 @Value("${devnest.students.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                 @Value("${devnest.students.email-filter.rebuild-ratio:0.1}") double rebuildRatio,
+                                 @Value("${devnest.students.email-filter.miss-grace-period:PT1M}") Duration missGracePeriod) {
+        this.directory = directory;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.expectedEmails = expectedEmails;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildRatio = rebuildRatio;
+        this.missGraceNanos = missGracePeriod.toNanos();
+    }
+
+    /**
+     * Tells whether an email may belong to a registered student or teacher.
+     *
+     * @param email the email to check
+     * @return {@code false} if the email is certainly not registered, {@code true} if it may be
+     *         registered, the filter is not built yet or was built within the miss grace period
+     */
+    public boolean mightContain(String email) {
+        BloomBits bits = current;
+        return email == null || bits == null || System.nanoTime() - builtAt < missGraceNanos
+                || bits.mightContain(Emails.normalize(email));
+    }
+
+    /**
+     * Records a newly registered email.
+     *
+     * <p>When called inside a transaction, the email is added after commit; adding it
+     * earlier would let a concurrent rebuild scan miss the row and drop the email.</p>
+     *
+     * @param email the registered email
+     */
+    public void add(String email) {
+        if (email == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(email);
+                }
+            });
+        } else {
+            addNow(email);
+        }
+    }
+
+    /**
+     * Records that a registered email was deleted or replaced.
+     *
+     * <p>The entry stays in the filter, which is still correct but less selective,
+     * until the next rebuild.</p>
+     */
+    public void markStale() {
+        staleEntries.incrementAndGet();
+    }
+
+    /**
+     * Builds the filter once the application is ready to serve requests.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the filter when too many entries became stale.
+     */
+    @Scheduled(fixedDelayString = "${devnest.students.email-filter.rebuild-check-interval:PT10M}")
+    public void rebuildIfStale() {
+        BloomBits bits = current;
+        if (bits != null && staleEntries.get() > bits.insertions() * rebuildRatio) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuilds the filter on a fixed schedule, whatever the number of stale entries.
+     */
+    @Scheduled(initialDelayString = "${devnest.students.email-filter.refresh-interval:PT15M}",
+            fixedDelayString = "${devnest.students.email-filter.refresh-interval:PT15M}")
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * Builds a new filter with a streaming scan and swaps it in.
+     */
+    void rebuild() {
+        if (!building.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long count = directory.countAccounts();
+            BloomBits bits = BloomBits.create(Math.max(expectedEmails, count * 2), falsePositiveRate);
+            long staleBefore = staleEntries.get();
+
+            next = bits;
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> emails = directory.streamAllEmails()) {
+                    emails.map(Emails::normalize).forEach(bits::put);
+                }
+            });
+            builtAt = System.nanoTime();
+            current = bits;
+            next = null;
+            staleEntries.addAndGet(-staleBefore);
+
+            log.info("Registered email filter built with {} emails ({} KiB)", bits.insertions(), bits.sizeInBytes() / 1024);
+        } catch (RuntimeException e) {
+            next = null;
+            log.warn("Could not build the registered email filter, lookups keep using the database", e);
+        } finally {
+            building.set(false);
+        }
+    }
+
+    private void addNow(String rawEmail) {
+        String email = Emails.normalize(rawEmail);
+        BloomBits bits = current;
+        if (bits != null) {
+            bits.put(email);
+        }
+        BloomBits pending = next;
+        if (pending != null) {
+            pending.put(email);
+        }
+    }
+
+    /**
+     * Lock-free bit array with double hashing.
+     */
+    static final class BloomBits {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+        private final AtomicLong insertions = new AtomicLong();
+
+        private BloomBits(long bitCount, int hashCount) {
+            this.words = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+            this.bitCount = bitCount;
+            this.hashCount = hashCount;
+        }
+
+        static BloomBits create(long expectedInsertions, double falsePositiveRate) {
+            double ln2 = Math.log(2);
+            long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+            bits = Math.max(64, Math.min(bits, (long) Integer.MAX_VALUE * 64));
+            int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * ln2));
+            return new BloomBits(bits, hashes);
+        }
+
+        void put(String value) {
+            long hash1 = hash(value);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long old;
+                do {
+                    old = words.get(word);
+                    if ((old & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(word, old, old | mask));
+            }
+            insertions.incrementAndGet();
+        }
+
+        boolean mightContain(String value) {
+            long hash1 = hash(value);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long insertions() {
+            return insertions.get();
+        }
+
+        long sizeInBytes() {
+            return (long) words.length() * Long.BYTES;
+        }
+
+        /**
+         * 64-bit FNV-1a over the UTF-16 code units, finished with a strong mixer.
+         */
+        private static long hash(String value) {
+            long hash = 0xCBF29CE484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001B3L;
+            }
+            return mix(hash);
+        }
+
+        /**
+         * SplitMix64 finalizer.
+         */
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -47,16 +47,23 @@ public class StudentValidator {
      */
     private final StudentRepository studentRepository;
 
+    /**
+     * In-memory filter answering "definitely not registered" without a database query.
+     */
+    private final RegisteredEmailFilter emailFilter;
+
     /**
      * Constructs a new {@code StudentValidator} with the required repository.
      *
      * @param studentRepository the repository for student database operations,
      *                          must not be {@code null}
+     * @param emailFilter the filter of registered emails, must not be {@code null}
      *
-     * @throws IllegalArgumentException if {@code studentRepository} is {@code null}
+     * @throws IllegalArgumentException if any parameter is {@code null}
      */
-    public StudentValidator(StudentRepository studentRepository) {
+    public StudentValidator(StudentRepository studentRepository, RegisteredEmailFilter emailFilter) {
         this.studentRepository = studentRepository;
+        this.emailFilter = emailFilter;
     }
 
     /**
@@ -64,7 +71,9 @@ public class StudentValidator {
      *
      * <p>This method performs a database lookup to determine if any student
      * has the specified email address. It's commonly used to prevent
-     * duplicate registrations during student creation.</p>
+     * duplicate registrations during student creation. Emails the
+     * {@link RegisteredEmailFilter} reports as definitely unknown are
+     * answered without touching the database.</p>
      *
      * <p><strong>Note:</strong> The email comparison is exact and case-sensitive
      * as defined by the underlying repository method {@link StudentRepository#existsByEmail(String)}.
@@ -81,9 +90,13 @@ public class StudentValidator {
      * @throws org.springframework.dao.DataAccessException if a database error occurs
      *
      * @see StudentRepository#existsByEmail(String)
+     * @see RegisteredEmailFilter#mightContain(String)
      * @see Student#getEmail()
      */
     public boolean studentExistsByEmail(Student student) {
+        if (!emailFilter.mightContain(student.getEmail())) {
+            return false;
+        }
         return studentRepository.existsByEmail(student.getEmail());
     }
 
@@ -1,6 +1,7 @@
 package devnastapi.devnestapi.teacher.model;
 
 import devnastapi.devnestapi.common.genericclasses.User;
+import devnastapi.devnestapi.common.idgenerator.UuidV7;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import org.springframework.data.annotation.CreatedDate;
@@ -8,11 +9,10 @@ import org.springframework.data.annotation.LastModifiedDate;
 import java.util.Date;
 import java.util.UUID;
 
-@Table
 @Entity(name = "teacher")
 public class Teacher extends User {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column
     UUID id;
 
@@ -49,7 +49,11 @@ public class Teacher extends User {
     }
 
     public String getCourse() {
-        return Course;
+        return course;
+    }
+
+    public void setCourse(String course) {
+        this.course = course;
     }
 
     @NotBlank(message = "A senha não pode estar vazia")
@@ -61,9 +65,8 @@ public class Teacher extends User {
     String mail;
 
     @NotBlank(message = "O nome do curso não pode estar vazio")
-    @OneToMany(mappedBy = "name_of_course")
     @Column(name = "course")
-    String Course;
+    String course;
 
     @CreatedDate
     Date dateOfCreation;
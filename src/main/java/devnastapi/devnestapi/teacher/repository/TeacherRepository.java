@@ -1,10 +1,10 @@
 package devnastapi.devnestapi.teacher.repository;
 
-import devnastapi.devnestapi.course.model.Course;
 import devnastapi.devnestapi.teacher.model.Teacher;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface TeacherRepository extends JpaRepository<Teacher, UUID> {
@@ -13,7 +13,13 @@ public interface TeacherRepository extends JpaRepository<Teacher, UUID> {
 
     boolean existsById(UUID uuid);
 
-    Teacher findAllByCourses(Course course);
+    @Query(value = """
+            select t.*
+            from public.teacher t
+            join public.teaching_assignment a on a.teacher_id = t.id
+            where a.course_id = :courseId
+            """, nativeQuery = true)
+    List<Teacher> findAllByCourseId(UUID courseId);
 
     Teacher findByEmail(String mail);
 
@@ -4,12 +4,17 @@ package devnastapi.devnestapi.teacher.service;
 import devnastapi.devnestapi.common.exceptions.usergenericexceptions.DuplicateUserException;
 import devnastapi.devnestapi.common.exceptions.usergenericexceptions.NotFoundUserException;
 import devnastapi.devnestapi.course.model.Course;
+import devnastapi.devnestapi.course.repository.EnrollmentRepository;
+import devnastapi.devnestapi.student.authservice.VerifiedCredentialCache;
+import devnastapi.devnestapi.student.validator.RegisteredEmailFilter;
 import devnastapi.devnestapi.teacher.model.Teacher;
 import devnastapi.devnestapi.teacher.repository.TeacherRepository;
 import devnastapi.devnestapi.teacher.validator.TeacherValidator;
 import org.springframework.core.codec.Encoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,23 +25,37 @@ public class TeacherService {
     private final TeacherRepository repository;
     private final TeacherValidator validator;
     private final PasswordEncoder encoder;
+    private final VerifiedCredentialCache credentialCache;
+    private final RegisteredEmailFilter emailFilter;
+    private final EnrollmentRepository enrollments;
 
     public TeacherService(TeacherRepository repository
             , TeacherValidator validator
-            , PasswordEncoder encoder){
+            , PasswordEncoder encoder
+            , VerifiedCredentialCache credentialCache
+            , RegisteredEmailFilter emailFilter
+            , EnrollmentRepository enrollments){
         this.repository = repository;
         this.validator = validator;
         this.encoder = encoder;
+        this.credentialCache = credentialCache;
+        this.emailFilter = emailFilter;
+        this.enrollments = enrollments;
     }
 
+    /**
+     * Saves a new teacher and assigns it to the course its course name refers to.
+     */
+    @Transactional
     public Teacher createNewTeacher(Teacher teacher){
-        if(!validator.teacherExistsByEmail(teacher)){
+        if(validator.teacherExistsByEmail(teacher)){
             throw new DuplicateUserException("this user alredy exists");
         }
-            Teacher teacherSaved = new Teacher();
-            teacherSaved.setPassword(encoder.encode(teacher.getPassword()));
-            repository.save(teacherSaved);
-        return teacher;
+        teacher.setPassword(encoder.encode(teacher.getPassword()));
+        Teacher teacherSaved = repository.saveAndFlush(teacher);
+        enrollments.linkTeacher(teacherSaved.getId());
+        emailFilter.add(teacherSaved.getMail());
+        return teacherSaved;
     }
 
     public boolean deleteTeacher(UUID id){
@@ -54,19 +73,38 @@ public class TeacherService {
         return foundedTeacher;
     }
 
+    /**
+     * Updates a teacher; when its course name changes, the assignment to the old course is replaced by one to the
+     * new course. Assignments made explicitly to other courses are kept.
+     * <p>
+     * The password is only hashed again when a new one is supplied; a missing, blank or unchanged password keeps the
+     * stored hash.
+     */
+    @Transactional
     public Teacher UpadateTeacherById(UUID id , Teacher teacher){
-        if(!validator.teacherExistsById(id)){
-            throw new NotFoundUserException("this User dont Exists");
+        Teacher teacherUpdated = repository.findById(id)
+                .orElseThrow(() -> new NotFoundUserException("this User dont Exists"));
+        String previousCourse = teacherUpdated.getCourse();
+        if (isNewPassword(teacher.getPassword(), teacherUpdated.getPassword())) {
+            teacherUpdated.setPassword(encoder.encode(teacher.getPassword()));
         }
-        Teacher teacherUpdated = new Teacher();
-        teacherUpdated.setPassword(teacher.getPassword());
-        teacherUpdated.setMail(teacherUpdated.getMail());
+        teacherUpdated.setMail(teacher.getMail());
         teacherUpdated.setName(teacher.getName());
-        repository.save(teacherUpdated);
+        teacherUpdated.setCourse(teacher.getCourse());
+        repository.saveAndFlush(teacherUpdated);
+        if (previousCourse != null && !previousCourse.equalsIgnoreCase(teacherUpdated.getCourse())) {
+            enrollments.unlinkTeacher(id, previousCourse);
+        }
+        enrollments.linkTeacher(id);
+        credentialCache.invalidateAccount(id);
 
         return teacherUpdated;
     }
 
+    private boolean isNewPassword(String rawPassword, String storedHash) {
+        return rawPassword != null && !rawPassword.isBlank() && !encoder.matches(rawPassword, storedHash);
+    }
+
 
     /**
      * TODO: implementar uma forma de pesquisa melhor com queryByExample para
@@ -75,7 +113,7 @@ public class TeacherService {
 
     @Deprecated
     List<Teacher> getListofAllTeacherForStudent(Course course){
-        return List.of(repository.findAllByCourses(course));
+        return repository.findAllByCourseId(course.getId());
     }
 
     List<Teacher> getListAllTeacherForAdmin(){
@@ -0,0 +1,128 @@
+-- Runs after Hibernate has created or updated the tables (spring.jpa.defer-datasource-initialization).
+-- Every statement must be idempotent: the script runs on each startup. Statements that rewrite or lock a table are
+-- guarded so they only run while there is still something to change.
+
+-- Student emails are unique regardless of case. Enrollment relies on this index instead of a
+-- pre-check query, so concurrent enrollments with the same email cannot both succeed.
+-- Existing rows that differ only in case would make the index creation fail and stop the startup. In that case the
+-- index is skipped with a WARNING in the database log; merge or rename the duplicates, found with
+--   select lower(mail), count(*) from public.student group by lower(mail) having count(*) > 1;
+-- and the next startup creates the index.
+do '
+declare
+    duplicates bigint;
+begin
+    if not exists (select 1 from pg_indexes where schemaname = ''public'' and indexname = ''ux_student_mail_lower'') then
+        select count(*) into duplicates
+        from (select 1 from public.student group by lower(mail) having count(*) > 1) d;
+        if duplicates > 0 then
+            raise warning ''ux_student_mail_lower not created: % emails belong to more than one student ignoring case'',
+                duplicates;
+        else
+            create unique index ux_student_mail_lower on public.student (lower(mail));
+        end if;
+    end if;
+end';
+
+-- Teacher logins match the email case-insensitively like student logins, so the login lookup uses this index.
+-- It replaces the plain index on mail, which that lookup cannot use.
+create index if not exists ix_teacher_mail_lower on public.teacher (lower(mail));
+drop index if exists public.ix_teacher_mail;
+
+-- Trigram indexes for GET /students/search: they serve "lower(column) like '%text%'" without a sequential
+-- scan and back the similarity() ranking.
+create extension if not exists pg_trgm;
+create index if not exists ix_student_name_trgm on public.student using gin (lower(name) gin_trgm_ops);
+create index if not exists ix_student_course_trgm on public.student using gin (lower(course) gin_trgm_ops);
+
+-- Optimistic locking on students: rows created before the version column existed start at 0, since
+-- Hibernate cannot match a null version in its "where version = ?" update condition. Only runs while the column
+-- is still nullable, so later startups neither scan the table nor take its exclusive lock. Written as a quoted
+-- DO body because the script is split on semicolons outside quotes.
+do '
+begin
+    if exists (select 1 from information_schema.columns
+               where table_schema = ''public'' and table_name = ''student'' and column_name = ''version''
+                 and is_nullable = ''YES'') then
+        update public.student set version = 0 where version is null;
+        alter table public.student alter column version set default 0;
+        alter table public.student alter column version set not null;
+    end if;
+end';
+
+-- Optimistic locking on courses; the version is also the ETag of GET /courses/{id}. Guarded like the students.
+do '
+begin
+    if exists (select 1 from information_schema.columns
+               where table_schema = ''public'' and table_name = ''course'' and column_name = ''version''
+                 and is_nullable = ''YES'') then
+        update public.course set version = 0 where version is null;
+        alter table public.course alter column version set default 0;
+        alter table public.course alter column version set not null;
+    end if;
+end';
+
+-- last_modify backs Last-Modified and If-Modified-Since, which need more than day precision. Hibernate does
+-- not change the type of existing columns; converting a date keeps midnight. The conversion rewrites the table
+-- under an exclusive lock, so it only runs while the column still has another type.
+do '
+begin
+    if exists (select 1 from information_schema.columns
+               where table_schema = ''public'' and table_name = ''student'' and column_name = ''last_modify''
+                 and data_type <> ''timestamp with time zone'') then
+        alter table public.student alter column last_modify type timestamp(6) with time zone;
+    end if;
+    if exists (select 1 from information_schema.columns
+               where table_schema = ''public'' and table_name = ''course'' and column_name = ''last_modify''
+                 and data_type <> ''timestamp with time zone'') then
+        alter table public.course alter column last_modify type timestamp(6) with time zone;
+    end if;
+end';
+
+-- Enrollments: the student/course relation behind GET /courses/{id}/students. The primary key starts with the
+-- course, so a roster page or a per-course count is a range of the index; the second index serves the student
+-- side and the cascades. Foreign keys cascade so the single-statement deletes of students and courses still work.
+create table if not exists public.enrollment (
+    course_id   uuid not null references public.course (course) on delete cascade,
+    student_id  uuid not null references public.student (id) on delete cascade,
+    enrolled_at timestamp(6) with time zone not null default now(),
+    primary key (course_id, student_id)
+);
+create index if not exists ix_enrollment_student on public.enrollment (student_id);
+
+-- Teaching assignments: the teacher/course relation, replacing the free-text teacher.course.
+create table if not exists public.teaching_assignment (
+    course_id   uuid not null references public.course (course) on delete cascade,
+    teacher_id  uuid not null references public.teacher (id) on delete cascade,
+    assigned_at timestamp(6) with time zone not null default now(),
+    primary key (course_id, teacher_id)
+);
+create index if not exists ix_teaching_assignment_teacher on public.teaching_assignment (teacher_id);
+
+-- Course names are matched ignoring case when free-text course values are linked to courses.
+create index if not exists ix_course_name_lower on public.course (lower(name_of_course));
+
+-- One-shot data migrations record their id here once applied, so a later startup never repeats them.
+create table if not exists public.schema_migration (
+    id         varchar(100) primary key,
+    applied_at timestamp(6) with time zone not null default now()
+);
+
+-- Migration of the free-text course columns: students and teachers without any enrollment or assignment yet
+-- are linked to the course named by their course value. Values naming no course stay unlinked. Runs once, so a
+-- teacher removed from a course afterwards stays removed; later changes are synced by the services.
+insert into public.enrollment (course_id, student_id)
+select c.course, s.id
+from public.student s
+join public.course c on lower(c.name_of_course) = lower(s.course)
+where not exists (select 1 from public.schema_migration m where m.id = 'link-free-text-courses')
+  and not exists (select 1 from public.enrollment e where e.student_id = s.id)
+on conflict do nothing;
+insert into public.teaching_assignment (course_id, teacher_id)
+select c.course, t.id
+from public.teacher t
+join public.course c on lower(c.name_of_course) = lower(t.course)
+where not exists (select 1 from public.schema_migration m where m.id = 'link-free-text-courses')
+  and not exists (select 1 from public.teaching_assignment a where a.teacher_id = t.id)
+on conflict do nothing;
+insert into public.schema_migration (id) values ('link-free-text-courses') on conflict do nothing;
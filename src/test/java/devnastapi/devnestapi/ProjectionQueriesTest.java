@@ -0,0 +1,107 @@
+package devnastapi.devnestapi;
+
+import devnastapi.devnestapi.course.repository.CourseRepository;
+import devnastapi.devnestapi.student.repository.StudentRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the read queries select exactly the columns of their projection, by running them against the configured
+ * database and inspecting the SQL Hibernate sends. Every test rolls back.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "devnastapi.devnestapi.ProjectionQueriesTest$RecordingStatementInspector")
+@Transactional
+class ProjectionQueriesTest {
+
+    private static final Pattern SELECT_LIST = Pattern.compile("^select\\s+(.*?)\\s+from\\s", Pattern.DOTALL);
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @BeforeEach
+    void clearStatements() {
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void studentViewSelectsTheResponseColumnsWithoutThePassword() {
+        studentRepository.findViewById(UUID.randomUUID());
+
+        List<String> columns = selectedColumns();
+        assertEquals(List.of("id", "name", "mail", "date_of_birth", "course", "roles", "create_date", "last_modify"), columns);
+        assertFalse(columns.contains("password"));
+    }
+
+    @Test
+    void studentListingSelectsOnlyTheListedColumns() {
+        studentRepository.findListPage(Limit.of(1));
+        assertEquals(List.of("id", "name", "mail", "course"), selectedColumns());
+
+        RecordingStatementInspector.STATEMENTS.clear();
+        studentRepository.findListPageAfter(UUID.randomUUID(), Limit.of(1));
+        assertEquals(List.of("id", "name", "mail", "course"), selectedColumns());
+    }
+
+    @Test
+    void courseLookupsSelectTheViewColumns() {
+        List<String> expected = List.of("course", "name_of_course", "workload", "description", "create_date", "last_modify");
+
+        courseRepository.findViewById(UUID.randomUUID());
+        assertEquals(expected, selectedColumns());
+
+        RecordingStatementInspector.STATEMENTS.clear();
+        courseRepository.findViewsByNameContaining("java");
+        assertEquals(expected, selectedColumns());
+    }
+
+    /**
+     * Returns the columns of the single statement prepared since the last clear, without their table alias.
+     */
+    private static List<String> selectedColumns() {
+        List<String> statements = RecordingStatementInspector.STATEMENTS;
+        assertEquals(1, statements.size(), statements.toString());
+
+        Matcher matcher = SELECT_LIST.matcher(statements.get(0).trim().toLowerCase(Locale.ROOT));
+        assertTrue(matcher.find(), statements.get(0));
+        return Arrays.stream(matcher.group(1).split(","))
+                .map(String::trim)
+                .map(column -> column.substring(column.indexOf('.') + 1))
+                .toList();
+    }
+
+    /**
+     * Records every SQL statement Hibernate prepares.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package devnastapi.devnestapi;
+
+import devnastapi.devnestapi.common.exceptions.usergenericexceptions.NotFoundUserException;
+import devnastapi.devnestapi.course.exceptions.CourseNotFoundException;
+import devnastapi.devnestapi.course.model.Course;
+import devnastapi.devnestapi.course.repository.CourseRepository;
+import devnastapi.devnestapi.course.service.CourseService;
+import devnastapi.devnestapi.student.model.Student;
+import devnastapi.devnestapi.student.repository.StudentRepository;
+import devnastapi.devnestapi.student.service.StudentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the statements Hibernate prepares for each delete path against the configured database, complementing the
+ * repository-level checks of {@link SingleStatementDeleteTest}. Every test rolls back.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class SingleStatementDeleteStatisticsTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void deletingAStudentPreparesOneStatement() {
+        Student student = new Student();
+        student.setName("Statement Count");
+        student.setEmail("statement-count-" + UUID.randomUUID() + "@devnest.dev");
+        student.setPassword("$2a$10$notarealhashnotarealhashnotarealhashnotarealhashnot");
+        student.setDateOfBirth(LocalDate.of(2000, 1, 1));
+        student.setCourse("Statement counting");
+        UUID id = studentRepository.saveAndFlush(student).getId();
+        statistics.clear();
+
+        assertTrue(studentService.deleteStudent(id));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void deletingAMissingStudentPreparesOneStatement() {
+        statistics.clear();
+
+        assertThrows(NotFoundUserException.class, () -> studentService.deleteStudent(UUID.randomUUID()));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void deletingACoursePreparesOneStatement() {
+        Course course = new Course();
+        course.setNameOfCourse("Statement counting " + UUID.randomUUID());
+        course.setWorkload(40);
+        course.setDescription("Created by SingleStatementDeleteStatisticsTest");
+        UUID id = courseRepository.saveAndFlush(course).getId();
+        statistics.clear();
+
+        assertTrue(courseService.deleteCourse(id));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void deletingAMissingCoursePreparesOneStatement() {
+        statistics.clear();
+
+        assertThrows(CourseNotFoundException.class, () -> courseService.deleteCourse(UUID.randomUUID()));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,103 @@
+package devnastapi.devnestapi;
+
+import devnastapi.devnestapi.common.exceptions.usergenericexceptions.NotFoundUserException;
+import devnastapi.devnestapi.common.security.PasswordHashingService;
+import devnastapi.devnestapi.course.catalog.CourseCatalog;
+import devnastapi.devnestapi.course.exceptions.CourseNotFoundException;
+import devnastapi.devnestapi.course.repository.CourseRepository;
+import devnastapi.devnestapi.course.repository.EnrollmentRepository;
+import devnastapi.devnestapi.course.service.CourseService;
+import devnastapi.devnestapi.course.validator.CouseValidator;
+import devnastapi.devnestapi.student.authservice.VerifiedCredentialCache;
+import devnastapi.devnestapi.student.index.StudentNameIndex;
+import devnastapi.devnestapi.student.repository.StudentRepository;
+import devnastapi.devnestapi.student.repository.StudentSearchRepository;
+import devnastapi.devnestapi.student.service.StudentService;
+import devnastapi.devnestapi.student.validator.RegisteredEmailFilter;
+import devnastapi.devnestapi.student.validator.StudentValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Guards the delete paths against regressing to exists-then-load-then-delete: each delete must reach
+ * the database through exactly one repository statement.
+ */
+class SingleStatementDeleteTest {
+
+    private final StudentRepository studentRepository = mock(StudentRepository.class);
+    private final StudentValidator studentValidator = mock(StudentValidator.class);
+    private final VerifiedCredentialCache credentialCache = mock(VerifiedCredentialCache.class);
+    private final StudentService studentService = new StudentService(studentRepository, mock(StudentSearchRepository.class), studentValidator,
+            mock(PasswordHashingService.class), credentialCache, mock(RegisteredEmailFilter.class), mock(StudentNameIndex.class),
+            mock(EnrollmentRepository.class), mock(PlatformTransactionManager.class), 50, 200, 20);
+
+    private final CourseRepository courseRepository = mock(CourseRepository.class);
+    private final CouseValidator courseValidator = mock(CouseValidator.class);
+    private final CourseService courseService = new CourseService();
+
+    SingleStatementDeleteTest() {
+        ReflectionTestUtils.setField(courseService, "courseRepository", courseRepository);
+        ReflectionTestUtils.setField(courseService, "validator", courseValidator);
+        ReflectionTestUtils.setField(courseService, "catalog", mock(CourseCatalog.class));
+    }
+
+    @Test
+    void deletingAStudentIssuesOneStatement() {
+        UUID id = UUID.randomUUID();
+        when(studentRepository.deleteStudentById(id)).thenReturn(1);
+
+        assertTrue(studentService.deleteStudent(id));
+
+        verify(studentRepository).deleteStudentById(id);
+        verifyNoMoreInteractions(studentRepository);
+        verifyNoInteractions(studentValidator);
+        verify(credentialCache).invalidateAccount(id);
+    }
+
+    @Test
+    void deletingAMissingStudentIssuesOneStatementAndReportsNotFound() {
+        UUID id = UUID.randomUUID();
+        when(studentRepository.deleteStudentById(id)).thenReturn(0);
+
+        assertThrows(NotFoundUserException.class, () -> studentService.deleteStudent(id));
+
+        verify(studentRepository).deleteStudentById(id);
+        verifyNoMoreInteractions(studentRepository);
+        verifyNoInteractions(studentValidator, credentialCache);
+    }
+
+    @Test
+    void deletingACourseIssuesOneStatement() {
+        UUID id = UUID.randomUUID();
+        when(courseRepository.deleteCourseById(id)).thenReturn(1);
+
+        assertTrue(courseService.deleteCourse(id));
+
+        verify(courseRepository).deleteCourseById(id);
+        verifyNoMoreInteractions(courseRepository);
+        verifyNoInteractions(courseValidator);
+    }
+
+    @Test
+    void deletingAMissingCourseIssuesOneStatementAndReportsNotFound() {
+        UUID id = UUID.randomUUID();
+        when(courseRepository.deleteCourseById(id)).thenReturn(0);
+
+        assertThrows(CourseNotFoundException.class, () -> courseService.deleteCourse(id));
+
+        verify(courseRepository).deleteCourseById(id);
+        verifyNoMoreInteractions(courseRepository);
+        verifyNoInteractions(courseValidator);
+    }
+}
@@ -0,0 +1,23 @@
+package devnastapi.devnestapi.common.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a benchmark class. Benchmarks are skipped by a normal build and run on demand, one class at a time:
+ * <pre>
+ * mvn test -Dtest=CredentialCacheBenchmarkTest -Ddevnest.benchmark=true
+ * </pre>
+ * They measure with {@link Benchmarks} and log their figures through SLF4J.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "devnest.benchmark", matches = "true")
+public @interface BenchmarkTest {
+}
@@ -0,0 +1,220 @@
+package devnastapi.devnestapi.common.benchmark;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntToLongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Measuring loops shared by the {@link BenchmarkTest} classes.
+ * <p>
+ * A measured operation returns a {@code long}, such as the number of rows it found. The values are summed and
+ * published once per run, so the JIT cannot drop the work as dead code, and the sum is returned with the timing so
+ * the benchmark can assert on it.
+ */
+public final class Benchmarks {
+
+    /**
+     * Calls made between two reads of the clock when running for a duration.
+     */
+    private static final int CALLS_PER_CLOCK_READ = 64;
+
+    private static volatile long sink;
+
+    private Benchmarks() {
+    }
+
+    /**
+     * Calls the operation {@code warmUps} times, then times {@code operations} further calls on the current thread.
+     *
+     * @param warmUps the calls made before measuring, to let the JIT compile the path
+     * @param operations the measured calls
+     * @param operation the operation, given the index of the call
+     * @return the timing of the measured calls
+     */
+    public static Throughput throughput(int warmUps, int operations, IntToLongFunction operation) {
+        run(warmUps, operation);
+        long start = System.nanoTime();
+        long result = run(operations, operation);
+        return new Throughput(operations, System.nanoTime() - start, result);
+    }
+
+    /**
+     * Calls the operation from the given number of threads until the duration has passed.
+     *
+     * @param threads the threads calling the operation at once
+     * @param duration how long to keep calling it
+     * @param operation the operation, given the index of the call on its thread
+     * @return the timing of all calls, measured until the last thread stopped
+     * @throws InterruptedException if interrupted while waiting for the threads
+     */
+    public static Throughput throughput(int threads, Duration duration, IntToLongFunction operation)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            long deadline = start + duration.toNanos();
+            List<Future<long[]>> runs = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                runs.add(executor.submit(() -> runUntil(deadline, operation)));
+            }
+            long operations = 0;
+            long result = 0;
+            for (Future<long[]> run : runs) {
+                long[] counts = run.get();
+                operations += counts[0];
+                result += counts[1];
+            }
+            long nanos = System.nanoTime() - start;
+            sink = result;
+            return new Throughput(operations, nanos, result);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Benchmark operation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Calls the operation {@code warmUps} times, then times each of {@code samples} further calls on its own.
+     *
+     * @param warmUps the calls made before measuring
+     * @param samples the measured calls
+     * @param operation the operation, given the index of the call
+     * @return the distribution of the measured calls
+     */
+    public static Latencies latencies(int warmUps, int samples, IntToLongFunction operation) {
+        run(warmUps, operation);
+        long[] nanos = new long[samples];
+        long result = 0;
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            result += operation.applyAsLong(i);
+            nanos[i] = System.nanoTime() - start;
+        }
+        sink = result;
+        Arrays.sort(nanos);
+        return new Latencies(nanos, result);
+    }
+
+    /**
+     * Times one run of a task that is too long to repeat, such as seeding or importing thousands of rows.
+     *
+     * @return the time the task took, in nanoseconds
+     */
+    public static long elapsedNanos(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Times one run of a task and keeps what it returned.
+     */
+    public static <T> Timed<T> timed(Supplier<T> task) {
+        long start = System.nanoTime();
+        T value = task.get();
+        return new Timed<>(value, System.nanoTime() - start);
+    }
+
+    /**
+     * Returns the heap in use after a few full collections. The figure is approximate, as the JVM is free to ignore
+     * the request, but stable enough to compare two shapes of the same data.
+     */
+    public static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Logs a {@link String#format} message at info level.
+     */
+    public static void report(Logger log, String format, Object... args) {
+        if (log.isInfoEnabled()) {
+            log.info(String.format(Locale.ROOT, format, args));
+        }
+    }
+
+    private static long run(int operations, IntToLongFunction operation) {
+        long result = 0;
+        for (int i = 0; i < operations; i++) {
+            result += operation.applyAsLong(i);
+        }
+        sink = result;
+        return result;
+    }
+
+    private static long[] runUntil(long deadline, IntToLongFunction operation) {
+        long calls = 0;
+        long result = 0;
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < CALLS_PER_CLOCK_READ; i++) {
+                result += operation.applyAsLong((int) calls++);
+            }
+        }
+        return new long[] {calls, result};
+    }
+
+    /**
+     * Operations timed together.
+     *
+     * @param operations the number of operations
+     * @param nanos the time they took
+     * @param result the sum of the values the operations returned
+     */
+    public record Throughput(long operations, long nanos, long result) {
+
+        public double perSecond() {
+            return operations / (nanos / 1e9);
+        }
+
+        public double nanosPerOperation() {
+            return nanos / (double) operations;
+        }
+    }
+
+    /**
+     * Latencies of single operations.
+     *
+     * @param sortedNanos the time of each operation, in ascending order
+     * @param result the sum of the values the operations returned
+     */
+    public record Latencies(long[] sortedNanos, long result) {
+
+        /**
+         * Returns the latency below which the given percentage of the operations completed, in nanoseconds.
+         */
+        public long percentile(int percent) {
+            return sortedNanos[Math.min(sortedNanos.length - 1, sortedNanos.length * percent / 100)];
+        }
+
+        public long max() {
+            return sortedNanos[sortedNanos.length - 1];
+        }
+    }
+
+    /**
+     * The value of a timed task.
+     *
+     * @param value what the task returned
+     * @param nanos the time it took
+     */
+    public record Timed<T>(T value, long nanos) {
+
+        public double seconds() {
+            return nanos / 1e9;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package devnastapi.devnestapi.common.cache;
+
+import devnastapi.devnestapi.course.model.Course;
+import devnastapi.devnestapi.student.model.Student;
+import devnastapi.devnestapi.teacher.model.Teacher;
+import org.hibernate.annotations.Cache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class EntityCacheConfigurationTest {
+
+    @Test
+    void onlyCoursesAreKeptInTheNodeLocalCache() {
+        assertEquals(EntityCacheConfiguration.COURSE_REGION, Course.class.getAnnotation(Cache.class).region());
+        assertFalse(Student.class.isAnnotationPresent(Cache.class));
+        assertFalse(Teacher.class.isAnnotationPresent(Cache.class));
+    }
+}
@@ -0,0 +1,74 @@
+package devnastapi.devnestapi.common.directory;
+
+import devnastapi.devnestapi.student.model.Student;
+import devnastapi.devnestapi.student.repository.StudentRepository;
+import devnastapi.devnestapi.teacher.model.Teacher;
+import devnastapi.devnestapi.teacher.repository.TeacherRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the directory lookup against the configured database. Every test rolls back.
+ */
+@SpringBootTest
+@Transactional
+class UserDirectoryTest {
+
+    @Autowired
+    private UserDirectory directory;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Test
+    void findsATeacherRegardlessOfEmailCase() {
+        String run = UUID.randomUUID().toString();
+        UUID id = saveTeacher("Directory.Lookup-" + run + "@DevNest.dev");
+
+        Optional<DirectoryAccount> account = directory.findByEmail("directory.lookup-" + run + "@devnest.dev");
+
+        assertTrue(account.isPresent());
+        assertEquals(AccountType.TEACHER, account.get().type());
+        assertEquals(id, account.get().id());
+    }
+
+    @Test
+    void prefersTheStudentWhenAStudentAndATeacherShareAnEmail() {
+        String email = "shared-" + UUID.randomUUID() + "@devnest.dev";
+        saveTeacher(email);
+        Student student = new Student();
+        student.setName("Directory Lookup");
+        student.setEmail(email);
+        student.setPassword("$2a$10$notarealhashnotarealhashnotarealhashnotarealhashnot");
+        student.setDateOfBirth(LocalDate.of(2000, 1, 1));
+        student.setCourse("Directory lookups");
+        UUID studentId = studentRepository.saveAndFlush(student).getId();
+
+        for (int i = 0; i < 10; i++) {
+            DirectoryAccount account = directory.findByEmail(email).orElseThrow();
+            assertEquals(AccountType.STUDENT, account.type());
+            assertEquals(studentId, account.id());
+        }
+    }
+
+    private UUID saveTeacher(String email) {
+        Teacher teacher = new Teacher();
+        teacher.setName("Directory Lookup");
+        teacher.setMail(email);
+        teacher.setPassword("$2a$10$notarealhashnotarealhashnotarealhashnotarealhashnot");
+        teacher.setCourse("Directory lookups");
+        return teacherRepository.saveAndFlush(teacher).getId();
+    }
+}
@@ -0,0 +1,61 @@
+package devnastapi.devnestapi.common.helpers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ETagsTest {
+
+    private static final Instant MODIFIED = Instant.parse("2026-03-01T10:15:30Z");
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/courses/1");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void answersNotModifiedWhenTheTagStillMatches() {
+        request.addHeader("If-None-Match", "\"7\"");
+
+        assertTrue(ETags.notModified(new ServletWebRequest(request, response), new ResourceVersion(7L, MODIFIED)));
+        assertEquals(304, response.getStatus());
+        assertEquals("\"7\"", response.getHeader("ETag"));
+    }
+
+    @Test
+    void sendsTheValidatorsWhenTheTagIsStale() {
+        request.addHeader("If-None-Match", "\"6\"");
+        // If-None-Match takes precedence, a matching date must not hide the new version
+        request.addHeader("If-Modified-Since", MODIFIED.plusSeconds(60).toEpochMilli());
+
+        assertFalse(ETags.notModified(new ServletWebRequest(request, response), new ResourceVersion(7L, MODIFIED)));
+        assertEquals(200, response.getStatus());
+        assertEquals("\"7\"", response.getHeader("ETag"));
+        assertEquals(MODIFIED.toEpochMilli(), response.getDateHeader("Last-Modified"));
+    }
+
+    @Test
+    void comparesIfModifiedSinceOnlyWhenTheLastModificationIsKnown() {
+        request.addHeader("If-Modified-Since", MODIFIED.toEpochMilli());
+
+        assertTrue(ETags.notModified(new ServletWebRequest(request, response), new ResourceVersion(7L, MODIFIED)));
+
+        MockHttpServletResponse unknown = new MockHttpServletResponse();
+        assertFalse(ETags.notModified(new ServletWebRequest(request, unknown), new ResourceVersion(7L, null)));
+        assertEquals(200, unknown.getStatus());
+    }
+
+    @Test
+    void tagsSecondaryRepresentationsSeparately() {
+        request.addHeader("If-None-Match", "\"7\"");
+
+        assertFalse(ETags.notModified(new ServletWebRequest(request, response), new ResourceVersion(7L, MODIFIED), "refactored"));
+        assertEquals("\"7-refactored\"", response.getHeader("ETag"));
+        assertEquals(7L, ETags.expectedVersion("\"7-refactored\""));
+    }
+}
@@ -0,0 +1,18 @@
+package devnastapi.devnestapi.common.helpers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LikePatternsTest {
+
+    @Test
+    void escapesWildcardsAndTheEscapeCharacter() {
+        assertEquals("100\\% java\\_basics \\\\ intro", LikePatterns.escape("100% java_basics \\ intro"));
+    }
+
+    @Test
+    void leavesPlainTextUnchanged() {
+        assertEquals("Computer Science", LikePatterns.escape("Computer Science"));
+    }
+}
@@ -0,0 +1,71 @@
+package devnastapi.devnestapi.common.idgenerator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void producesVersion7WithTheRfcVariantAndTheCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7Generator.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue((id.getMostSignificantBits() >>> 16) >= before);
+    }
+
+    @Test
+    void staysStrictlyIncreasingWithinOneMillisecondAndWhenTheClockStepsBack() {
+        long now = System.currentTimeMillis() + 60_000;
+        UUID previous = UuidV7Generator.next(now);
+
+        for (int i = 0; i < 10_000; i++) {
+            long clock = i % 2 == 0 ? now : now - 5_000;
+            UUID next = UuidV7Generator.next(clock);
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    void neverRepeatsAcrossThreads() throws Exception {
+        int threads = 16;
+        int perThread = 20_000;
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    long last = 0;
+                    for (int i = 0; i < perThread; i++) {
+                        UUID id = UuidV7Generator.next();
+                        assertTrue(Long.compareUnsigned(id.getMostSignificantBits(), last) > 0);
+                        last = id.getMostSignificantBits();
+                        ids.add(id);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * perThread, ids.size());
+    }
+}
@@ -0,0 +1,71 @@
+package devnastapi.devnestapi.common.idgenerator;
+
+import devnastapi.devnestapi.common.benchmark.BenchmarkTest;
+import devnastapi.devnestapi.common.benchmark.Benchmarks;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Insert rate and primary key index size with {@link UuidV7Generator} keys against random version 4 keys.
+ * <p>
+ * Needs the database of {@code application.YML}. Each run creates two scratch tables with a {@code uuid} primary key, fills them in JDBC batches and drops them again.
+ */
+@SpringBootTest
+@BenchmarkTest
+class UuidV7InsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UuidV7InsertBenchmarkTest.class);
+
+    private static final int ROWS = 1_000_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void insertRateAndIndexSize() {
+        Result random = insert("uuid_benchmark_v4", UUID::randomUUID);
+        Result timeOrdered = insert("uuid_benchmark_v7", UuidV7Generator::next);
+
+        Benchmarks.report(log, "%,d rows: v4 %,.0f rows/s, index %,d kB; v7 %,.0f rows/s, index %,d kB", ROWS,
+                random.rowsPerSecond(), random.indexBytes() / 1024,
+                timeOrdered.rowsPerSecond(), timeOrdered.indexBytes() / 1024);
+        assertTrue(timeOrdered.indexBytes() <= random.indexBytes());
+    }
+
+    private Result insert(String table, Supplier<UUID> ids) {
+        jdbcTemplate.execute("drop table if exists " + table);
+        jdbcTemplate.execute("create table " + table + " (id uuid primary key, payload varchar(64) not null)");
+        try {
+            long nanos = Benchmarks.elapsedNanos(() -> {
+                for (int inserted = 0; inserted < ROWS; inserted += BATCH_SIZE) {
+                    List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+                    for (int i = 0; i < BATCH_SIZE; i++) {
+                        batch.add(new Object[]{ids.get(), "row " + (inserted + i)});
+                    }
+                    jdbcTemplate.batchUpdate("insert into " + table + " (id, payload) values (?, ?)", batch);
+                }
+            });
+
+            Long indexBytes = jdbcTemplate.queryForObject(
+                    "select pg_relation_size('" + table + "_pkey'::regclass)", Long.class);
+            return new Result(ROWS / (nanos / 1e9), indexBytes == null ? 0 : indexBytes);
+        } finally {
+            jdbcTemplate.execute("drop table if exists " + table);
+        }
+    }
+
+    private record Result(double rowsPerSecond, long indexBytes) {
+    }
+}
@@ -0,0 +1,78 @@
+package devnastapi.devnestapi.common.security;
+
+import devnastapi.devnestapi.common.benchmark.BenchmarkTest;
+import devnastapi.devnestapi.common.benchmark.Benchmarks;
+import devnastapi.devnestapi.student.authservice.StudentAuthentication;
+import devnastapi.devnestapi.student.authservice.StudentPrincipal;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cost of one {@code @PreAuthorize} decision with the stock SpEL manager and with {@link PrecompiledPreAuthorizeManager}.
+ */
+@BenchmarkTest
+class PreAuthorizeDecisionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PreAuthorizeDecisionBenchmarkTest.class);
+
+    private static final int WARM_UP_DECISIONS = 2_000_000;
+    private static final int MEASURED_DECISIONS = 10_000_000;
+
+    @Test
+    void decisionCostPerManager() throws Exception {
+        DefaultMethodSecurityExpressionHandler expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        PreAuthorizeAuthorizationManager spel = new PreAuthorizeAuthorizationManager();
+        spel.setExpressionHandler(expressionHandler);
+        PrecompiledPreAuthorizeManager precompiled = new PrecompiledPreAuthorizeManager(spel, () -> "ROLE_");
+        precompiled.precompile(Guarded.class);
+
+        List<MethodInvocation> invocations = List.of(
+                new SimpleMethodInvocation(new Guarded(), Guarded.class.getDeclaredMethod("admin")),
+                new SimpleMethodInvocation(new Guarded(), Guarded.class.getDeclaredMethod("anyRole")));
+        List<Authentication> authentications = List.of(student("STUDENT"), student("ADMIN"), student("TEACHER"));
+
+        measure("spel", spel, invocations, authentications);
+        measure("precompiled", precompiled, invocations, authentications);
+    }
+
+    private static void measure(String name, AuthorizationManager<MethodInvocation> manager,
+                                List<MethodInvocation> invocations, List<Authentication> authentications) {
+        Benchmarks.Throughput decisions = Benchmarks.throughput(WARM_UP_DECISIONS, MEASURED_DECISIONS, i -> {
+            Authentication authentication = authentications.get(i % authentications.size());
+            var result = manager.authorize(() -> authentication, invocations.get(i % invocations.size()));
+            return result != null && result.isGranted() ? 1 : 0;
+        });
+        Benchmarks.report(log, "%-11s %8.1f ns/decision (%,d granted)", name, decisions.nanosPerOperation(),
+                decisions.result());
+        assertTrue(decisions.result() > 0);
+    }
+
+    private static Authentication student(String roles) {
+        return new StudentAuthentication(new StudentPrincipal(
+                UUID.randomUUID(), "student@devnest.dev", StudentPrincipal.authoritiesForRoles(roles)));
+    }
+
+    static class Guarded {
+
+        @PreAuthorize("hasRole('ADMIN')")
+        void admin() {
+        }
+
+        @PreAuthorize("hasAnyRole('TEACHER','ADMIN','STUDENT')")
+        void anyRole() {
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package devnastapi.devnestapi.common.security;
+
+import devnastapi.devnestapi.student.authservice.StudentAuthentication;
+import devnastapi.devnestapi.student.authservice.StudentPrincipal;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.config.core.GrantedAuthorityDefaults;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrecompiledPreAuthorizeManagerTest {
+
+    private static final List<Authentication> AUTHENTICATIONS = List.of(
+            student("STUDENT"),
+            student("TEACHER"),
+            student("ADMIN"),
+            student("STUDENT,ADMIN"),
+            new TestingAuthenticationToken("user", "password", "ROLE_USER"),
+            new TestingAuthenticationToken("user", "password", "ADMIN"),
+            new TestingAuthenticationToken("user", "password"));
+
+    @Test
+    void decidesLikeTheSpelManagerWithTheDefaultRolePrefix() throws Exception {
+        assertSameDecisions("ROLE_");
+    }
+
+    @Test
+    void decidesLikeTheSpelManagerWithoutRolePrefix() throws Exception {
+        assertSameDecisions("");
+    }
+
+    @Test
+    void grantsStudentPrincipalsTheirRolesWithTheApplicationRolePrefix() throws Exception {
+        // The application declares no GrantedAuthorityDefaults, so hasRole adds ROLE_, as StudentPrincipal does
+        PreAuthorizeAuthorizationManager spel = spel("ROLE_");
+        PrecompiledPreAuthorizeManager precompiled = new PrecompiledPreAuthorizeManager(spel, () -> "ROLE_");
+        precompiled.precompile(Guarded.class);
+
+        for (AuthorizationManager<MethodInvocation> manager : List.<AuthorizationManager<MethodInvocation>>of(spel, precompiled)) {
+            assertTrue(decide(manager, "admin", student("ADMIN")));
+            assertTrue(decide(manager, "admin", student("STUDENT,ADMIN")));
+            assertFalse(decide(manager, "admin", student("STUDENT")));
+            assertFalse(decide(manager, "admin", student("TEACHER")));
+            assertTrue(decide(manager, "anyRole", student("STUDENT")));
+            assertTrue(decide(manager, "anyRole", student("TEACHER")));
+            assertTrue(decide(manager, "anyRole", student(null)));
+        }
+    }
+
+    @Test
+    void theApplicationKeepsTheDefaultRolePrefix() {
+        for (Class<?> configuration : List.of(SecurityConfiguration.class, MethodSecurityConfiguration.class)) {
+            for (Method method : configuration.getDeclaredMethods()) {
+                assertFalse(method.isAnnotationPresent(Bean.class)
+                                && GrantedAuthorityDefaults.class.isAssignableFrom(method.getReturnType()),
+                        configuration.getSimpleName() + "." + method.getName() + " overrides the role prefix");
+            }
+        }
+    }
+
+    @Test
+    void abstainsForMethodsWithoutPreAuthorize() throws Exception {
+        PrecompiledPreAuthorizeManager manager = precompiled("ROLE_");
+        Method method = Guarded.class.getDeclaredMethod("open");
+
+        assertNull(manager.authorize(() -> AUTHENTICATIONS.get(0), new SimpleMethodInvocation(new Guarded(), method)));
+    }
+
+    private static void assertSameDecisions(String rolePrefix) throws Exception {
+        PreAuthorizeAuthorizationManager spel = spel(rolePrefix);
+        PrecompiledPreAuthorizeManager precompiled = new PrecompiledPreAuthorizeManager(spel, () -> rolePrefix);
+        precompiled.precompile(Guarded.class);
+
+        for (Method method : Guarded.class.getDeclaredMethods()) {
+            if (!method.isAnnotationPresent(PreAuthorize.class)) {
+                continue;
+            }
+            var invocation = new SimpleMethodInvocation(new Guarded(), method);
+            for (Authentication authentication : AUTHENTICATIONS) {
+                assertEquals(granted(spel.authorize(() -> authentication, invocation)),
+                        granted(precompiled.authorize(() -> authentication, invocation)),
+                        method.getName() + " for " + authentication.getAuthorities());
+            }
+        }
+    }
+
+    private static PrecompiledPreAuthorizeManager precompiled(String rolePrefix) {
+        return new PrecompiledPreAuthorizeManager(spel(rolePrefix), () -> rolePrefix);
+    }
+
+    private static PreAuthorizeAuthorizationManager spel(String rolePrefix) {
+        DefaultMethodSecurityExpressionHandler expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        expressionHandler.setDefaultRolePrefix(rolePrefix);
+        PreAuthorizeAuthorizationManager manager = new PreAuthorizeAuthorizationManager();
+        manager.setExpressionHandler(expressionHandler);
+        return manager;
+    }
+
+    private static boolean decide(AuthorizationManager<MethodInvocation> manager,
+                                  String methodName, Authentication authentication) throws Exception {
+        Method method = Guarded.class.getDeclaredMethod(methodName);
+        return granted(manager.authorize(() -> authentication, new SimpleMethodInvocation(new Guarded(), method)));
+    }
+
+    private static boolean granted(AuthorizationResult result) {
+        return result != null && result.isGranted();
+    }
+
+    private static Authentication student(String roles) {
+        return new StudentAuthentication(new StudentPrincipal(
+                UUID.randomUUID(), "student@devnest.dev", StudentPrincipal.authoritiesForRoles(roles)));
+    }
+
+    static class Guarded {
+
+        @PreAuthorize("hasRole('ADMIN')")
+        void admin() {
+        }
+
+        @PreAuthorize("hasAnyRole('TEACHER','ADMIN','STUDENT')")
+        void anyRole() {
+        }
+
+        @PreAuthorize("hasRole('ROLE_USER')")
+        void prefixedRole() {
+        }
+
+        @PreAuthorize("hasAuthority('ADMIN')")
+        void authority() {
+        }
+
+        @PreAuthorize("hasAnyAuthority('ROLE_TEACHER', 'ROLE_STUDENT')")
+        void anyAuthority() {
+        }
+
+        @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
+        void spelOnly() {
+        }
+
+        @PreAuthorize("isAuthenticated()")
+        void authenticated() {
+        }
+
+        void open() {
+        }
+    }
+}
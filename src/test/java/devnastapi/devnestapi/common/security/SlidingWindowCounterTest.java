@@ -0,0 +1,109 @@
+package devnastapi.devnestapi.common.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SlidingWindowCounterTest {
+
+    private static final long WINDOW_MILLIS = 60_000;
+    private static final int SLOTS = 10;
+
+    @Test
+    void countsEveryIncrementUnderContention() throws Exception {
+        int threads = 32;
+        int incrementsPerThread = 20_000;
+        AtomicLong clock = new AtomicLong(1_000);
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW_MILLIS, SLOTS, clock.get());
+
+        runConcurrently(threads, () -> {
+            for (int i = 0; i < incrementsPerThread; i++) {
+                // Advance through half of the window while the threads race, so slots are
+                // entered for the first time concurrently as well
+                long now = clock.addAndGet(1) % (WINDOW_MILLIS / 2) + 1_000;
+                counter.increment(now);
+            }
+        });
+
+        assertEquals((long) threads * incrementsPerThread, counter.count(1_000 + WINDOW_MILLIS / 2));
+    }
+
+    @Test
+    void forgetsEventsOlderThanTheWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW_MILLIS, SLOTS, 0);
+
+        for (int i = 0; i < 5; i++) {
+            counter.increment(0);
+        }
+        counter.increment(WINDOW_MILLIS / 2);
+
+        assertEquals(6, counter.count(WINDOW_MILLIS - 1));
+        assertEquals(1, counter.count(WINDOW_MILLIS + 1));
+        assertEquals(0, counter.count(WINDOW_MILLIS * 2));
+    }
+
+    @Test
+    void recyclesSlotsAfterAFullTurnOfTheRing() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW_MILLIS, SLOTS, 0);
+
+        counter.increment(0);
+        counter.increment(0);
+
+        assertEquals(1, counter.increment(WINDOW_MILLIS));
+    }
+
+    @Test
+    void keepsIndependentCountersAccurateWhenThreadsSpreadOverManyKeys() throws Exception {
+        int keys = 64;
+        int threads = 16;
+        int incrementsPerThread = keys * 160;
+        List<SlidingWindowCounter> counters = new ArrayList<>();
+        for (int i = 0; i < keys; i++) {
+            counters.add(new SlidingWindowCounter(WINDOW_MILLIS, SLOTS, 0));
+        }
+
+        runConcurrently(threads, () -> {
+            for (int i = 0; i < incrementsPerThread; i++) {
+                counters.get(i % keys).increment(i % 1_000);
+            }
+        });
+
+        long total = 0;
+        for (SlidingWindowCounter counter : counters) {
+            long count = counter.count(1_000);
+            assertEquals((long) threads * incrementsPerThread / keys, count);
+            total += count;
+        }
+        assertEquals((long) threads * incrementsPerThread, total);
+    }
+
+    private static void runConcurrently(int threads, Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
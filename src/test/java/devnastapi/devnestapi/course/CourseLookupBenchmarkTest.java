@@ -0,0 +1,97 @@
+package devnastapi.devnestapi.course;
+
+import devnastapi.devnestapi.common.benchmark.BenchmarkTest;
+import devnastapi.devnestapi.common.benchmark.Benchmarks;
+import devnastapi.devnestapi.course.model.Course;
+import devnastapi.devnestapi.course.repository.CourseRepository;
+import devnastapi.devnestapi.course.service.CourseService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Throughput of {@code GET /courses/{id}} lookups with and without the second-level cache.
+ * <p>
+ * Needs the database of {@code application.YML}; compare
+ * <pre>
+ * mvn test -Dtest=CourseLookupBenchmarkTest -Ddevnest.benchmark=true
+ * mvn test -Dtest=CourseLookupBenchmarkTest -Ddevnest.benchmark=true -Ddevnest.cache.entities.enabled=false
+ * </pre>
+ * The controller only converts the id and wraps the view, so the service call is what the cache changes.
+ */
+@SpringBootTest
+@BenchmarkTest
+class CourseLookupBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseLookupBenchmarkTest.class);
+
+    private static final int COURSES = 200;
+    private static final int THREADS = 8;
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(20);
+
+    @Autowired
+    private CourseService service;
+
+    @Autowired
+    private CourseRepository repository;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Value("${devnest.cache.entities.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Test
+    void lookupThroughput() throws Exception {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < COURSES; i++) {
+            Course course = new Course();
+            course.setNameOfCourse("Benchmark course " + UUID.randomUUID());
+            course.setWorkload(40);
+            course.setDescription("Created by CourseLookupBenchmarkTest");
+            ids.add(repository.save(course).getId());
+        }
+
+        try {
+            lookUp(ids, WARM_UP);
+            double hitsBefore = cacheGets("hit");
+            double missesBefore = cacheGets("miss");
+            Benchmarks.Throughput lookups = lookUp(ids, MEASURE);
+            double hits = cacheGets("hit") - hitsBefore;
+            double misses = cacheGets("miss") - missesBefore;
+
+            Benchmarks.report(log, "GET /courses/{id} with second-level cache %s: %,.0f lookups/s on %d threads, "
+                            + "course region hit ratio %.3f",
+                    cacheEnabled ? "enabled" : "disabled", lookups.perSecond(), THREADS,
+                    hits + misses == 0 ? 0 : hits / (hits + misses));
+            assertTrue(lookups.operations() > 0);
+        } finally {
+            repository.deleteAllById(ids);
+        }
+    }
+
+    private Benchmarks.Throughput lookUp(List<UUID> ids, Duration duration) throws InterruptedException {
+        return Benchmarks.throughput(THREADS, duration, i -> {
+            service.getCourseById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+            return 1;
+        });
+    }
+
+    private double cacheGets(String result) {
+        var counter = registry.find("cache.gets").tag("cache", "course").tag("result", result).functionCounter();
+        return counter == null ? 0 : counter.count();
+    }
+}
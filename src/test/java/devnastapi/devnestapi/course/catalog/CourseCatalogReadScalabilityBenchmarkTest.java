@@ -0,0 +1,97 @@
+package devnastapi.devnestapi.course.catalog;
+
+import devnastapi.devnestapi.common.benchmark.BenchmarkTest;
+import devnastapi.devnestapi.common.benchmark.Benchmarks;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Read throughput of the course catalog snapshot as reader threads are added, with a writer
+ * swapping in a new snapshot every {@value #WRITE_INTERVAL_MILLIS} ms.
+ * <p>
+ * Reads take no lock, so throughput should grow with the number of cores until they are all busy.
+ * One read in {@value #SEARCH_EVERY} is a name search, the others are id lookups.
+ */
+@BenchmarkTest
+class CourseCatalogReadScalabilityBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseCatalogReadScalabilityBenchmarkTest.class);
+
+    private static final int COURSES = 2_000;
+    private static final int SEARCH_EVERY = 100;
+    private static final long WRITE_INTERVAL_MILLIS = 10;
+    private static final Duration WARM_UP = Duration.ofSeconds(2);
+    private static final Duration MEASURE = Duration.ofSeconds(5);
+
+    @Test
+    void readThroughputPerThreadCount() throws InterruptedException {
+        List<CourseCatalogSnapshot.Entry> entries = new ArrayList<>();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < COURSES; i++) {
+            CourseCatalogSnapshot.Entry entry = CourseCatalogSnapshotTest.entry("Course " + i + " of the catalog");
+            entries.add(entry);
+            ids.add(entry.view().id());
+        }
+        AtomicReference<CourseCatalogSnapshot> catalog = new AtomicReference<>(CourseCatalogSnapshot.of(1, entries));
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        read(catalog, ids, cores, WARM_UP);
+        double single = 0;
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            Reads reads = read(catalog, ids, threads, MEASURE);
+            double perSecond = reads.throughput().perSecond();
+            single = threads == 1 ? perSecond : single;
+            Benchmarks.report(log, "%2d reader threads: %,13.0f reads/s (%,11.0f searches/s), speedup %.2f, %d snapshots swapped",
+                    threads, perSecond, perSecond / SEARCH_EVERY, perSecond / single, reads.swaps());
+            assertTrue(reads.throughput().result() > 0);
+        }
+    }
+
+    /**
+     * Reads from the given number of threads while a writer keeps swapping snapshots.
+     */
+    private static Reads read(AtomicReference<CourseCatalogSnapshot> catalog, List<UUID> ids, int threads,
+                              Duration duration) throws InterruptedException {
+        AtomicBoolean reading = new AtomicBoolean(true);
+        AtomicLong swaps = new AtomicLong();
+        Thread writer = new Thread(() -> {
+            while (reading.get()) {
+                CourseCatalogSnapshot current = catalog.get();
+                catalog.set(current.with(current.find(ids.get(0))));
+                swaps.incrementAndGet();
+                LockSupport.parkNanos(WRITE_INTERVAL_MILLIS * 1_000_000);
+            }
+        }, "catalog-writer");
+        writer.start();
+        try {
+            Benchmarks.Throughput throughput = Benchmarks.throughput(threads, duration, i -> {
+                CourseCatalogSnapshot snapshot = catalog.get();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                if (i % SEARCH_EVERY == 0) {
+                    return snapshot.search("se " + random.nextInt(COURSES)).size();
+                }
+                return snapshot.find(ids.get(random.nextInt(ids.size()))) != null ? 1 : 0;
+            });
+            return new Reads(throughput, swaps.get());
+        } finally {
+            reading.set(false);
+            writer.join();
+        }
+    }
+
+    private record Reads(Benchmarks.Throughput throughput, long swaps) {
+    }
+}
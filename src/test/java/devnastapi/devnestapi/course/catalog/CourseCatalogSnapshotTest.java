@@ -0,0 +1,109 @@
+package devnastapi.devnestapi.course.catalog;
+
+import devnastapi.devnestapi.common.helpers.ResourceVersion;
+import devnastapi.devnestapi.course.dto.CourseView;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CourseCatalogSnapshotTest {
+
+    private static final String[] WORDS = {
+            "Java", "Spring", "Data", "Web", "Security", "Algorithms", "Databases", "Intro to", "Advanced", "Cloud"
+    };
+
+    @Test
+    void searchesTheSameCoursesAsAScan() {
+        Random random = new Random(7);
+        List<CourseCatalogSnapshot.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            entries.add(entry(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i));
+        }
+        CourseCatalogSnapshot snapshot = CourseCatalogSnapshot.of(1, entries);
+
+        for (String query : List.of("java", "DATA", "a", "o t", "ced cl", "42", "zzz", "", "s 1")) {
+            List<CourseView> expected = entries.stream()
+                    .map(CourseCatalogSnapshot.Entry::view)
+                    .filter(view -> view.nameOfCourse().toLowerCase(Locale.ROOT).contains(query.toLowerCase(Locale.ROOT)))
+                    .sorted(Comparator.comparing((CourseView view) -> view.nameOfCourse().toLowerCase(Locale.ROOT))
+                            .thenComparing(CourseView::id))
+                    .toList();
+            assertEquals(expected, snapshot.search(query), query);
+        }
+    }
+
+    @Test
+    void searchesTheSameCoursesAsAScanAfterIncrementalChanges() {
+        Random random = new Random(11);
+        Map<UUID, CourseCatalogSnapshot.Entry> courses = new LinkedHashMap<>();
+        List<UUID> ids = new ArrayList<>();
+        CourseCatalogSnapshot snapshot = CourseCatalogSnapshot.of(1, List.of());
+
+        for (int i = 0; i < 1_000; i++) {
+            if (ids.isEmpty() || random.nextInt(10) < 6) {
+                UUID id = random.nextInt(5) == 0 && !ids.isEmpty() ? ids.get(random.nextInt(ids.size())) : UUID.randomUUID();
+                CourseCatalogSnapshot.Entry entry = new CourseCatalogSnapshot.Entry(new CourseView(id,
+                        WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i,
+                        40, "", null, null), new ResourceVersion(0L, null));
+                if (courses.put(id, entry) == null) {
+                    ids.add(id);
+                }
+                snapshot = snapshot.with(entry);
+            } else {
+                UUID id = ids.remove(random.nextInt(ids.size()));
+                courses.remove(id);
+                snapshot = snapshot.without(id);
+            }
+        }
+
+        assertEquals(courses.size(), snapshot.size());
+        for (String query : List.of("java", "DATA", "a", "o t", "ced cl", "42", "zzz", "", "s 1")) {
+            List<CourseView> expected = courses.values().stream()
+                    .map(CourseCatalogSnapshot.Entry::view)
+                    .filter(view -> view.nameOfCourse().toLowerCase(Locale.ROOT).contains(query.toLowerCase(Locale.ROOT)))
+                    .sorted(Comparator.comparing((CourseView view) -> view.nameOfCourse().toLowerCase(Locale.ROOT))
+                            .thenComparing(CourseView::id))
+                    .toList();
+            assertEquals(expected, snapshot.search(query), query);
+        }
+    }
+
+    @Test
+    void changesBuildANewVersionAndLeaveTheOldSnapshotIntact() {
+        CourseCatalogSnapshot.Entry java = entry("Java");
+        CourseCatalogSnapshot first = CourseCatalogSnapshot.of(1, List.of(java));
+
+        CourseCatalogSnapshot.Entry spring = entry("Spring");
+        CourseCatalogSnapshot second = first.with(spring);
+        CourseCatalogSnapshot third = second.without(java.view().id());
+
+        assertEquals(List.of(java.view()), first.search(""));
+        assertEquals(2, second.version());
+        assertEquals(2, second.size());
+        assertSame(spring, third.find(spring.view().id()));
+        assertNull(third.find(java.view().id()));
+        assertEquals(3, third.version());
+        assertSame(third, third.without(java.view().id()));
+
+        CourseCatalogSnapshot.Entry renamed = new CourseCatalogSnapshot.Entry(
+                new CourseView(spring.view().id(), "Spring Boot", 40, "", null, null), new ResourceVersion(1L, null));
+        assertEquals(List.of(renamed.view()), third.with(renamed).search("boot"));
+        assertEquals(1, third.with(renamed).size());
+    }
+
+    static CourseCatalogSnapshot.Entry entry(String name) {
+        CourseView view = new CourseView(UUID.randomUUID(), name, 40, "Description of " + name, null, null);
+        return new CourseCatalogSnapshot.Entry(view, new ResourceVersion(0L, null));
+    }
+}
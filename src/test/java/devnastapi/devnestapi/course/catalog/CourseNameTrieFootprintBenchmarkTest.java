@@ -0,0 +1,70 @@
+package devnastapi.devnestapi.course.catalog;
+
+import devnastapi.devnestapi.common.benchmark.BenchmarkTest;
+import devnastapi.devnestapi.common.benchmark.Benchmarks;
+import devnastapi.devnestapi.course.dto.CourseSuggestion;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Heap footprint, build time and completion latency of the course name trie for {@value #COURSES} names.
+ * <p>
+ * Names are made of words from a small vocabulary, as real course names are, so they share prefixes.
+ */
+@BenchmarkTest
+class CourseNameTrieFootprintBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseNameTrieFootprintBenchmarkTest.class);
+
+    private static final int COURSES = 100_000;
+    private static final int COMPLETIONS = 200_000;
+    private static final int LIMIT = 10;
+
+    private static final String[] WORDS = {
+            "Introduction", "Advanced", "Applied", "Java", "Spring", "Data", "Databases", "Web", "Security", "Cloud",
+            "Algorithms", "Networks", "Machine", "Learning", "Statistics", "Calculus", "Physics", "Design", "Systems",
+            "Programming", "Mobile", "Development", "Architecture", "Testing", "Management", "Analysis"
+    };
+
+    @Test
+    void footprintAndLatencyOf100kNames() {
+        Random random = new Random(3);
+        CourseSuggestion[] courses = new CourseSuggestion[COURSES];
+        for (int i = 0; i < COURSES; i++) {
+            courses[i] = new CourseSuggestion(UUID.randomUUID(), WORDS[random.nextInt(WORDS.length)] + " "
+                    + WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i);
+        }
+
+        Benchmarks.Timed<CourseNameTrie> build = Benchmarks.timed(() -> {
+            CourseNameTrie built = CourseNameTrie.EMPTY;
+            for (CourseSuggestion course : courses) {
+                built = built.with(course);
+            }
+            return built;
+        });
+        CourseNameTrie trie = build.value();
+
+        long nameBytes = Arrays.stream(courses).mapToLong(course -> 40 + 2L * course.name().length()).sum();
+        Benchmarks.report(log, "%,d names: trie %,d bytes (%.0f per name), names themselves about %,d bytes, built in %d ms",
+                COURSES, trie.estimatedHeapBytes(), trie.estimatedHeapBytes() / (double) COURSES, nameBytes,
+                build.nanos() / 1_000_000);
+
+        String[] prefixes = new String[1_000];
+        for (int i = 0; i < prefixes.length; i++) {
+            String name = courses[random.nextInt(COURSES)].name();
+            prefixes[i] = name.substring(0, 1 + random.nextInt(Math.min(name.length(), 12)));
+        }
+        Benchmarks.Latencies completions = Benchmarks.latencies(COMPLETIONS, COMPLETIONS,
+                i -> trie.complete(prefixes[i % prefixes.length], LIMIT).size());
+        Benchmarks.report(log, "top-%d completions: p50 %.1f us, p99 %.1f us, max %.1f us", LIMIT,
+                completions.percentile(50) / 1e3, completions.percentile(99) / 1e3, completions.max() / 1e3);
+        assertTrue(completions.result() > 0);
+    }
+}
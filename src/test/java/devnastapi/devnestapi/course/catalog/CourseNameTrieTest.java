@@ -0,0 +1,123 @@
+package devnastapi.devnestapi.course.catalog;
+
+import devnastapi.devnestapi.course.dto.CourseSuggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CourseNameTrieTest {
+
+    private static final String[] WORDS = {
+            "Java", "JavaScript", "Spring", "Data", "Databases", "Web", "Intro to", "Advanced", "A", "ação"
+    };
+
+    private static final List<String> PREFIXES = List.of(
+            "j", "JAVA", "javas", "java ", "d", "data", "databasez", "intro to w", "a", "ad", "AÇ", "zzz", "w", "1");
+
+    @Test
+    void completesTheSameCoursesAsAScanWhileCoursesComeAndGo() {
+        Random random = new Random(11);
+        List<CourseSuggestion> courses = new ArrayList<>();
+        CourseNameTrie trie = CourseNameTrie.EMPTY;
+
+        for (int i = 0; i < 2_000; i++) {
+            if (!courses.isEmpty() && random.nextInt(3) == 0) {
+                CourseSuggestion removed = courses.remove(random.nextInt(courses.size()));
+                trie = trie.without(removed.name(), removed.id());
+            } else {
+                String name = WORDS[random.nextInt(WORDS.length)]
+                        + (random.nextBoolean() ? " " + WORDS[random.nextInt(WORDS.length)] : "")
+                        + (random.nextInt(4) == 0 ? "" : " " + random.nextInt(50));
+                CourseSuggestion course = new CourseSuggestion(UUID.randomUUID(), name);
+                courses.add(course);
+                trie = trie.with(course);
+            }
+
+            if (i % 100 == 0) {
+                assertCompletesLikeAScan(trie, courses);
+            }
+        }
+        assertCompletesLikeAScan(trie, courses);
+    }
+
+    @Test
+    void removingEveryCourseLeavesAnEmptyTrie() {
+        List<CourseSuggestion> courses = List.of(
+                course("Java"), course("JavaScript"), course("Java Web"), course("java"), course("Jakarta"));
+        CourseNameTrie trie = CourseNameTrie.EMPTY;
+        for (CourseSuggestion course : courses) {
+            trie = trie.with(course);
+        }
+
+        for (CourseSuggestion course : courses) {
+            trie = trie.without(course.name(), course.id());
+        }
+
+        assertEquals(0, trie.size());
+        assertEquals(CourseNameTrie.EMPTY.estimatedHeapBytes(), trie.estimatedHeapBytes());
+        assertEquals(List.of(), trie.complete("j", 10));
+    }
+
+    @Test
+    void changesLeaveThePreviousTrieIntact() {
+        CourseSuggestion java = course("Java");
+        CourseSuggestion javaScript = course("JavaScript");
+        CourseNameTrie first = CourseNameTrie.EMPTY.with(java);
+        CourseNameTrie second = first.with(javaScript);
+        CourseNameTrie third = second.without(java.name(), java.id());
+
+        assertEquals(List.of(java), first.complete("jav", 10));
+        assertEquals(List.of(java, javaScript), second.complete("jav", 10));
+        assertEquals(List.of(javaScript), third.complete("jav", 10));
+        assertSame(third, third.without(java.name(), java.id()));
+        assertSame(third, third.without("Spring", java.id()));
+    }
+
+    @Test
+    void stopsAtTheLimit() {
+        CourseNameTrie trie = CourseNameTrie.EMPTY;
+        for (int i = 0; i < 100; i++) {
+            trie = trie.with(course("Course " + (100 + i)));
+        }
+
+        List<CourseSuggestion> suggestions = trie.complete("course 1", 5);
+
+        assertEquals(5, suggestions.size());
+        assertEquals("Course 100", suggestions.get(0).name());
+        assertEquals("Course 104", suggestions.get(4).name());
+        assertTrue(trie.complete("course", 0).isEmpty());
+        assertTrue(trie.complete("", 5).isEmpty());
+    }
+
+    private static void assertCompletesLikeAScan(CourseNameTrie trie, List<CourseSuggestion> courses) {
+        assertEquals(courses.size(), trie.size());
+        for (String prefix : PREFIXES) {
+            for (int limit : new int[] {1, 5, Integer.MAX_VALUE}) {
+                List<CourseSuggestion> expected = courses.stream()
+                        .filter(course -> fold(course.name()).startsWith(fold(prefix)))
+                        .sorted(Comparator.comparing((CourseSuggestion course) -> fold(course.name()))
+                                .thenComparing(CourseSuggestion::id))
+                        .limit(limit)
+                        .toList();
+                assertEquals(expected, trie.complete(prefix, limit), prefix + " / " + limit);
+            }
+        }
+    }
+
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static CourseSuggestion course(String name) {
+        return new CourseSuggestion(UUID.randomUUID(), name);
+    }
+}
@@ -0,0 +1,81 @@
+package devnastapi.devnestapi.student.application;
+
+import devnastapi.devnestapi.common.security.PasswordHashingService;
+import devnastapi.devnestapi.course.repository.EnrollmentRepository;
+import devnastapi.devnestapi.student.dto.StudentBatchItemResult.Status;
+import devnastapi.devnestapi.student.dto.StudentBatchResult;
+import devnastapi.devnestapi.student.dto.StudentDto;
+import devnastapi.devnestapi.student.index.StudentNameIndex;
+import devnastapi.devnestapi.student.mapper.StudentMapper;
+import devnastapi.devnestapi.student.model.Student;
+import devnastapi.devnestapi.student.repository.StudentRepository;
+import devnastapi.devnestapi.student.service.StudentBatchService;
+import devnastapi.devnestapi.student.validator.RegisteredEmailFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EnrollStudentsBatchUseCaseTest {
+
+    private final StudentRepository repository = mock(StudentRepository.class);
+    private final PasswordHashingService hashing = mock(PasswordHashingService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final StudentBatchService batchService = new StudentBatchService(repository, hashing,
+            mock(RegisteredEmailFilter.class), mock(StudentNameIndex.class), mock(EnrollmentRepository.class),
+            Validation.buildDefaultValidatorFactory().getValidator(), mock(EntityManager.class), transactionManager, 500);
+    private final EnrollStudentsBatchUseCase useCase =
+            new EnrollStudentsBatchUseCase(Mappers.getMapper(StudentMapper.class), batchService, 10_000);
+
+    EnrollStudentsBatchUseCaseTest() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(repository.findExistingEmails(anyList())).thenReturn(List.of());
+        when(hashing.encodeAll(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).stream()
+                .map(raw -> "{hashed}" + raw)
+                .toList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createsAValidStudentWithItsCourseAndDateOfBirth() {
+        StudentDto dto = new StudentDto(null, "Ana Silva", "Ana@DevNest.dev", LocalDate.of(2001, 5, 17),
+                "secret", "Computer Science");
+
+        StudentBatchResult result = useCase.execute(List.of(dto));
+
+        assertEquals(1, result.created());
+        assertEquals(Status.CREATED, result.items().get(0).status());
+
+        ArgumentCaptor<List<Student>> saved = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(saved.capture());
+        Student student = saved.getValue().get(0);
+        assertEquals("Computer Science", student.getCourse());
+        assertEquals(LocalDate.of(2001, 5, 17), student.getDateOfBirth());
+        assertEquals("ana@devnest.dev", student.getEmail());
+        assertEquals("{hashed}secret", student.getPassword());
+    }
+
+    @Test
+    void reportsAStudentWithoutCourseAsInvalid() {
+        StudentDto dto = new StudentDto(null, "Ana Silva", "ana@devnest.dev", LocalDate.of(2001, 5, 17), "secret", null);
+
+        StudentBatchResult result = useCase.execute(List.of(dto));
+
+        assertEquals(0, result.created());
+        assertEquals(Status.INVALID, result.items().get(0).status());
+        assertEquals("Course is required", result.items().get(0).message());
+    }
+}
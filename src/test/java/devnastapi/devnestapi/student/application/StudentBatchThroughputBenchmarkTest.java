@@ -0,0 +1,77 @@
+package devnastapi.devnestapi.student.application;
+
+import devnastapi.devnestapi.common.benchmark.BenchmarkTest;
+import devnastapi.devnestapi.common.benchmark.Benchmarks;
+import devnastapi.devnestapi.student.dto.StudentBatchItemResult;
+import devnastapi.devnestapi.student.dto.StudentBatchResult;
+import devnastapi.devnestapi.student.dto.StudentDto;
+import devnastapi.devnestapi.student.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Throughput of enrolling 10k students with {@code POST /students/batch} against one {@code POST /students} each.
+ * <p>
+ * Needs the database of {@code application.YML}. The BCrypt strength is pinned to 4 so the figures compare the database work rather than the hashing, which costs
+ * the same per student on both paths. The students carry a course that does not exist, so no enrollment is created.
+ */
+@SpringBootTest(properties = "devnest.security.bcrypt.strength=4")
+@BenchmarkTest
+class StudentBatchThroughputBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentBatchThroughputBenchmarkTest.class);
+
+    private static final int STUDENTS = 10_000;
+
+    @Autowired
+    private EnrollStudentsBatchUseCase batchUseCase;
+
+    @Autowired
+    private EnrollStudentUseCase singleUseCase;
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Test
+    void enrollmentThroughput() {
+        List<UUID> created = new ArrayList<>();
+        try {
+            List<StudentDto> batch = students("batch");
+            Benchmarks.Timed<StudentBatchResult> result = Benchmarks.timed(() -> batchUseCase.execute(batch));
+            result.value().items().stream().map(StudentBatchItemResult::id).forEach(created::add);
+            assertEquals(STUDENTS, result.value().created());
+
+            List<StudentDto> singles = students("single");
+            double singleSeconds = Benchmarks.elapsedNanos(() -> {
+                for (StudentDto dto : singles) {
+                    created.add(singleUseCase.execute(dto).id());
+                }
+            }) / 1e9;
+
+            Benchmarks.report(log, "%,d students: batch %,.0f students/s (%.1f s), one by one %,.0f students/s (%.1f s)",
+                    STUDENTS, STUDENTS / result.seconds(), result.seconds(), STUDENTS / singleSeconds, singleSeconds);
+        } finally {
+            repository.deleteAllById(created);
+        }
+    }
+
+    private static List<StudentDto> students(String path) {
+        String run = UUID.randomUUID().toString();
+        List<StudentDto> students = new ArrayList<>(STUDENTS);
+        for (int i = 0; i < STUDENTS; i++) {
+            students.add(new StudentDto(null, "Benchmark student " + i, path + "-" + i + "-" + run + "@devnest.dev",
+                    LocalDate.of(2000, 1, 1), "benchmark-password", "Benchmark course " + run));
+        }
+        return students;
+    }
+}
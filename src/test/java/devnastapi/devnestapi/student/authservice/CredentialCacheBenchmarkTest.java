@@ -0,0 +1,78 @@
+package devnastapi.devnestapi.student.authservice;
+
+import devnastapi.devnestapi.common.benchmark.BenchmarkTest;
+import devnastapi.devnestapi.common.benchmark.Benchmarks;
+import devnastapi.devnestapi.common.directory.AccountType;
+import devnastapi.devnestapi.common.directory.DirectoryAccount;
+import devnastapi.devnestapi.common.directory.UserDirectory;
+import devnastapi.devnestapi.common.security.BCryptWorkFactor;
+import devnastapi.devnestapi.common.security.LoginThrottle;
+import devnastapi.devnestapi.common.security.PasswordHashingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Authenticated HTTP Basic requests per second through {@link StudentAuthProvider}, with the
+ * {@link VerifiedCredentialCache} on and off.
+ * <p>
+ * Uses the real BCrypt strength of 10 and stubs the directory lookup, so the figures compare the hashing that the
+ * cache skips.
+ */
+@BenchmarkTest
+class CredentialCacheBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CredentialCacheBenchmarkTest.class);
+
+    private static final String EMAIL = "ana@devnest.dev";
+    private static final String PASSWORD = "benchmark-password";
+    private static final int UNCACHED_REQUESTS = 100;
+    private static final int CACHED_REQUESTS = 1_000_000;
+
+    @Test
+    void requestsPerSecond() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(10);
+        UserDirectory directory = mock(UserDirectory.class);
+        when(directory.findByEmail(EMAIL)).thenReturn(Optional.of(new DirectoryAccount(
+                AccountType.STUDENT, UUID.randomUUID(), EMAIL, encoder.encode(PASSWORD), "STUDENT")));
+        PasswordHashingService hashing = new PasswordHashingService(encoder,
+                new BCryptWorkFactor(10, Duration.ofMillis(100), 10, 16), new SimpleMeterRegistry(), 1, 200);
+
+        double uncached = requestsPerSecond(provider(hashing, directory, false), UNCACHED_REQUESTS);
+        double cached = requestsPerSecond(provider(hashing, directory, true), CACHED_REQUESTS);
+
+        Benchmarks.report(log, "Authenticated requests/s: cache off %,.0f, cache on %,.0f", uncached, cached);
+        assertTrue(cached > uncached);
+    }
+
+    private static StudentAuthProvider provider(PasswordHashingService hashing, UserDirectory directory,
+                                                boolean cacheEnabled) {
+        return new StudentAuthProvider(hashing, directory,
+                new VerifiedCredentialCache(cacheEnabled, Duration.ofMinutes(5), 10_000), mock(LoginThrottle.class));
+    }
+
+    private static double requestsPerSecond(StudentAuthProvider provider, int requests) {
+        return Benchmarks.throughput(Math.min(requests, 10_000), requests, i -> authenticate(provider)).perSecond();
+    }
+
+    private static long authenticate(StudentAuthProvider provider) {
+        Authentication result = provider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD));
+        if (result == null || !result.isAuthenticated()) {
+            throw new AssertionError("Authentication failed");
+        }
+        return 1;
+    }
+}
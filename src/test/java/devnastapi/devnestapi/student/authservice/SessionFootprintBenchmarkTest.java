@@ -0,0 +1,111 @@
+package devnastapi.devnestapi.student.authservice;
+
+import devnastapi.devnestapi.common.benchmark.BenchmarkTest;
+import devnastapi.devnestapi.common.benchmark.Benchmarks;
+import devnastapi.devnestapi.student.model.Student;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Heap retained per authenticated session, with the whole {@link Student} entity as principal and with
+ * {@link StudentPrincipal}.
+ * <p>
+ * Holds 100k authentications of each shape and compares the used heap after a full collection, in place of a
+ * layout tool which is not part of this build.
+ */
+@BenchmarkTest
+class SessionFootprintBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionFootprintBenchmarkTest.class);
+
+    private static final int SESSIONS = 100_000;
+
+    @Test
+    void bytesPerSession() {
+        long entityBacked = bytesPerSession(i -> new EntityBackedAuthentication(student(i)));
+        long compact = bytesPerSession(i -> new StudentAuthentication(StudentPrincipal.of(student(i))));
+
+        Benchmarks.report(log, "Per session: entity principal %,d bytes, StudentPrincipal %,d bytes", entityBacked, compact);
+        assertTrue(compact < entityBacked);
+    }
+
+    private static long bytesPerSession(IntFunction<Authentication> session) {
+        long before = Benchmarks.usedHeapAfterGc();
+        List<Authentication> sessions = new ArrayList<>(SESSIONS);
+        for (int i = 0; i < SESSIONS; i++) {
+            sessions.add(session.apply(i));
+        }
+        long after = Benchmarks.usedHeapAfterGc();
+        long perSession = (after - before) / sessions.size();
+        sessions.clear();
+        return perSession;
+    }
+
+    private static Student student(int i) {
+        Student student = new Student();
+        ReflectionTestUtils.setField(student, "id", UUID.randomUUID());
+        student.setName("Benchmark student " + i);
+        student.setEmail("student-" + i + "@devnest.dev");
+        student.setPassword("$2a$10$" + UUID.randomUUID() + UUID.randomUUID().toString().substring(0, 17));
+        student.setDateOfBirth(LocalDate.of(2000, 1, 1));
+        student.setCourse("Benchmark course");
+        student.setRoles("STUDENT");
+        return student;
+    }
+
+    /**
+     * The shape {@link StudentAuthentication} had before {@link StudentPrincipal}: the entity as principal, details
+     * and credentials, and a new authority list per call.
+     */
+    private record EntityBackedAuthentication(Student student) implements Authentication {
+
+        @Override
+        public Collection<? extends GrantedAuthority> getAuthorities() {
+            return List.of(new SimpleGrantedAuthority("ROLE_STUDENT"));
+        }
+
+        @Override
+        public @Nullable Object getCredentials() {
+            return student.getPassword();
+        }
+
+        @Override
+        public @Nullable Object getDetails() {
+            return student;
+        }
+
+        @Override
+        public @Nullable Object getPrincipal() {
+            return student;
+        }
+
+        @Override
+        public boolean isAuthenticated() {
+            return true;
+        }
+
+        @Override
+        public void setAuthenticated(boolean isAuthenticated) {
+        }
+
+        @Override
+        public String getName() {
+            return student.getName();
+        }
+    }
+}
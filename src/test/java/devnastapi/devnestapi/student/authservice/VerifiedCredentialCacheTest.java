@@ -0,0 +1,65 @@
+package devnastapi.devnestapi.student.authservice;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+class VerifiedCredentialCacheTest {
+
+    private static final UUID ID = UUID.fromString("0190c3a0-0000-7000-8000-000000000001");
+
+    private final VerifiedCredentialCache cache = new VerifiedCredentialCache(true, Duration.ofMinutes(5), 100);
+    private final Authentication authentication = mock(Authentication.class);
+
+    @Test
+    void dropsALoginCachedWhileTheChangeWasUncommitted() {
+        cache.put("ana@devnest.dev", "old-password", ID, authentication, cache.currentEpoch());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidateAccount(ID);
+            assertNull(cache.find("ana@devnest.dev", "old-password"));
+
+            cache.put("ana@devnest.dev", "old-password", ID, authentication, cache.currentEpoch());
+            assertNotNull(cache.find("ana@devnest.dev", "old-password"));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertNull(cache.find("ana@devnest.dev", "old-password"));
+    }
+
+    @Test
+    void doesNotCacheALoginThatReadTheCredentialsBeforeTheChangeCommitted() {
+        long loginEpoch = cache.currentEpoch();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidateAccount(ID);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache.put("ana@devnest.dev", "old-password", ID, authentication, loginEpoch);
+
+        assertNull(cache.find("ana@devnest.dev", "old-password"));
+    }
+
+    @Test
+    void cachesALoginThatStartedAfterTheLastChange() {
+        cache.invalidateAccount(ID);
+
+        cache.put("ana@devnest.dev", "new-password", ID, authentication, cache.currentEpoch());
+
+        assertNotNull(cache.find("ana@devnest.dev", "new-password"));
+    }
+}
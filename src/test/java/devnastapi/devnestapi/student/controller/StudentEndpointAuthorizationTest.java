@@ -0,0 +1,158 @@
+package devnastapi.devnestapi.student.controller;
+
+import devnastapi.devnestapi.common.security.AccessTokenService;
+import devnastapi.devnestapi.common.security.BCryptWorkFactor;
+import devnastapi.devnestapi.common.security.SecurityConfiguration;
+import devnastapi.devnestapi.student.application.DeleteStudentUseCase;
+import devnastapi.devnestapi.student.application.EnrollStudentUseCase;
+import devnastapi.devnestapi.student.application.EnrollStudentsBatchUseCase;
+import devnastapi.devnestapi.student.application.ExportStudentsUseCase;
+import devnastapi.devnestapi.student.application.GetStudentUseCase;
+import devnastapi.devnestapi.student.application.ImportStudentsUseCase;
+import devnastapi.devnestapi.student.application.UpdateStudentUseCase;
+import devnastapi.devnestapi.student.authservice.StudentAuthentication;
+import devnastapi.devnestapi.student.authservice.StudentPrincipal;
+import devnastapi.devnestapi.student.dto.StudentDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the URL rules of {@link SecurityConfiguration} for the student endpoints, with principals built the way
+ * {@link StudentPrincipal} builds them at login. Method security is left at its default, off.
+ */
+@WebMvcTest(value = StudentControllerInterface.class, properties = "devnest.security.bcrypt.strength=4")
+@MockitoBean(types = JpaMetamodelMappingContext.class)
+@Import({SecurityConfiguration.class, AccessTokenService.class, BCryptWorkFactor.class})
+class StudentEndpointAuthorizationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private EnrollStudentUseCase enrollStudentUseCase;
+
+    @MockitoBean
+    private GetStudentUseCase getStudentUseCase;
+
+    @MockitoBean
+    private DeleteStudentUseCase deleteStudentUseCase;
+
+    @MockitoBean
+    private UpdateStudentUseCase updateStudentUseCase;
+
+    @MockitoBean
+    private EnrollStudentsBatchUseCase enrollStudentsBatchUseCase;
+
+    @MockitoBean
+    private ExportStudentsUseCase exportStudentsUseCase;
+
+    @MockitoBean
+    private ImportStudentsUseCase importStudentsUseCase;
+
+    @Test
+    void studentCannotExportStudents() throws Exception {
+        mockMvc.perform(get("/students/export").with(as("STUDENT")))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(exportStudentsUseCase);
+    }
+
+    @Test
+    void adminCanExportStudents() throws Exception {
+        mockMvc.perform(get("/students/export").with(as("ADMIN")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void studentCannotImportStudents() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "students.csv", "text/csv", "name,email\n".getBytes());
+        mockMvc.perform(multipart("/students/import").file(file).with(as("STUDENT")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/students/import/{jobId}", UUID.randomUUID()).with(as("STUDENT")))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(importStudentsUseCase);
+    }
+
+    @Test
+    void studentCannotEnrollStudentsInBatch() throws Exception {
+        mockMvc.perform(post("/students/batch").contentType(MediaType.APPLICATION_JSON).content("[]").with(as("STUDENT")))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(enrollStudentsBatchUseCase);
+    }
+
+    @Test
+    void studentCannotListStudents() throws Exception {
+        mockMvc.perform(get("/students").with(as("STUDENT")))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(getStudentUseCase);
+    }
+
+    @Test
+    void studentCannotSearchStudents() throws Exception {
+        mockMvc.perform(get("/students/search").param("q", "ana").with(as("STUDENT")))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(getStudentUseCase);
+    }
+
+    @Test
+    void studentCannotGetStudentSuggestions() throws Exception {
+        mockMvc.perform(get("/students/suggest").param("q", "an").with(as("STUDENT")))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(getStudentUseCase);
+    }
+
+    @Test
+    void adminCanDeleteAStudent() throws Exception {
+        UUID id = UUID.randomUUID();
+        mockMvc.perform(delete("/students/deletar/{id}", id).with(as("ADMIN")))
+                .andExpect(status().isOk());
+
+        verify(deleteStudentUseCase).deleteStudentById(id.toString());
+    }
+
+    @Test
+    void adminCanEnrollAStudent() throws Exception {
+        when(enrollStudentUseCase.execute(any())).thenReturn(new StudentDto(UUID.randomUUID(), "Ana Silva",
+                "ana@devnest.dev", LocalDate.of(2001, 5, 17), null, "Computer Science"));
+
+        mockMvc.perform(post("/students").contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Ana Silva", "email": "ana@devnest.dev", "birthDate": "2001-05-17",
+                                 "password": "secret", "course": "Computer Science"}
+                                """)
+                        .with(as("ADMIN")))
+                .andExpect(status().isCreated());
+    }
+
+    private static RequestPostProcessor as(String roles) {
+        return authentication(new StudentAuthentication(new StudentPrincipal(
+                UUID.randomUUID(), "user@devnest.dev", StudentPrincipal.authoritiesForRoles(roles))));
+    }
+}
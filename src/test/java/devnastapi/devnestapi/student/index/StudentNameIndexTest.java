@@ -0,0 +1,48 @@
+package devnastapi.devnestapi.student.index;
+
+import devnastapi.devnestapi.student.dto.StudentSuggestion;
+import devnastapi.devnestapi.student.repository.StudentSearchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StudentNameIndexTest {
+
+    private final StudentSearchRepository searchRepository = mock(StudentSearchRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final List<StudentSuggestion> students = new ArrayList<>();
+    private final StudentNameIndex index =
+            new StudentNameIndex(searchRepository, transactionManager, new SimpleMeterRegistry(), 0.2);
+
+    StudentNameIndexTest() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(searchRepository.streamNames()).thenAnswer(invocation -> List.copyOf(students).stream());
+    }
+
+    @Test
+    void picksUpChangesMadeBehindItsBackOnTheNextRefresh() {
+        StudentSuggestion ana = new StudentSuggestion(UUID.randomUUID(), "Ana Silva");
+        StudentSuggestion bruno = new StudentSuggestion(UUID.randomUUID(), "Bruno Gabriel");
+        students.add(ana);
+        index.buildOnStartup();
+
+        students.remove(ana);
+        students.add(bruno);
+        assertEquals(List.of(ana), index.suggest("ana", 10));
+        assertEquals(List.of(), index.suggest("bruno", 10));
+
+        index.refresh();
+        assertEquals(List.of(), index.suggest("ana", 10));
+        assertEquals(List.of(bruno), index.suggest("bruno", 10));
+    }
+}
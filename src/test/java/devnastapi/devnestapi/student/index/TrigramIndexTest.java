@@ -0,0 +1,90 @@
+package devnastapi.devnestapi.student.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrigramIndexTest {
+
+    private static final String[] WORDS = {
+            "ana", "maria", "joao", "silva", "souza", "bruno", "gabriel", "pedro", "lucas", "santos", "oliveira", "lima"
+    };
+
+    @Test
+    void findsTheSameStudentsAsAScanAfterInsertsRenamesAndDeletes() {
+        Random random = new Random(42);
+        TrigramIndex index = new TrigramIndex();
+        Map<UUID, String> names = new HashMap<>();
+        List<UUID> ids = new ArrayList<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            UUID id = UUID.randomUUID();
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + (random.nextInt(5) == 0 ? "  Jr" + i : "");
+            index.put(id, name);
+            names.put(id, name);
+            ids.add(id);
+        }
+        for (int i = 0; i < 1_000; i++) {
+            UUID id = ids.get(random.nextInt(ids.size()));
+            if (random.nextBoolean()) {
+                index.remove(id);
+                names.remove(id);
+            } else {
+                String name = "Renamed " + WORDS[random.nextInt(WORDS.length)] + i;
+                index.put(id, name);
+                names.put(id, name);
+            }
+        }
+
+        assertEquals(names.size(), index.size());
+        for (String query : List.of("sil", "SILVA SOU", "a", "ga", "jr12", "ren", "oliveira lima", "zzz", "r")) {
+            String text = TrigramIndex.normalize(query);
+            long expected = names.values().stream()
+                    .map(TrigramIndex::normalize)
+                    .filter(key -> text.length() >= 3 ? key.contains(text) : key.startsWith(text) || key.contains(" " + text))
+                    .count();
+            assertEquals(expected, index.search(query, Integer.MAX_VALUE).size(), query);
+        }
+    }
+
+    @Test
+    void ranksNamePrefixThenWordPrefixThenSubstring() {
+        TrigramIndex index = new TrigramIndex();
+        UUID substring = UUID.randomUUID();
+        UUID wordPrefix = UUID.randomUUID();
+        UUID longPrefix = UUID.randomUUID();
+        UUID shortPrefix = UUID.randomUUID();
+        index.put(substring, "Ana Casilva");
+        index.put(wordPrefix, "Ana Silva");
+        index.put(longPrefix, "Silvana Santos");
+        index.put(shortPrefix, "Silvio Lima");
+
+        List<UUID> ranked = index.search("silv", 10).stream().map(TrigramIndex.Match::id).toList();
+
+        assertEquals(List.of(shortPrefix, longPrefix, wordPrefix, substring), ranked);
+        assertEquals(List.of(shortPrefix, longPrefix), index.search("silv", 2).stream().map(TrigramIndex.Match::id).toList());
+    }
+
+    @Test
+    void replacesTheNameOfAStudent() {
+        TrigramIndex index = new TrigramIndex();
+        UUID id = UUID.randomUUID();
+        index.put(id, "Maria Souza");
+        index.put(id, "Maria Lima");
+
+        assertTrue(index.search("souza", 10).isEmpty());
+        assertEquals(List.of("Maria Lima"), index.search("lim", 10).stream().map(TrigramIndex.Match::name).toList());
+        assertEquals(1, index.size());
+        assertEquals(1, index.staleDocuments());
+        assertTrue(index.estimatedHeapBytes() > 0);
+    }
+}
@@ -0,0 +1,91 @@
+package devnastapi.devnestapi.student.repository;
+
+import devnastapi.devnestapi.common.benchmark.BenchmarkTest;
+import devnastapi.devnestapi.common.benchmark.Benchmarks;
+import devnastapi.devnestapi.common.idgenerator.UuidV7Generator;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Latency of the trigram-indexed {@code GET /students/search} query over 1M seeded students.
+ * <p>
+ * Needs the database of {@code application.YML}. The seeded students share an email domain unique to the run and are deleted again afterwards.
+ */
+@SpringBootTest
+@BenchmarkTest
+class StudentSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentSearchBenchmarkTest.class);
+
+    private static final int STUDENTS = 1_000_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int SEARCHES_PER_TERM = 200;
+
+    private static final String[] FIRST_NAMES = {
+            "ana", "maria", "joao", "bruno", "gabriel", "pedro", "lucas", "julia", "beatriz", "rafael", "camila", "tiago"
+    };
+    private static final String[] LAST_NAMES = {
+            "silva", "souza", "santos", "oliveira", "lima", "pereira", "costa", "almeida", "ferreira", "rodrigues"
+    };
+    private static final String[] COURSES = {
+            "Computer Science", "Software Engineering", "Data Science", "Information Systems", "Cyber Security"
+    };
+    private static final String[] TERMS = {"silva", "gabri", "ana s", "engineering", "zzzz"};
+
+    @Autowired
+    private StudentSearchRepository searchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void searchLatencyAtOneMillionRows() {
+        String domain = "@trigram-" + UUID.randomUUID() + ".devnest.dev";
+        try {
+            seed(domain);
+            jdbcTemplate.execute("analyze public.student");
+            assertFalse(searchRepository.search("silva", 0, 20).isEmpty());
+
+            for (String term : TERMS) {
+                Benchmarks.Latencies latencies = Benchmarks.latencies(20, SEARCHES_PER_TERM,
+                        i -> searchRepository.search(term, 0, 20).size());
+                Benchmarks.report(log, "'%s': p50 %.2f ms, p95 %.2f ms, max %.2f ms", term,
+                        latencies.percentile(50) / 1e6, latencies.percentile(95) / 1e6, latencies.max() / 1e6);
+            }
+        } finally {
+            jdbcTemplate.update("delete from public.student where mail like ?", "%" + domain);
+        }
+    }
+
+    private void seed(String domain) {
+        Random random = new Random(42);
+        Date dateOfBirth = Date.valueOf(LocalDate.of(2000, 1, 1));
+        for (int seeded = 0; seeded < STUDENTS; seeded += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                        + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + (seeded + i);
+                batch.add(new Object[]{UuidV7Generator.next(), name, "student-" + (seeded + i) + domain,
+                        "$2a$10$notarealhashnotarealhashnotarealhashnotarealhashnot", dateOfBirth,
+                        COURSES[random.nextInt(COURSES.length)]});
+            }
+            jdbcTemplate.batchUpdate("""
+                    insert into public.student (id, name, mail, password, date_of_birth, course, roles, version)
+                    values (?, ?, ?, ?, ?, ?, 'STUDENT', 0)
+                    """, batch);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package devnastapi.devnestapi.student.service;
+
+import devnastapi.devnestapi.student.model.Student;
+import devnastapi.devnestapi.student.repository.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+@SpringBootTest
+class ConcurrentEnrollmentTest {
+
+    @Autowired
+    private StudentService service;
+
+    @Autowired
+    private StudentRepository repository;
+
+    private final String email = "race-" + UUID.randomUUID() + "@devnest.dev";
+
+    @AfterEach
+    void removeStudent() {
+        Student student = repository.findByEmail(email);
+        if (student != null) {
+            repository.deleteStudentById(student.getId());
+        }
+    }
+
+    @Test
+    void onlyOneOfManyParallelEnrollmentsWithTheSameEmailSucceeds() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Student>> enrollments = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                // Alternate the case: the unique index is on lower(mail)
+                String variant = i % 2 == 0 ? email : email.toUpperCase(Locale.ROOT);
+                enrollments.add(executor.submit(() -> {
+                    start.await();
+                    return service.createNewStudent(student(variant));
+                }));
+            }
+            start.countDown();
+
+            int created = 0;
+            int duplicates = 0;
+            for (Future<Student> enrollment : enrollments) {
+                try {
+                    enrollment.get(60, TimeUnit.SECONDS);
+                    created++;
+                } catch (ExecutionException e) {
+                    assertInstanceOf(DataIntegrityViolationException.class, e.getCause());
+                    duplicates++;
+                }
+            }
+
+            assertEquals(1, created);
+            assertEquals(threads - 1, duplicates);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Student student(String email) {
+        Student student = new Student();
+        student.setName("Race Condition");
+        student.setEmail(email);
+        student.setPassword("s3cret-password");
+        student.setDateOfBirth(LocalDate.of(2000, 1, 1));
+        student.setCourse("Computer Science");
+        return student;
+    }
+}
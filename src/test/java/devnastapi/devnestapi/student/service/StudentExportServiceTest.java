@@ -0,0 +1,115 @@
+package devnastapi.devnestapi.student.service;
+
+import devnastapi.devnestapi.student.repository.StudentExportRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StudentExportServiceTest {
+
+    private static final UUID ID = UUID.fromString("0190c3a0-0000-7000-8000-000000000001");
+
+    private final StudentExportRepository repository = mock(StudentExportRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final StudentExportService service = new StudentExportService(repository, transactionManager);
+
+    StudentExportServiceTest() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+    }
+
+    @Test
+    void writesOneEscapedLinePerStudent() throws Exception {
+        ResultSet row = row("Ana \"Nana\" Silva", "Computer Science, Night");
+        scan(row, 2, new AtomicLong());
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        assertEquals(2, service.export(StudentExportFormat.NDJSON, ndjson));
+        String line = "{\"id\":\"" + ID + "\",\"name\":\"Ana \\\"Nana\\\" Silva\",\"email\":\"ana@devnest.dev\","
+                + "\"dateOfBirth\":\"2000-01-31\",\"course\":\"Computer Science, Night\",\"createDate\":\"2024-01-01\","
+                + "\"lastModify\":null}\n";
+        assertEquals(line + line, ndjson.toString(StandardCharsets.UTF_8));
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        assertEquals(2, service.export(StudentExportFormat.CSV, csv));
+        String record = ID + ",\"Ana \"\"Nana\"\" Silva\",ana@devnest.dev,2000-01-31,\"Computer Science, Night\",2024-01-01,\r\n";
+        assertEquals("id,name,email,dateOfBirth,course,createDate,lastModify\r\n" + record + record,
+                csv.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writesCellsThatStartLikeAFormulaAsText() throws Exception {
+        scan(row("=HYPERLINK(\"http://evil.example\",\"Ana\")", "@SUM(A1:A9)"), 1, new AtomicLong());
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        service.export(StudentExportFormat.CSV, csv);
+
+        String record = ID + ",\"'=HYPERLINK(\"\"http://evil.example\"\",\"\"Ana\"\")\",ana@devnest.dev,2000-01-31,"
+                + "'@SUM(A1:A9),2024-01-01,\r\n";
+        assertEquals("id,name,email,dateOfBirth,course,createDate,lastModify\r\n" + record,
+                csv.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void stopsTheScanAndRollsBackWhenTheClientDisconnects() throws Exception {
+        AtomicLong rowsRead = new AtomicLong();
+        scan(row("Ana Silva", "Computer Science"), 10_000_000, rowsRead);
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class, () -> service.export(StudentExportFormat.NDJSON, disconnected));
+
+        // The first full buffer fails, long before the ten million rows are read
+        assertTrue(rowsRead.get() < 10_000, "rows read: " + rowsRead.get());
+        verify(transactionManager).rollback(any());
+    }
+
+    private void scan(ResultSet row, long rows, AtomicLong rowsRead) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(0);
+            for (long i = 0; i < rows; i++) {
+                rowsRead.incrementAndGet();
+                handler.processRow(row);
+            }
+            return null;
+        }).when(repository).forEachStudent(any());
+    }
+
+    private static ResultSet row(String name, String course) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject("id")).thenReturn(ID);
+        when(rs.getString("name")).thenReturn(name);
+        when(rs.getString("mail")).thenReturn("ana@devnest.dev");
+        when(rs.getString("date_of_birth")).thenReturn("2000-01-31");
+        when(rs.getString("course")).thenReturn(course);
+        when(rs.getString("create_date")).thenReturn("2024-01-01");
+        when(rs.getString("last_modify")).thenReturn(null);
+        return rs;
+    }
+}
@@ -0,0 +1,105 @@
+package devnastapi.devnestapi.student.service;
+
+import devnastapi.devnestapi.common.exceptions.HashingCapacityExceededException;
+import devnastapi.devnestapi.student.dto.StudentBatchItemResult;
+import devnastapi.devnestapi.student.dto.StudentBatchItemResult.Status;
+import devnastapi.devnestapi.student.dto.StudentBatchResult;
+import devnastapi.devnestapi.student.dto.StudentImportError;
+import devnastapi.devnestapi.student.dto.StudentImportJobStatus;
+import devnastapi.devnestapi.student.dto.StudentImportJobStatus.State;
+import devnastapi.devnestapi.student.model.Student;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StudentImportServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    private final StudentBatchService batchService = mock(StudentBatchService.class);
+    private final StudentImportService service = new StudentImportService(
+            batchService, CHUNK_SIZE, 1, 1, 100, 4096, Duration.ofHours(1));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void storesChunksAndReportsRejectedRowsByLine() throws IOException {
+        List<Integer> chunkSizes = new ArrayList<>();
+        AtomicInteger saturated = new AtomicInteger(1);
+        when(batchService.createStudents(anyList())).thenAnswer(invocation -> {
+            if (saturated.getAndDecrement() > 0) {
+                throw new HashingCapacityExceededException("saturated");
+            }
+            List<Student> students = invocation.getArgument(0);
+            chunkSizes.add(students.size());
+            List<StudentBatchItemResult> items = new ArrayList<>();
+            for (int i = 0; i < students.size(); i++) {
+                items.add(students.get(i).getEmail().startsWith("taken")
+                        ? StudentBatchItemResult.rejected(i, Status.DUPLICATE, "This user already exists")
+                        : StudentBatchItemResult.created(i, UUID.randomUUID()));
+            }
+            return new StudentBatchResult((int) items.stream().filter(item -> item.id() != null).count(),
+                    (int) items.stream().filter(item -> item.id() == null).count(), items);
+        });
+        Path file = csv("""
+                Email,Name,Password,DateOfBirth,Course
+                ana@devnest.dev,Ana,secret1,2000-01-31,CS
+                taken@devnest.dev,"Silva, Bruno",secret2,2001-02-01,CS
+                carla@devnest.dev,Carla,secret3,31/01/2000,CS
+                dan@devnest.dev,"Dan
+                Multi-line",secret4,2002-03-04,CS
+                taken2@devnest.dev,Eve,secret5,2003-04-05,CS
+                """);
+        StudentImportService.ImportJob job = new StudentImportService.ImportJob(UUID.randomUUID(), 100);
+
+        service.run(job, file);
+
+        StudentImportJobStatus status = job.status();
+        assertEquals(State.COMPLETED, status.state());
+        assertEquals(5, status.rowsRead());
+        assertEquals(2, status.created());
+        assertEquals(2, status.duplicates());
+        assertEquals(1, status.invalid());
+        assertEquals(List.of(2, 2), chunkSizes);
+        assertEquals(List.of(
+                        new StudentImportError(3, Status.DUPLICATE, "This user already exists"),
+                        new StudentImportError(4, Status.INVALID, "Date of birth must use the format yyyy-MM-dd"),
+                        new StudentImportError(7, Status.DUPLICATE, "This user already exists")),
+                status.errors());
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void failsTheJobWhenAColumnIsMissing() throws IOException {
+        Path file = csv("name,email,password\nAna,ana@devnest.dev,secret\n");
+        StudentImportService.ImportJob job = new StudentImportService.ImportJob(UUID.randomUUID(), 100);
+
+        service.run(job, file);
+
+        StudentImportJobStatus status = job.status();
+        assertEquals(State.FAILED, status.state());
+        assertTrue(status.failure().contains("dateofbirth"), status.failure());
+        assertFalse(Files.exists(file));
+    }
+
+    private Path csv(String content) throws IOException {
+        return Files.writeString(directory.resolve("students.csv"), content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,134 @@
+package devnastapi.devnestapi.student.service;
+
+import devnastapi.devnestapi.common.exceptions.PreconditionFailedException;
+import devnastapi.devnestapi.common.security.PasswordHashingService;
+import devnastapi.devnestapi.course.repository.EnrollmentRepository;
+import devnastapi.devnestapi.student.authservice.VerifiedCredentialCache;
+import devnastapi.devnestapi.student.dto.StudentPatch;
+import devnastapi.devnestapi.student.index.StudentNameIndex;
+import devnastapi.devnestapi.student.model.Student;
+import devnastapi.devnestapi.student.repository.StudentRepository;
+import devnastapi.devnestapi.student.repository.StudentSearchRepository;
+import devnastapi.devnestapi.student.validator.RegisteredEmailFilter;
+import devnastapi.devnestapi.student.validator.StudentValidator;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.DynamicUpdate;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class StudentPatchTest {
+
+    private static final UUID ID = UUID.fromString("0190c3a0-0000-7000-8000-000000000001");
+
+    private final StudentRepository repository = mock(StudentRepository.class);
+    private final PasswordHashingService hashing = mock(PasswordHashingService.class);
+    private final VerifiedCredentialCache credentialCache = mock(VerifiedCredentialCache.class);
+    private final RegisteredEmailFilter emailFilter = mock(RegisteredEmailFilter.class);
+    private final StudentNameIndex nameIndex = mock(StudentNameIndex.class);
+    private final EnrollmentRepository enrollments = mock(EnrollmentRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final StudentService service = new StudentService(repository, mock(StudentSearchRepository.class),
+            mock(StudentValidator.class), hashing, credentialCache, emailFilter, nameIndex, enrollments, transactionManager, 50, 200, 20);
+
+    private final Student stored = new Student();
+
+    StudentPatchTest() {
+        ReflectionTestUtils.setField(stored, "id", ID);
+        ReflectionTestUtils.setField(stored, "version", 3L);
+        stored.setName("Ana Silva");
+        stored.setEmail("ana@devnest.dev");
+        stored.setPassword("$2a$10$storedhash");
+        stored.setDateOfBirth(LocalDate.of(2000, 1, 31));
+        stored.setCourse("Computer Science");
+        when(repository.findById(ID)).thenReturn(Optional.of(stored));
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+    }
+
+    @Test
+    void changesOnlyThePresentFieldsAndKeepsTheStoredPassword() {
+        service.patchStudent(ID, new StudentPatch("Ana Souza", null, null, null, null), 3L);
+
+        assertEquals("Ana Souza", stored.getName());
+        assertEquals("ana@devnest.dev", stored.getEmail());
+        assertEquals("$2a$10$storedhash", stored.getPassword());
+        assertEquals("Computer Science", stored.getCourse());
+        verifyNoInteractions(hashing, credentialCache, emailFilter, enrollments);
+        verify(nameIndex).put(ID, "Ana Souza");
+        verify(repository).flush();
+    }
+
+    @Test
+    void movesTheEnrollmentOnlyWhenTheCourseChanges() {
+        service.patchStudent(ID, new StudentPatch(null, null, null, null, "Computer Science"), null);
+        verifyNoInteractions(enrollments);
+
+        service.patchStudent(ID, new StudentPatch(null, null, null, null, "Data Science"), null);
+
+        assertEquals("Data Science", stored.getCourse());
+        verify(enrollments).syncStudents(List.of(ID));
+    }
+
+    @Test
+    void hashesThePasswordOnlyWhenItChanges() {
+        when(hashing.matches("same-password", "$2a$10$storedhash")).thenReturn(true);
+        service.patchStudent(ID, new StudentPatch(null, null, "same-password", null, null), null);
+        verify(hashing, never()).encode(any());
+        verify(repository, never()).flush();
+
+        when(hashing.matches("new-password", "$2a$10$storedhash")).thenReturn(false);
+        when(hashing.encode("new-password")).thenReturn("$2a$10$newhash");
+        service.patchStudent(ID, new StudentPatch(null, null, "new-password", null, null), null);
+        assertEquals("$2a$10$newhash", stored.getPassword());
+        verify(credentialCache).invalidateAccount(ID);
+    }
+
+    @Test
+    void hashesBeforeTheTransactionStarts() {
+        when(hashing.matches("new-password", "$2a$10$storedhash")).thenReturn(false);
+        when(hashing.encode("new-password")).thenReturn("$2a$10$newhash");
+
+        service.patchStudent(ID, new StudentPatch(null, null, "new-password", null, null), null);
+
+        InOrder order = inOrder(hashing, transactionManager, repository);
+        order.verify(hashing).matches("new-password", "$2a$10$storedhash");
+        order.verify(hashing).encode("new-password");
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(repository).flush();
+    }
+
+    @Test
+    void refusesAnOutdatedVersionBeforeChangingAnything() {
+        assertThrows(PreconditionFailedException.class,
+                () -> service.patchStudent(ID, new StudentPatch("Ana Souza", null, null, null, null), 2L));
+
+        assertEquals("Ana Silva", stored.getName());
+        verify(repository, never()).flush();
+        verify(hashing, never()).matches(anyString(), anyString());
+    }
+
+    @Test
+    void studentUpdatesAreVersionedAndWriteOnlyChangedColumns() throws Exception {
+        assertTrue(Student.class.isAnnotationPresent(DynamicUpdate.class));
+        assertTrue(Student.class.getDeclaredField("version").isAnnotationPresent(Version.class));
+    }
+}
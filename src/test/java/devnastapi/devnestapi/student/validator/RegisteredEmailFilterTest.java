@@ -0,0 +1,60 @@
+package devnastapi.devnestapi.student.validator;
+
+import devnastapi.devnestapi.common.directory.UserDirectory;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RegisteredEmailFilterTest {
+
+    private final UserDirectory directory = mock(UserDirectory.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final List<String> registered = new ArrayList<>(List.of("ana@devnest.dev"));
+
+    RegisteredEmailFilterTest() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(directory.countAccounts()).thenAnswer(invocation -> (long) registered.size());
+        when(directory.streamAllEmails()).thenAnswer(invocation -> List.copyOf(registered).stream());
+    }
+
+    @Test
+    void picksUpAnEmailInsertedBehindItsBackOnTheNextRefresh() {
+        RegisteredEmailFilter filter = filter(Duration.ZERO);
+        filter.buildOnStartup();
+
+        registered.add("bruno@devnest.dev");
+        assertTrue(filter.mightContain("ana@devnest.dev"));
+        assertFalse(filter.mightContain("bruno@devnest.dev"));
+
+        filter.refresh();
+        assertTrue(filter.mightContain("Bruno@DevNest.dev"));
+    }
+
+    @Test
+    void sendsMissesToTheDatabaseDuringTheGracePeriod() {
+        RegisteredEmailFilter filter = filter(Duration.ofHours(1));
+        filter.buildOnStartup();
+
+        registered.add("bruno@devnest.dev");
+        assertTrue(filter.mightContain("bruno@devnest.dev"));
+    }
+
+    @Test
+    void answersMaybeUntilTheFirstBuild() {
+        assertTrue(filter(Duration.ZERO).mightContain("nobody@devnest.dev"));
+    }
+
+    private RegisteredEmailFilter filter(Duration missGracePeriod) {
+        return new RegisteredEmailFilter(directory, transactionManager, 1_000, 0.01, 0.1, missGracePeriod);
+    }
+}
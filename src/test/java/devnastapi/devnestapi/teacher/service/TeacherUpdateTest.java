@@ -0,0 +1,72 @@
+package devnastapi.devnestapi.teacher.service;
+
+import devnastapi.devnestapi.course.repository.EnrollmentRepository;
+import devnastapi.devnestapi.student.authservice.VerifiedCredentialCache;
+import devnastapi.devnestapi.student.validator.RegisteredEmailFilter;
+import devnastapi.devnestapi.teacher.model.Teacher;
+import devnastapi.devnestapi.teacher.repository.TeacherRepository;
+import devnastapi.devnestapi.teacher.validator.TeacherValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TeacherUpdateTest {
+
+    private static final UUID ID = UUID.fromString("0190c3a0-0000-7000-8000-000000000002");
+
+    private final TeacherRepository repository = mock(TeacherRepository.class);
+    private final PasswordEncoder encoder = mock(PasswordEncoder.class);
+    private final TeacherService service = new TeacherService(repository, mock(TeacherValidator.class), encoder,
+            mock(VerifiedCredentialCache.class), mock(RegisteredEmailFilter.class), mock(EnrollmentRepository.class));
+
+    private final Teacher stored = new Teacher();
+
+    TeacherUpdateTest() {
+        ReflectionTestUtils.setField(stored, "id", ID);
+        stored.setName("Bruno Lima");
+        stored.setMail("bruno@devnest.dev");
+        stored.setPassword("$2a$10$storedhash");
+        stored.setCourse("Computer Science");
+        when(repository.findById(ID)).thenReturn(Optional.of(stored));
+    }
+
+    @Test
+    void keepsTheStoredHashWithoutAPassword() {
+        service.UpadateTeacherById(ID, teacher(null));
+        service.UpadateTeacherById(ID, teacher(" "));
+
+        assertEquals("$2a$10$storedhash", stored.getPassword());
+        verify(encoder, never()).encode(any());
+    }
+
+    @Test
+    void hashesThePasswordOnlyWhenItChanges() {
+        when(encoder.matches("same-password", "$2a$10$storedhash")).thenReturn(true);
+        service.UpadateTeacherById(ID, teacher("same-password"));
+        verify(encoder, never()).encode(any());
+
+        when(encoder.matches("new-password", "$2a$10$storedhash")).thenReturn(false);
+        when(encoder.encode("new-password")).thenReturn("$2a$10$newhash");
+        service.UpadateTeacherById(ID, teacher("new-password"));
+        assertEquals("$2a$10$newhash", stored.getPassword());
+    }
+
+    private static Teacher teacher(String password) {
+        Teacher teacher = new Teacher();
+        teacher.setName("Bruno Lima");
+        teacher.setMail("bruno@devnest.dev");
+        teacher.setPassword(password);
+        teacher.setCourse("Computer Science");
+        return teacher;
+    }
+}